@@ -0,0 +1,61 @@
+-- MariaDB schema changes for the performance backlog.
+-- Apply before starting the application with JPA_DDL_AUTO=validate.
+-- Every statement is idempotent, so the script can be re-run safely.
+
+-- DailyCandleStoreService: persisted daily candles (market, candle_at).
+CREATE TABLE IF NOT EXISTS daily_candle (
+    market      VARCHAR(255)   NOT NULL,
+    candle_at   DATETIME(6)    NOT NULL,
+    open_price  DECIMAL(38,12),
+    high_price  DECIMAL(38,12),
+    low_price   DECIMAL(38,12),
+    close_price DECIMAL(38,12),
+    volume      DECIMAL(38,12),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (market, candle_at)
+);
+
+-- ExecutionMetricsAggregateService: running execution metrics per (symbol, mode).
+CREATE TABLE IF NOT EXISTS execution_metrics_aggregate (
+    symbol                VARCHAR(255)           NOT NULL,
+    mode                  ENUM('PAPER','LIVE')   NOT NULL,
+    position_qty          DOUBLE                 NOT NULL,
+    avg_cost              DOUBLE                 NOT NULL,
+    realized_pnl_krw      DOUBLE                 NOT NULL,
+    realized_cost_krw     DOUBLE                 NOT NULL,
+    round_trip_pnl_krw    DOUBLE                 NOT NULL,
+    round_trip_cost_krw   DOUBLE                 NOT NULL,
+    trade_count           INT                    NOT NULL,
+    win_count             INT                    NOT NULL,
+    loss_count            INT                    NOT NULL,
+    win_sum_pct           DOUBLE                 NOT NULL,
+    loss_sum_abs_pct      DOUBLE                 NOT NULL,
+    trade_return_sum_pct  DOUBLE                 NOT NULL,
+    equity_curve          DOUBLE                 NOT NULL,
+    peak_equity_curve     DOUBLE                 NOT NULL,
+    max_drawdown_pct      DOUBLE                 NOT NULL,
+    applied_order_count   BIGINT                 NOT NULL,
+    last_applied_order_id VARCHAR(255),
+    created_at            DATETIME(6),
+    updated_at            DATETIME(6),
+    PRIMARY KEY (symbol, mode)
+);
+
+-- ManagedPositionLedgerService: managed quantity per (symbol, mode).
+CREATE TABLE IF NOT EXISTS managed_position (
+    symbol     VARCHAR(255)          NOT NULL,
+    mode       ENUM('PAPER','LIVE')  NOT NULL,
+    qty        DECIMAL(38,12),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (symbol, mode)
+);
+
+-- TradingOrder lookups by symbol/mode/status ordered by created_at.
+CREATE INDEX IF NOT EXISTS idx_trading_order_symbol_mode_status_created_at
+    ON trading_order (symbol, mode, status, created_at);
+CREATE INDEX IF NOT EXISTS idx_trading_order_symbol_mode_created_at
+    ON trading_order (symbol, mode, created_at);
+CREATE INDEX IF NOT EXISTS idx_trading_order_mode_status
+    ON trading_order (mode, status);
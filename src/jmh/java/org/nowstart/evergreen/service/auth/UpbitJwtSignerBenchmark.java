@@ -0,0 +1,47 @@
+package org.nowstart.evergreen.service.auth;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of signing one Upbit JWT, against the previous Jackson based signer.
+ *
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}; the empty query is the GET without
+ * parameters ({@code /v1/accounts}), the order query is a typical limit order body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class UpbitJwtSignerBenchmark {
+
+    private static final String ACCESS_KEY = "xYbBqJq4bD1dMqTUbXwOdcxPjxzKk4dY5E1v3bAm";
+    private static final String SECRET_KEY = "6Jt2ZqD2qG1hAAh0hB3gXgkZ9aVZk0mH1xLuUq2n";
+
+    @Param({"", "market=KRW-BTC&side=bid&volume=0.01&price=100000000&ord_type=limit&identifier=evergreen-1"})
+    public String canonicalQuery;
+
+    private final UpbitJwtSigner signer = new UpbitJwtSigner(ACCESS_KEY, SECRET_KEY);
+    private final LegacyUpbitJwtSigner legacySigner = new LegacyUpbitJwtSigner(ACCESS_KEY, SECRET_KEY);
+
+    @Benchmark
+    public String createToken() {
+        return signer.createToken(canonicalQuery);
+    }
+
+    @Benchmark
+    public String createTokenLegacy() {
+        return legacySigner.createToken(canonicalQuery);
+    }
+}
@@ -0,0 +1,54 @@
+package org.nowstart.evergreen.service.strategy.v5;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+
+/**
+ * Deterministic daily-candle fixtures shared by the V5 benchmarks.
+ */
+final class BenchmarkCandles {
+
+    static final V5StrategyOverrides PARAMS = new V5StrategyOverrides(
+            120,
+            18,
+            BigDecimal.valueOf(2.0),
+            BigDecimal.valueOf(3.0),
+            40,
+            BigDecimal.valueOf(0.6),
+            BigDecimal.valueOf(0.01)
+    );
+
+    private static final Instant START = Instant.parse("2017-09-25T00:00:00Z");
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private BenchmarkCandles() {
+    }
+
+    /**
+     * Log-normal random walk with ~3% daily volatility, seeded so every fork sees the same series.
+     */
+    static CandleSeries randomWalk(int size) {
+        SplittableRandom random = new SplittableRandom(20_170_925L);
+        CandleSeries candles = new CandleSeries(size);
+        double close = 5_000_000.0;
+        for (int i = 0; i < size; i++) {
+            double open = close;
+            close = open * Math.exp(random.nextGaussian() * 0.03);
+            double high = Math.max(open, close) * (1.0 + (random.nextDouble() * 0.02));
+            double low = Math.min(open, close) * (1.0 - (random.nextDouble() * 0.02));
+            candles.append(START.toEpochMilli() + (MILLIS_PER_DAY * i), open, high, low, close, 100.0 + random.nextDouble());
+        }
+        return candles;
+    }
+
+    /**
+     * Position opened {@code holdingDays} candles before the signal candle.
+     */
+    static PositionSnapshot heldPosition(CandleSeries candles, int signalIndex, int holdingDays) {
+        int entryIndex = Math.max(0, signalIndex - holdingDays);
+        return new PositionSnapshot(0.01, candles.close(entryIndex), candles.timestamp(entryIndex));
+    }
+}
@@ -0,0 +1,76 @@
+package org.nowstart.evergreen.service.strategy.v5;
+
+import java.util.concurrent.TimeUnit;
+import org.nowstart.evergreen.data.type.MarketRegime;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-kernel cost of the V5 indicators over the whole series.
+ *
+ * <p>Each kernel gets its inputs precomputed in {@link #setUp()}, so a result reflects that kernel alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class V5IndicatorKernelBenchmark {
+
+    @Param({"400", "5000", "50000"})
+    public int candleCount;
+
+    private final V5StrategyEngine engine = new V5StrategyEngine();
+    private CandleSeries candles;
+    private double[] ema;
+    private double[] atrPriceRatio;
+    private int signalIndex;
+    private PositionSnapshot position;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        candles = BenchmarkCandles.randomWalk(candleCount);
+        ema = engine.exponentialMovingAverage(candles, BenchmarkCandles.PARAMS.regimeEmaLen());
+        atrPriceRatio = engine.resolveAtrPriceRatio(engine.wilderAtr(candles, BenchmarkCandles.PARAMS.atrPeriod()), candles);
+        signalIndex = candles.size() - 2;
+        position = BenchmarkCandles.heldPosition(candles, signalIndex, 60);
+    }
+
+    @Benchmark
+    public double[] exponentialMovingAverage() {
+        return engine.exponentialMovingAverage(candles, BenchmarkCandles.PARAMS.regimeEmaLen());
+    }
+
+    @Benchmark
+    public double[] wilderAtr() {
+        return engine.wilderAtr(candles, BenchmarkCandles.PARAMS.atrPeriod());
+    }
+
+    @Benchmark
+    public MarketRegime[] resolveRegimes() {
+        return engine.resolveRegimes(candles, ema, BenchmarkCandles.PARAMS.regimeBand().doubleValue());
+    }
+
+    @Benchmark
+    public double[] resolveVolatilityPercentiles() {
+        return engine.resolveVolatilityPercentiles(atrPriceRatio, BenchmarkCandles.PARAMS.volRegimeLookback());
+    }
+
+    @Benchmark
+    public double resolveHighestCloseSinceEntry() {
+        return engine.resolveHighestCloseSinceEntry(candles, signalIndex, position);
+    }
+}
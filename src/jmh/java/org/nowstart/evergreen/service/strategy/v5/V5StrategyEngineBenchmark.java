@@ -0,0 +1,59 @@
+package org.nowstart.evergreen.service.strategy.v5;
+
+import java.util.concurrent.TimeUnit;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
+import org.nowstart.evergreen.service.strategy.core.StrategyInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of one full {@link V5StrategyEngine#evaluate} call on the latest closed candle.
+ *
+ * <p>400 candles is the production candle count; 5k and 50k show how the batch kernels scale with history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class V5StrategyEngineBenchmark {
+
+    @Param({"400", "5000", "50000"})
+    public int candleCount;
+
+    private final V5StrategyEngine engine = new V5StrategyEngine();
+    private StrategyInput<V5StrategyOverrides> flatInput;
+    private StrategyInput<V5StrategyOverrides> holdingInput;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CandleSeries candles = BenchmarkCandles.randomWalk(candleCount);
+        int signalIndex = candles.size() - 2;
+        PositionSnapshot held = BenchmarkCandles.heldPosition(candles, signalIndex, 60);
+        flatInput = new StrategyInput<>(candles, signalIndex, PositionSnapshot.EMPTY, BenchmarkCandles.PARAMS);
+        holdingInput = new StrategyInput<>(candles, signalIndex, held, BenchmarkCandles.PARAMS);
+    }
+
+    @Benchmark
+    public StrategyEvaluation evaluateFlat() {
+        return engine.evaluate(flatInput);
+    }
+
+    @Benchmark
+    public StrategyEvaluation evaluateHolding() {
+        return engine.evaluate(holdingInput);
+    }
+}
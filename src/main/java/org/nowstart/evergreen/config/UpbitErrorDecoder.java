@@ -0,0 +1,32 @@
+package org.nowstart.evergreen.config;
+
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.ErrorDecoder;
+
+/**
+ * Turns Upbit 429 responses into {@link RetryableException} so {@link UpbitThrottleRetryer} resends them; every
+ * other status keeps Feign's default decoding.
+ */
+public class UpbitErrorDecoder implements ErrorDecoder {
+
+    static final int TOO_MANY_REQUESTS = 429;
+
+    private final ErrorDecoder delegate = new ErrorDecoder.Default();
+
+    @Override
+    public Exception decode(String methodKey, Response response) {
+        Exception decoded = delegate.decode(methodKey, response);
+        if (response.status() != TOO_MANY_REQUESTS || decoded instanceof RetryableException) {
+            return decoded;
+        }
+        return new RetryableException(
+                response.status(),
+                decoded.getMessage(),
+                response.request().httpMethod(),
+                decoded,
+                (Long) null,
+                response.request()
+        );
+    }
+}
@@ -1,20 +1,44 @@
 package org.nowstart.evergreen.config;
 
 import feign.RequestInterceptor;
+import feign.Retryer;
+import feign.codec.Encoder;
+import feign.codec.ErrorDecoder;
 import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.service.auth.UpbitAuthRequestInterceptor;
+import org.nowstart.evergreen.service.auth.UpbitCanonicalQueryEncoder;
 import org.nowstart.evergreen.service.auth.UpbitJwtSigner;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class UpbitFeignConfig {
 
+    private static final int THROTTLED_MAX_ATTEMPTS = 3;
+
     @Bean
     public UpbitJwtSigner upbitJwtSigner(TradingProperties tradingProperties) {
         return new UpbitJwtSigner(tradingProperties.accessKey(), tradingProperties.secretKey());
     }
 
+    @Bean
+    public Encoder upbitCanonicalQueryEncoder(ObjectFactory<HttpMessageConverters> messageConverters) {
+        return new UpbitCanonicalQueryEncoder(new SpringEncoder(messageConverters));
+    }
+
+    @Bean
+    public ErrorDecoder upbitErrorDecoder() {
+        return new UpbitErrorDecoder();
+    }
+
+    @Bean
+    public Retryer upbitThrottleRetryer() {
+        return new UpbitThrottleRetryer(THROTTLED_MAX_ATTEMPTS);
+    }
+
     @Bean
     public RequestInterceptor upbitAuthRequestInterceptor(UpbitJwtSigner upbitJwtSigner) {
         return new UpbitAuthRequestInterceptor(upbitJwtSigner);
@@ -0,0 +1,73 @@
+package org.nowstart.evergreen.config;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.service.UpbitRateLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Pooled Apache HttpClient 5 transport for {@code UpbitFeignClient}, replacing Feign's per-request
+ * {@code HttpURLConnection}.
+ *
+ * <p>Connections are kept alive and reused across calls, closed by the client before the server's keep-alive runs out
+ * ({@code httpIdleTimeout}) and revalidated after a short idle gap, so an order after a quiet period does not pay a
+ * fresh TLS handshake. Pool state is published as {@code httpcomponents.httpclient.pool.*{httpclient=upbit}} and
+ * per-endpoint latency as {@code evergreen.exchange.http.latency}. Calls pass {@link UpbitRateLimiter} before they are
+ * timed, so the latency excludes time spent queued for quota.
+ */
+@Configuration
+public class UpbitHttpClientConfig {
+
+    private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
+    @Bean
+    public PoolingHttpClientConnectionManager upbitConnectionManager(TradingProperties tradingProperties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(tradingProperties.httpMaxConnections())
+                .setMaxConnPerRoute(tradingProperties.httpMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY)
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient upbitHttpClient(
+            PoolingHttpClientConnectionManager upbitConnectionManager,
+            TradingProperties tradingProperties
+    ) {
+        return HttpClients.custom()
+                .setConnectionManager(upbitConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(tradingProperties.httpIdleTimeout().toMillis()))
+                .build();
+    }
+
+    @Bean
+    public Client upbitFeignHttpClient(
+            CloseableHttpClient upbitHttpClient,
+            MeterRegistry meterRegistry,
+            UpbitRateLimiter upbitRateLimiter
+    ) {
+        return new UpbitRateLimitedClient(
+                new UpbitTimedClient(new ApacheHttp5Client(upbitHttpClient), meterRegistry),
+                upbitRateLimiter
+        );
+    }
+
+    @Bean
+    public MeterBinder upbitConnectionPoolMetrics(PoolingHttpClientConnectionManager upbitConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(upbitConnectionManager, "upbit");
+    }
+}
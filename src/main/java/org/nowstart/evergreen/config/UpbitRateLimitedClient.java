@@ -0,0 +1,68 @@
+package org.nowstart.evergreen.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.nowstart.evergreen.service.UpbitRateLimiter;
+import org.nowstart.evergreen.service.auth.UpbitCanonicalQueryEncoder;
+
+/**
+ * Admits each Upbit call through {@link UpbitRateLimiter} and feeds the {@code Remaining-Req} header back into it.
+ *
+ * <p>Throttled responses are returned as-is; {@link UpbitErrorDecoder} and {@link UpbitThrottleRetryer} resend them
+ * through Feign so every attempt carries a freshly signed token. The internal
+ * {@link UpbitCanonicalQueryEncoder#CANONICAL_QUERY_HEADER} is removed here, after signing, so it never reaches Upbit
+ * while still being available to the interceptor on a retry.
+ */
+@RequiredArgsConstructor
+public class UpbitRateLimitedClient implements Client {
+
+    private final Client delegate;
+    private final UpbitRateLimiter upbitRateLimiter;
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String method = request.httpMethod().name();
+        String path = URI.create(request.url()).getPath();
+        String group = upbitRateLimiter.groupOf(method, path);
+        try {
+            upbitRateLimiter.acquire(group, UpbitRateLimiter.isPriority(method));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for Upbit rate limit group=" + group);
+        }
+
+        Response response = delegate.execute(withoutCanonicalQueryHeader(request), options);
+        upbitRateLimiter.update(group, method, path, remainingReq(response), response.status());
+        return response;
+    }
+
+    private static Request withoutCanonicalQueryHeader(Request request) {
+        if (!request.headers().containsKey(UpbitCanonicalQueryEncoder.CANONICAL_QUERY_HEADER)) {
+            return request;
+        }
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.headers());
+        headers.remove(UpbitCanonicalQueryEncoder.CANONICAL_QUERY_HEADER);
+        return Request.create(
+                request.httpMethod(),
+                request.url(),
+                headers,
+                request.body(),
+                request.charset(),
+                request.requestTemplate()
+        );
+    }
+
+    private static String remainingReq(Response response) {
+        Collection<String> values = response.headers().get(UpbitRateLimiter.REMAINING_REQ_HEADER);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+}
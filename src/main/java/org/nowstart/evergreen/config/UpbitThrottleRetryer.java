@@ -0,0 +1,35 @@
+package org.nowstart.evergreen.config;
+
+import feign.RetryableException;
+import feign.Retryer;
+
+/**
+ * Retries only throttled (429) Upbit calls, up to {@code maxAttempts} in total.
+ *
+ * <p>Feign rebuilds the request for every attempt, so {@code UpbitAuthRequestInterceptor} signs each one with a fresh
+ * nonce. There is no sleep here: {@code UpbitRateLimiter} has already closed the throttled group and the next attempt
+ * waits for it to reopen. I/O failures are never retried, since an order may have reached Upbit before the
+ * connection broke.
+ */
+public class UpbitThrottleRetryer implements Retryer {
+
+    private final int maxAttempts;
+    private int attempt = 1;
+
+    public UpbitThrottleRetryer(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (e.status() != UpbitErrorDecoder.TOO_MANY_REQUESTS || attempt >= maxAttempts) {
+            throw e;
+        }
+        attempt++;
+    }
+
+    @Override
+    public Retryer clone() {
+        return new UpbitThrottleRetryer(maxAttempts);
+    }
+}
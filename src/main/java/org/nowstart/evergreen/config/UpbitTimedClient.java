@@ -0,0 +1,51 @@
+package org.nowstart.evergreen.config;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records every Upbit call as {@code evergreen.exchange.http.latency{endpoint,method,status}} with a percentile
+ * histogram, where {@code endpoint} is the {@code UpbitFeignClient} method name.
+ */
+@RequiredArgsConstructor
+public class UpbitTimedClient implements Client {
+
+    private final Client delegate;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        long startedAt = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            Response response = delegate.execute(request, options);
+            status = Integer.toString(response.status());
+            return response;
+        } finally {
+            Timer.builder("evergreen.exchange.http.latency")
+                    .tag("endpoint", endpoint(request))
+                    .tag("method", request.httpMethod().name())
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String endpoint(Request request) {
+        RequestTemplate template = request.requestTemplate();
+        MethodMetadata metadata = template == null ? null : template.methodMetadata();
+        if (metadata == null || metadata.method() == null) {
+            return "unknown";
+        }
+        return metadata.method().getName();
+    }
+}
@@ -0,0 +1,27 @@
+package org.nowstart.evergreen.data.dto;
+
+import java.math.BigDecimal;
+import org.nowstart.evergreen.data.entity.TradingOrder;
+import org.nowstart.evergreen.data.type.OrderSide;
+
+/**
+ * Execution columns of a {@link TradingOrder}, read by the metrics and managed-position replays without hydrating
+ * the entity.
+ */
+public record OrderExecutionSummary(
+        String clientOrderId,
+        OrderSide side,
+        BigDecimal executedVolume,
+        BigDecimal avgExecutedPrice,
+        BigDecimal feeAmount
+) {
+    public static OrderExecutionSummary from(TradingOrder order) {
+        return new OrderExecutionSummary(
+                order.getClientOrderId(),
+                order.getSide(),
+                order.getExecutedVolume(),
+                order.getAvgExecutedPrice(),
+                order.getFeeAmount()
+        );
+    }
+}
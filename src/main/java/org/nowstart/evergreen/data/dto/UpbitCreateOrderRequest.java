@@ -8,4 +8,28 @@ public record UpbitCreateOrderRequest(
         String price,
         String identifier
 ) {
+
+    /**
+     * Key-sorted {@code key=value} form of the non-null fields, the string Upbit expects in {@code query_hash}.
+     */
+    public String canonicalQuery() {
+        StringBuilder query = new StringBuilder(128);
+        append(query, "identifier", identifier);
+        append(query, "market", market);
+        append(query, "ord_type", ord_type);
+        append(query, "price", price);
+        append(query, "side", side);
+        append(query, "volume", volume);
+        return query.toString();
+    }
+
+    private static void append(StringBuilder query, String key, String value) {
+        if (value == null) {
+            return;
+        }
+        if (!query.isEmpty()) {
+            query.append('&');
+        }
+        query.append(key).append('=').append(value);
+    }
 }
@@ -0,0 +1,32 @@
+package org.nowstart.evergreen.data.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Base for entities whose identifier is assigned by the application.
+ *
+ * <p>Spring Data treats a non-null id as "existing" and calls {@code merge}, which issues a SELECT per row and
+ * defeats JDBC insert batching. Tracking newness explicitly lets {@code save}/{@code saveAll} go straight to
+ * {@code persist}.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID> extends AuditableEntity implements Persistable<ID> {
+
+    @Transient
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -17,7 +17,7 @@ import java.util.UUID;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class AuditEvent extends AuditableEntity {
+public class AuditEvent extends AssignedIdEntity<UUID> {
 
     @Id
     private UUID eventId;
@@ -25,4 +25,9 @@ public class AuditEvent extends AuditableEntity {
     private String type;
 
     private String payload;
+
+    @Override
+    public UUID getId() {
+        return eventId;
+    }
 }
@@ -0,0 +1,57 @@
+package org.nowstart.evergreen.data.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyCandle extends AssignedIdEntity<DailyCandle.DailyCandleKey> {
+
+    @EmbeddedId
+    private DailyCandleKey id;
+
+    @Column(precision = 38, scale = 12)
+    private BigDecimal openPrice;
+
+    @Column(precision = 38, scale = 12)
+    private BigDecimal highPrice;
+
+    @Column(precision = 38, scale = 12)
+    private BigDecimal lowPrice;
+
+    @Column(precision = 38, scale = 12)
+    private BigDecimal closePrice;
+
+    @Column(precision = 38, scale = 12)
+    private BigDecimal volume;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class DailyCandleKey implements Serializable {
+
+        private String market;
+
+        private Instant candleAt;
+    }
+}
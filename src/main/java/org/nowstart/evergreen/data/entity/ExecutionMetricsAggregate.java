@@ -0,0 +1,77 @@
+package org.nowstart.evergreen.data.entity;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+
+import java.io.Serializable;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExecutionMetricsAggregate extends AssignedIdEntity<ExecutionMetricsAggregate.ExecutionMetricsAggregateKey> {
+
+    @EmbeddedId
+    private ExecutionMetricsAggregateKey id;
+
+    private double positionQty;
+
+    private double avgCost;
+
+    private double realizedPnlKrw;
+
+    private double realizedCostKrw;
+
+    private double roundTripPnlKrw;
+
+    private double roundTripCostKrw;
+
+    private int tradeCount;
+
+    private int winCount;
+
+    private int lossCount;
+
+    private double winSumPct;
+
+    private double lossSumAbsPct;
+
+    private double tradeReturnSumPct;
+
+    private double equityCurve;
+
+    private double peakEquityCurve;
+
+    private double maxDrawdownPct;
+
+    private long appliedOrderCount;
+
+    private String lastAppliedOrderId;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ExecutionMetricsAggregateKey implements Serializable {
+
+        private String symbol;
+
+        @Enumerated(EnumType.STRING)
+        private ExecutionMode mode;
+    }
+}
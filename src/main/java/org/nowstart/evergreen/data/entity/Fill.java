@@ -25,7 +25,7 @@ import java.time.Instant;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Fill extends AuditableEntity {
+public class Fill extends AssignedIdEntity<Fill.FillKey> {
 
     @EmbeddedId
     private FillKey id;
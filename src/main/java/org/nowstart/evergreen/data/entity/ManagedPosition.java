@@ -0,0 +1,48 @@
+package org.nowstart.evergreen.data.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ManagedPosition extends AssignedIdEntity<ManagedPosition.ManagedPositionKey> {
+
+    @EmbeddedId
+    private ManagedPositionKey id;
+
+    @Column(precision = 38, scale = 12)
+    private BigDecimal qty;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ManagedPositionKey implements Serializable {
+
+        private String symbol;
+
+        @Enumerated(EnumType.STRING)
+        private ExecutionMode mode;
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +21,11 @@ import org.nowstart.evergreen.data.type.TradeOrderType;
 import java.math.BigDecimal;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_trading_order_symbol_mode_status_created_at", columnList = "symbol, mode, status, createdAt"),
+        @Index(name = "idx_trading_order_symbol_mode_created_at", columnList = "symbol, mode, createdAt"),
+        @Index(name = "idx_trading_order_mode_status", columnList = "mode, status")
+})
 @Getter
 @Setter
 @Builder
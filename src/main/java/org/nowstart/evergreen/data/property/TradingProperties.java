@@ -8,6 +8,7 @@ import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.List;
 import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
@@ -36,6 +37,38 @@ public record TradingProperties(
         // PAPER 모드 시그널 진입 시도 주문 금액(KRW 기준)
         @DecimalMin(value = "0", inclusive = false) @DefaultValue("100000") BigDecimal signalOrderNotional,
         // 활성 전략 버전 (예: v5)
-        @NotBlank @DefaultValue("v5") String activeStrategyVersion
+        @NotBlank @DefaultValue("v5") String activeStrategyVersion,
+        // 마켓별 신호 평가 제한 시간(초과 시 해당 마켓 평가 취소)
+        @NotNull @DefaultValue("20s") Duration marketEvaluationTimeout,
+        // 동시에 평가할 최대 마켓 수(스레드/DB 부하 기준, 업비트 요청 한도는 UpbitRateLimiter가 관리)
+        @Positive @DefaultValue("4") int maxConcurrentMarkets,
+        // 스케줄러 모드(FIXED_DELAY: interval 주기 평가, CANDLE_CLOSE: 일봉 마감 직후 평가)
+        @NotNull @DefaultValue("FIXED_DELAY") SchedulerMode schedulerMode,
+        // 일봉 마감 후 첫 평가까지 대기 시간
+        @NotNull @DefaultValue("3s") Duration candleCloseDelay,
+        // 새 일봉이 조회되지 않을 때 재시도 간격
+        @NotNull @DefaultValue("5s") Duration candleCloseRetryInterval,
+        // 일봉 마감 후 재시도를 계속할 최대 시간
+        @NotNull @DefaultValue("10m") Duration candleCloseRetryWindow,
+        // CANDLE_CLOSE 모드의 포지션 동기화/주문 정합성 점검 주기
+        @NotNull @DefaultValue("5m") Duration maintenanceInterval,
+        // 봇 관리 수량 원장과 전체 주문 재계산 결과를 비교하는 주기
+        @NotNull @DefaultValue("1h") Duration managedPositionVerifyInterval,
+        // 수량 변화가 없어도 포지션 스냅샷을 남기는 주기(heartbeat)
+        @NotNull @DefaultValue("1h") Duration positionSnapshotHeartbeat,
+        // 원본 포지션 스냅샷 보관 기간(이후 다운샘플링)
+        @NotNull @DefaultValue("7d") Duration positionSnapshotRawRetention,
+        // 보관 기간이 지난 스냅샷의 다운샘플링 단위
+        @NotNull @DefaultValue("1d") Duration positionSnapshotDownsampleBucket,
+        // 계좌 잔고/주문 가능 정보 캐시 유지 시간(체결·취소 시 즉시 무효화)
+        @NotNull @DefaultValue("2s") Duration accountCacheTtl,
+        // 업비트 HTTP 커넥션 풀 최대 연결 수
+        @Positive @DefaultValue("10") int httpMaxConnections,
+        // 유휴 커넥션 정리 기준 시간(서버 keep-alive 만료 전에 정리)
+        @NotNull @DefaultValue("50s") Duration httpIdleTimeout,
+        // 일봉 마감 몇 초 전에 커넥션을 미리 연결할지
+        @NotNull @DefaultValue("30s") Duration httpPrewarmLead,
+        // 일봉 마감 전 미리 연결해 둘 커넥션 수
+        @Positive @DefaultValue("2") int httpPrewarmConnections
 ) {
 }
@@ -0,0 +1,6 @@
+package org.nowstart.evergreen.data.type;
+
+public enum SchedulerMode {
+    FIXED_DELAY,
+    CANDLE_CLOSE
+}
@@ -0,0 +1,11 @@
+package org.nowstart.evergreen.repository;
+
+import java.util.List;
+import org.nowstart.evergreen.data.entity.DailyCandle;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DailyCandleRepository extends JpaRepository<DailyCandle, DailyCandle.DailyCandleKey> {
+
+    List<DailyCandle> findByIdMarketOrderByIdCandleAtDesc(String market, Limit limit);
+}
@@ -0,0 +1,14 @@
+package org.nowstart.evergreen.repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.nowstart.evergreen.data.entity.ExecutionMetricsAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+public interface ExecutionMetricsAggregateRepository
+        extends JpaRepository<ExecutionMetricsAggregate, ExecutionMetricsAggregate.ExecutionMetricsAggregateKey> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ExecutionMetricsAggregate> findWithLockById(ExecutionMetricsAggregate.ExecutionMetricsAggregateKey id);
+}
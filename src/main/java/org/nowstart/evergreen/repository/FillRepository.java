@@ -1,7 +1,13 @@
 package org.nowstart.evergreen.repository;
 
+import java.util.Set;
 import org.nowstart.evergreen.data.entity.Fill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FillRepository extends JpaRepository<Fill, Fill.FillKey> {
+
+    @Query("select f.id from Fill f where f.id.orderId = :orderId")
+    Set<Fill.FillKey> findIdsByOrderId(@Param("orderId") String orderId);
 }
@@ -0,0 +1,13 @@
+package org.nowstart.evergreen.repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.nowstart.evergreen.data.entity.ManagedPosition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+public interface ManagedPositionRepository extends JpaRepository<ManagedPosition, ManagedPosition.ManagedPositionKey> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ManagedPosition> findWithLockById(ManagedPosition.ManagedPositionKey id);
+}
@@ -1,10 +1,24 @@
 package org.nowstart.evergreen.repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.nowstart.evergreen.data.entity.PositionDriftSnapshot;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface PositionDriftSnapshotRepository extends JpaRepository<PositionDriftSnapshot, Long> {
 
     Optional<PositionDriftSnapshot> findTopBySymbolOrderByCapturedAtDesc(String symbol);
+
+    @Query("select distinct s.symbol from PositionDriftSnapshot s where s.capturedAt < :before")
+    List<String> findSymbolsCapturedBefore(Instant before);
+
+    List<PositionDriftSnapshot> findBySymbolAndCapturedAtBeforeAndIdGreaterThanOrderByIdAsc(
+            String symbol,
+            Instant before,
+            Long afterId,
+            Limit limit
+    );
 }
@@ -2,10 +2,13 @@ package org.nowstart.evergreen.repository;
 
 import java.util.List;
 import java.util.Optional;
+import org.nowstart.evergreen.data.dto.OrderExecutionSummary;
 import org.nowstart.evergreen.data.entity.TradingOrder;
 import org.nowstart.evergreen.data.type.ExecutionMode;
 import org.nowstart.evergreen.data.type.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TradingOrderRepository extends JpaRepository<TradingOrder, String> {
 
@@ -13,7 +16,30 @@ public interface TradingOrderRepository extends JpaRepository<TradingOrder, Stri
 
     boolean existsByModeAndSymbolAndStatusIn(ExecutionMode mode, String symbol, List<OrderStatus> statuses);
 
-    List<TradingOrder> findBySymbolAndModeAndStatusOrderByCreatedAtAsc(String symbol, ExecutionMode mode, OrderStatus status);
+    @Query("""
+            select new org.nowstart.evergreen.data.dto.OrderExecutionSummary(
+                o.clientOrderId, o.side, o.executedVolume, o.avgExecutedPrice, o.feeAmount)
+            from TradingOrder o
+            where o.symbol = :symbol and o.mode = :mode and o.status = :status
+            order by o.createdAt asc
+            """)
+    List<OrderExecutionSummary> findExecutionSummariesBySymbolAndModeAndStatus(
+            @Param("symbol") String symbol,
+            @Param("mode") ExecutionMode mode,
+            @Param("status") OrderStatus status
+    );
 
-    List<TradingOrder> findBySymbolAndModeOrderByCreatedAtAsc(String symbol, ExecutionMode mode);
+    @Query("""
+            select new org.nowstart.evergreen.data.dto.OrderExecutionSummary(
+                o.clientOrderId, o.side, o.executedVolume, o.avgExecutedPrice, o.feeAmount)
+            from TradingOrder o
+            where o.symbol = :symbol and o.mode = :mode
+            order by o.createdAt asc
+            """)
+    List<OrderExecutionSummary> findExecutionSummariesBySymbolAndMode(
+            @Param("symbol") String symbol,
+            @Param("mode") ExecutionMode mode
+    );
+
+    List<TradingOrder> findByModeAndStatusIn(ExecutionMode mode, List<OrderStatus> statuses);
 }
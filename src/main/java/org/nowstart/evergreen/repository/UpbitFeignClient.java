@@ -37,6 +37,13 @@ public interface UpbitFeignClient {
             @RequestParam("count") int count
     );
 
+    @GetMapping("/v1/candles/days")
+    List<UpbitDayCandleResponse> getDayCandles(
+            @RequestParam("market") String market,
+            @RequestParam("count") int count,
+            @RequestParam("to") String to
+    );
+
     @PostMapping(value = "/v1/orders", consumes = "application/json")
     UpbitOrderResponse createOrder(@RequestBody UpbitCreateOrderRequest request);
 
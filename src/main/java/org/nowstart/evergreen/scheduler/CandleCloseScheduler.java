@@ -0,0 +1,138 @@
+package org.nowstart.evergreen.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.SchedulerMode;
+import org.nowstart.evergreen.service.TradingMaintenanceService;
+import org.nowstart.evergreen.service.TradingSignalWorkflowService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Evaluates signals right after each UTC daily candle close instead of polling on a fixed delay.
+ *
+ * <p>A burst starts {@code candleCloseDelay} after the close and retries only the markets whose new candle is not
+ * visible yet, every {@code candleCloseRetryInterval}, until {@code candleCloseRetryWindow} has passed. Position and
+ * order upkeep runs separately on {@code maintenanceInterval}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CandleCloseScheduler {
+
+    private static final Duration CANDLE_PERIOD = Duration.ofDays(1);
+
+    private final TradingSignalWorkflowService tradingSignalWorkflowService;
+    private final TradingMaintenanceService tradingMaintenanceService;
+    private final TradingProperties tradingProperties;
+    private final TaskScheduler taskScheduler;
+
+    // Single burst chain: whoever schedules must compareAndSet against the future it expects to replace.
+    private final AtomicReference<ScheduledFuture<?>> nextBurst = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isActive()) {
+            return;
+        }
+        // Catch up on the close that already happened today; already-handled signals are skipped by the order guard.
+        // This replaces a next close that maintain() may have scheduled first, so only one chain keeps running.
+        schedule(Instant.now().truncatedTo(ChronoUnit.DAYS), null, Instant.now(), nextBurst.get());
+    }
+
+    @Scheduled(fixedDelayString = "${evergreen.trading.maintenance-interval:5m}")
+    public void maintain() {
+        if (!isActive()) {
+            return;
+        }
+        if (nextBurst.get() == null) {
+            scheduleNextClose(Instant.now().truncatedTo(ChronoUnit.DAYS), null);
+        }
+        tradingMaintenanceService.runOnce();
+    }
+
+    void runBurst(Instant closeAt, Set<String> pendingMarkets) {
+        runBurst(closeAt, pendingMarkets, nextBurst.get());
+    }
+
+    private void runBurst(Instant closeAt, Set<String> pendingMarkets, ScheduledFuture<?> owner) {
+        if (nextBurst.get() != owner) {
+            log.info("event=candle_close_burst_superseded close_at={}", closeAt);
+            return;
+        }
+        if (!isActive()) {
+            nextBurst.compareAndSet(owner, null);
+            return;
+        }
+
+        Set<String> retryMarkets;
+        try {
+            Set<String> pending = tradingSignalWorkflowService.runOnce(closeAt.minus(CANDLE_PERIOD), pendingMarkets);
+            if (pending.isEmpty()) {
+                log.info("event=candle_close_burst_completed close_at={}", closeAt);
+                scheduleNextClose(closeAt, owner);
+                return;
+            }
+            retryMarkets = pending;
+        } catch (Exception e) {
+            log.error("Failed to run candle close burst close_at={}", closeAt, e);
+            retryMarkets = pendingMarkets;
+        }
+
+        Instant retryAt = Instant.now().plus(tradingProperties.candleCloseRetryInterval());
+        if (retryAt.isBefore(closeAt.plus(tradingProperties.candleCloseRetryWindow()))) {
+            log.info("event=candle_close_retry close_at={} pending={}", closeAt, retryMarkets == null ? "ALL" : retryMarkets);
+            schedule(closeAt, retryMarkets, retryAt, owner);
+            return;
+        }
+
+        log.warn("event=candle_close_burst_incomplete close_at={} pending={}", closeAt, retryMarkets == null ? "ALL" : retryMarkets);
+        scheduleNextClose(closeAt, owner);
+    }
+
+    private void scheduleNextClose(Instant closeAt, ScheduledFuture<?> expected) {
+        Instant nextClose = closeAt.plus(CANDLE_PERIOD);
+        schedule(nextClose, null, nextClose.plus(tradingProperties.candleCloseDelay()), expected);
+    }
+
+    /**
+     * Schedules a burst and installs it as {@link #nextBurst} only if the slot still holds {@code expected}; the
+     * replaced future is cancelled, and a burst that loses the race is cancelled instead.
+     */
+    private void schedule(Instant closeAt, Set<String> pendingMarkets, Instant at, ScheduledFuture<?> expected) {
+        CompletableFuture<ScheduledFuture<?>> self = new CompletableFuture<>();
+        ScheduledFuture<?> future = taskScheduler.schedule(() -> {
+            ScheduledFuture<?> owner = self.join();
+            if (owner != null) {
+                runBurst(closeAt, pendingMarkets, owner);
+            }
+        }, at);
+
+        if (future == null || !nextBurst.compareAndSet(expected, future)) {
+            self.complete(null);
+            if (future != null) {
+                future.cancel(false);
+            }
+            return;
+        }
+        self.complete(future);
+        if (expected != null) {
+            expected.cancel(false);
+        }
+    }
+
+    private boolean isActive() {
+        return tradingProperties.schedulerMode() == SchedulerMode.CANDLE_CLOSE;
+    }
+}
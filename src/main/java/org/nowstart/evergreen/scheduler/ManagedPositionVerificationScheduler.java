@@ -0,0 +1,41 @@
+package org.nowstart.evergreen.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.service.ManagedPositionLedgerService;
+import org.nowstart.evergreen.service.TradingSignalMarketDataService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ManagedPositionVerificationScheduler {
+
+    private final ManagedPositionLedgerService managedPositionLedgerService;
+    private final TradingSignalMarketDataService tradingSignalMarketDataService;
+    private final TradingProperties tradingProperties;
+
+    @Scheduled(
+            initialDelayString = "${evergreen.trading.managed-position-verify-interval:1h}",
+            fixedDelayString = "${evergreen.trading.managed-position-verify-interval:1h}"
+    )
+    public void run() {
+        int drifted = 0;
+        for (String market : tradingProperties.markets().stream()
+                .map(tradingSignalMarketDataService::normalizeMarket)
+                .filter(market -> !market.isBlank())
+                .distinct()
+                .toList()) {
+            try {
+                if (!managedPositionLedgerService.verify(market, tradingProperties.executionMode())) {
+                    drifted++;
+                }
+            } catch (Exception e) {
+                log.error("Failed to verify managed position ledger market={}", market, e);
+            }
+        }
+        log.info("event=managed_position_verified mode={} drifted_markets={}", tradingProperties.executionMode(), drifted);
+    }
+}
@@ -0,0 +1,24 @@
+package org.nowstart.evergreen.scheduler;
+
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.service.PositionDriftRetentionService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class PositionDriftRetentionScheduler {
+
+    private final PositionDriftRetentionService positionDriftRetentionService;
+    private final TradingProperties tradingProperties;
+
+    @Scheduled(cron = "0 30 0 * * *", zone = "UTC")
+    public void run() {
+        positionDriftRetentionService.downsample(
+                Instant.now().minus(tradingProperties.positionSnapshotRawRetention()),
+                tradingProperties.positionSnapshotDownsampleBucket()
+        );
+    }
+}
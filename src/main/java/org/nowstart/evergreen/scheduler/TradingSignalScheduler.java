@@ -1,6 +1,8 @@
 package org.nowstart.evergreen.scheduler;
 
 import lombok.RequiredArgsConstructor;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.nowstart.evergreen.service.TradingSignalWorkflowService;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,9 +13,13 @@ import org.springframework.stereotype.Service;
 public class TradingSignalScheduler {
 
     private final TradingSignalWorkflowService tradingSignalWorkflowService;
+    private final TradingProperties tradingProperties;
 
     @Scheduled(fixedDelayString = "${evergreen.trading.interval:30s}")
     public void run() {
+        if (tradingProperties.schedulerMode() != SchedulerMode.FIXED_DELAY) {
+            return;
+        }
         tradingSignalWorkflowService.runOnce();
     }
 }
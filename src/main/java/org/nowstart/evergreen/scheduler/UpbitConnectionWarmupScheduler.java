@@ -0,0 +1,61 @@
+package org.nowstart.evergreen.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.service.UpbitConnectionWarmer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+/**
+ * Warms the Upbit connection pool {@code httpPrewarmLead} before each UTC daily candle close, so the orders placed
+ * right after the close reuse open TLS connections. Runs only in LIVE mode.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UpbitConnectionWarmupScheduler {
+
+    private static final Duration CANDLE_PERIOD = Duration.ofDays(1);
+
+    private final UpbitConnectionWarmer upbitConnectionWarmer;
+    private final TradingProperties tradingProperties;
+    private final TaskScheduler taskScheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isActive()) {
+            return;
+        }
+        Instant now = Instant.now();
+        Instant closeAt = now.truncatedTo(ChronoUnit.DAYS).plus(CANDLE_PERIOD);
+        if (!closeAt.minus(tradingProperties.httpPrewarmLead()).isAfter(now)) {
+            closeAt = closeAt.plus(CANDLE_PERIOD);
+        }
+        schedule(closeAt);
+    }
+
+    void warmBefore(Instant closeAt) {
+        try {
+            upbitConnectionWarmer.warm();
+        } catch (Exception e) {
+            log.error("Failed to prewarm Upbit connections close_at={}", closeAt, e);
+        } finally {
+            schedule(closeAt.plus(CANDLE_PERIOD));
+        }
+    }
+
+    private void schedule(Instant closeAt) {
+        taskScheduler.schedule(() -> warmBefore(closeAt), closeAt.minus(tradingProperties.httpPrewarmLead()));
+    }
+
+    private boolean isActive() {
+        return tradingProperties.executionMode() == ExecutionMode.LIVE;
+    }
+}
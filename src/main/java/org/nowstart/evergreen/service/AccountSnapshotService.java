@@ -0,0 +1,145 @@
+package org.nowstart.evergreen.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.dto.UpbitAccountResponse;
+import org.nowstart.evergreen.data.dto.UpbitOrderChanceResponse;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.repository.UpbitFeignClient;
+import org.springframework.stereotype.Service;
+
+/**
+ * Short-lived cache of {@code /v1/accounts} and {@code /v1/orders/chance} responses shared by position sync, the
+ * live-order guard and the balance endpoints.
+ *
+ * <p>Entries live for {@code accountCacheTtl} and are dropped by {@link #invalidate(String)} as soon as an order
+ * changes balances. Concurrent callers that miss on the same key wait for the one in-flight request instead of
+ * issuing their own. Lookups are counted as {@code evergreen.exchange.account.cache{cache,result=hit|shared|miss}}.
+ */
+@Slf4j
+@Service
+public class AccountSnapshotService {
+
+    private static final String ACCOUNTS_KEY = "accounts";
+    private static final String CHANCE_KEY_PREFIX = "chance:";
+
+    private final UpbitFeignClient upbitFeignClient;
+    private final TradingProperties tradingProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public AccountSnapshotService(
+            UpbitFeignClient upbitFeignClient,
+            TradingProperties tradingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.upbitFeignClient = upbitFeignClient;
+        this.tradingProperties = tradingProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<UpbitAccountResponse> accounts() {
+        return (List<UpbitAccountResponse>) load(ACCOUNTS_KEY, "accounts", upbitFeignClient::getAccounts);
+    }
+
+    public UpbitOrderChanceResponse orderChance(String market) {
+        return (UpbitOrderChanceResponse) load(CHANCE_KEY_PREFIX + market, "order_chance", () -> upbitFeignClient.getOrderChance(market));
+    }
+
+    /**
+     * Drops the account snapshot and every cached order chance; call after anything that moves balances.
+     *
+     * <p>Each order chance embeds the quote-currency (KRW) account, so an order in {@code market} also changes the
+     * chance of every other market.
+     */
+    public void invalidate(String market) {
+        entries.remove(ACCOUNTS_KEY);
+        entries.keySet().removeIf(key -> key.startsWith(CHANCE_KEY_PREFIX));
+        log.debug("event=account_cache_invalidated market={}", market);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private Object load(String key, String cacheName, Supplier<?> loader) {
+        while (true) {
+            long now = System.nanoTime();
+            Entry existing = entries.get(key);
+            if (existing != null && !existing.isExpired(now, tradingProperties.accountCacheTtl().toNanos())) {
+                count(cacheName, existing.value().isDone() ? "hit" : "shared");
+                return join(existing.value());
+            }
+
+            Entry created = new Entry(new CompletableFuture<>());
+            boolean claimed = existing == null
+                    ? entries.putIfAbsent(key, created) == null
+                    : entries.replace(key, existing, created);
+            if (!claimed) {
+                continue;
+            }
+
+            count(cacheName, "miss");
+            try {
+                Object value = loader.get();
+                created.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                entries.remove(key, created);
+                created.value().completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String cacheName, String result) {
+        Counter.builder("evergreen.exchange.account.cache")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<Object> value;
+        private volatile long loadedAtNanos;
+
+        private Entry(CompletableFuture<Object> value) {
+            this.value = value;
+        }
+
+        private CompletableFuture<Object> value() {
+            return value;
+        }
+
+        private void complete(Object result) {
+            loadedAtNanos = System.nanoTime();
+            value.complete(result);
+        }
+
+        private boolean isExpired(long now, long ttlNanos) {
+            // An entry still loading is never expired, so late callers join it.
+            return value.isDone() && now - loadedAtNanos >= ttlNanos;
+        }
+    }
+}
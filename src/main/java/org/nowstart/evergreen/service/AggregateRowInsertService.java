@@ -0,0 +1,35 @@
+package org.nowstart.evergreen.service;
+
+import lombok.RequiredArgsConstructor;
+import org.nowstart.evergreen.data.entity.ExecutionMetricsAggregate;
+import org.nowstart.evergreen.data.entity.ManagedPosition;
+import org.nowstart.evergreen.repository.ExecutionMetricsAggregateRepository;
+import org.nowstart.evergreen.repository.ManagedPositionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Inserts the first per-(market, mode) execution-metrics or managed-position row in a transaction of its own.
+ *
+ * <p>Two first writers can race to create the same row. Running the insert separately means the loser's duplicate
+ * key only rolls back this short transaction; the caller catches the
+ * {@link org.springframework.dao.DataIntegrityViolationException} and locks the row the winner committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class AggregateRowInsertService {
+
+    private final ExecutionMetricsAggregateRepository executionMetricsAggregateRepository;
+    private final ManagedPositionRepository managedPositionRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insert(ExecutionMetricsAggregate aggregate) {
+        executionMetricsAggregateRepository.saveAndFlush(aggregate);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insert(ManagedPosition position) {
+        managedPositionRepository.saveAndFlush(position);
+    }
+}
@@ -0,0 +1,290 @@
+package org.nowstart.evergreen.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.dto.TradingDayCandleDto;
+import org.nowstart.evergreen.data.dto.UpbitDayCandleResponse;
+import org.nowstart.evergreen.data.entity.DailyCandle;
+import org.nowstart.evergreen.repository.DailyCandleRepository;
+import org.nowstart.evergreen.repository.UpbitFeignClient;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+/**
+ * Persistent daily-candle store keyed by (market, candle day).
+ *
+ * <p>The most recent {@code required} candles per market are kept in memory and written through to
+ * {@link DailyCandleRepository}. A market is backfilled from the exchange once; after that each call fetches only
+ * the last {@value #DELTA_COUNT} candles (the previous, possibly unfinished day and the current one) and merges them.
+ * When the newest stored candle is older than that, the delta widens to cover the missed days, and gaps inside the
+ * stored history are backfilled with a targeted {@code to} request when a market is loaded from the database.
+ * Exchange requests are paged by {@value #MAX_CANDLES_PER_REQUEST}, the most Upbit returns per call.
+ *
+ * <p>Only closed days are written. The still-forming current-day candle is served from memory and persisted once
+ * its day has closed, whether or not its values changed; a closed candle is rewritten only when the exchange
+ * corrects one of its values. A day counts as persisted only after its write succeeded, and a failed write drops the
+ * market's window so the next call reloads it from the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyCandleStoreService {
+
+    private static final int DELTA_COUNT = 2;
+    private static final int MAX_CANDLES_PER_REQUEST = 200;
+    private static final Duration DAY = Duration.ofDays(1);
+
+    private final UpbitFeignClient upbitFeignClient;
+    private final DailyCandleRepository dailyCandleRepository;
+    private final Map<String, MarketCandles> windows = new ConcurrentHashMap<>();
+
+    public List<TradingDayCandleDto> loadDailyCandles(String market, int required) {
+        if (required <= 0) {
+            throw new IllegalArgumentException("required must be > 0");
+        }
+
+        MarketCandles window = windows.computeIfAbsent(market, key -> new MarketCandles());
+        synchronized (window) {
+            if (window.candles.size() < required && window.backfilledCount < required) {
+                reload(market, required, window);
+            } else {
+                fetchDelta(market, required, window);
+            }
+
+            while (window.candles.size() > required) {
+                window.candles.pollFirstEntry();
+            }
+            if (!window.candles.isEmpty()) {
+                window.persisted.headSet(window.candles.firstKey()).clear();
+            }
+            return List.copyOf(window.candles.values());
+        }
+    }
+
+    public void invalidate(String market) {
+        windows.remove(market);
+    }
+
+    private void reload(String market, int required, MarketCandles window) {
+        window.candles.clear();
+        window.persisted.clear();
+        for (DailyCandle stored : dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc(market, Limit.of(required))) {
+            TradingDayCandleDto candle = toDayCandle(stored);
+            window.candles.put(candle.timestamp(), candle);
+            window.persisted.add(candle.timestamp());
+        }
+
+        if (window.candles.size() < required) {
+            int fetched = fetchAndMerge(market, required, null, window);
+            if (fetched > 0) {
+                window.backfilledCount = required;
+            }
+            log.info("event=daily_candle_backfill market={} requested={} fetched={} stored={}",
+                    market, required, fetched, window.candles.size());
+            return;
+        }
+
+        backfillGaps(market, window);
+        fetchDelta(market, required, window);
+    }
+
+    private void fetchDelta(String market, int required, MarketCandles window) {
+        if (window.candles.isEmpty()) {
+            return;
+        }
+
+        Instant last = window.candles.lastKey();
+        Instant todayStart = today();
+        long missedDays = Math.max(0L, Duration.between(last, todayStart).toDays());
+        int count = (int) Math.min(required, Math.max(DELTA_COUNT, missedDays + 1));
+        if (count > DELTA_COUNT) {
+            log.info("event=daily_candle_gap_backfill market={} last={} count={}", market, last, count);
+        }
+        fetchAndMerge(market, count, null, window);
+    }
+
+    private void backfillGaps(String market, MarketCandles window) {
+        List<Instant[]> gaps = new ArrayList<>();
+        Instant previous = null;
+        for (Instant timestamp : window.candles.keySet()) {
+            if (previous != null && Duration.between(previous, timestamp).compareTo(DAY) > 0) {
+                gaps.add(new Instant[] {previous, timestamp});
+            }
+            previous = timestamp;
+        }
+
+        for (Instant[] gap : gaps) {
+            int missing = (int) (Duration.between(gap[0], gap[1]).toDays() - 1);
+            int fetched = fetchAndMerge(market, missing, gap[1], window);
+            log.info("event=daily_candle_gap_backfill market={} from={} to={} missing={} fetched={}",
+                    market, gap[0], gap[1], missing, fetched);
+        }
+    }
+
+    private int fetchAndMerge(String market, int count, Instant to, MarketCandles window) {
+        int fetched = 0;
+        int remaining = count;
+        Instant cursor = to;
+        while (remaining > 0) {
+            int pageSize = Math.min(remaining, MAX_CANDLES_PER_REQUEST);
+            List<UpbitDayCandleResponse> rows = cursor == null
+                    ? upbitFeignClient.getDayCandles(market, pageSize)
+                    : upbitFeignClient.getDayCandles(market, pageSize, cursor.toString());
+            if (rows == null || rows.isEmpty()) {
+                if (fetched == 0) {
+                    log.warn("No daily candles received from exchange. market={}, requestedCount={}", market, count);
+                }
+                break;
+            }
+
+            List<TradingDayCandleDto> candles = rows.stream()
+                    .map(this::toDayCandle)
+                    .filter(Objects::nonNull)
+                    .toList();
+            merge(market, candles, window);
+            fetched += candles.size();
+            remaining -= pageSize;
+            if (rows.size() < pageSize || candles.isEmpty()) {
+                break;
+            }
+            // Upbit returns candles strictly before 'to', so the oldest candle of this page is the next cursor.
+            cursor = candles.stream().map(TradingDayCandleDto::timestamp).min(Instant::compareTo).orElseThrow();
+        }
+        return fetched;
+    }
+
+    private void merge(String market, List<TradingDayCandleDto> candles, MarketCandles window) {
+        Instant formingDay = today();
+        Map<Instant, DailyCandle> inserted = new LinkedHashMap<>();
+        Map<DailyCandle.DailyCandleKey, TradingDayCandleDto> corrected = new HashMap<>();
+        for (TradingDayCandleDto candle : candles) {
+            TradingDayCandleDto previous = window.candles.put(candle.timestamp(), candle);
+            if (!candle.timestamp().isBefore(formingDay)) {
+                continue;
+            }
+            if (!window.persisted.contains(candle.timestamp())) {
+                // A closed day that was never written is inserted even when it matches the forming candle in memory.
+                inserted.put(candle.timestamp(), toEntity(market, candle));
+            } else if (previous == null || !sameValues(previous, candle)) {
+                corrected.put(new DailyCandle.DailyCandleKey(market, candle.timestamp()), candle);
+            }
+        }
+
+        try {
+            write(market, inserted, corrected, window);
+        } catch (RuntimeException e) {
+            // Memory is ahead of the table now; drop the window so the next call reloads from the database.
+            windows.remove(market, window);
+            throw e;
+        }
+    }
+
+    private void write(
+            String market,
+            Map<Instant, DailyCandle> inserted,
+            Map<DailyCandle.DailyCandleKey, TradingDayCandleDto> corrected,
+            MarketCandles window
+    ) {
+        if (!inserted.isEmpty()) {
+            dailyCandleRepository.saveAll(List.copyOf(inserted.values()));
+            window.persisted.addAll(inserted.keySet());
+        }
+        if (!corrected.isEmpty()) {
+            List<DailyCandle> updated = new ArrayList<>();
+            for (DailyCandle stored : dailyCandleRepository.findAllById(corrected.keySet())) {
+                TradingDayCandleDto candle = corrected.get(stored.getId());
+                stored.setOpenPrice(candle.open());
+                stored.setHighPrice(candle.high());
+                stored.setLowPrice(candle.low());
+                stored.setClosePrice(candle.close());
+                stored.setVolume(candle.volume());
+                updated.add(stored);
+            }
+            dailyCandleRepository.saveAll(updated);
+            log.info("event=daily_candle_corrected market={} count={}", market, updated.size());
+        }
+    }
+
+    Instant today() {
+        return Instant.now().truncatedTo(ChronoUnit.DAYS);
+    }
+
+    private boolean sameValues(TradingDayCandleDto left, TradingDayCandleDto right) {
+        return left.open().compareTo(right.open()) == 0
+                && left.high().compareTo(right.high()) == 0
+                && left.low().compareTo(right.low()) == 0
+                && left.close().compareTo(right.close()) == 0
+                && left.volume().compareTo(right.volume()) == 0;
+    }
+
+    private TradingDayCandleDto toDayCandle(UpbitDayCandleResponse row) {
+        if (row == null
+                || row.candle_date_time_utc() == null
+                || row.opening_price() == null
+                || row.high_price() == null
+                || row.low_price() == null
+                || row.trade_price() == null) {
+            return null;
+        }
+
+        try {
+            return new TradingDayCandleDto(
+                    LocalDateTime.parse(row.candle_date_time_utc()).toInstant(ZoneOffset.UTC),
+                    row.opening_price(),
+                    row.high_price(),
+                    row.low_price(),
+                    row.trade_price(),
+                    row.candle_acc_trade_volume() == null ? BigDecimal.ZERO : row.candle_acc_trade_volume()
+            );
+        } catch (Exception e) {
+            log.warn("Failed to parse day candle row. row={}", row, e);
+            return null;
+        }
+    }
+
+    private TradingDayCandleDto toDayCandle(DailyCandle candle) {
+        return new TradingDayCandleDto(
+                candle.getId().getCandleAt(),
+                candle.getOpenPrice(),
+                candle.getHighPrice(),
+                candle.getLowPrice(),
+                candle.getClosePrice(),
+                candle.getVolume()
+        );
+    }
+
+    private DailyCandle toEntity(String market, TradingDayCandleDto candle) {
+        return DailyCandle.builder()
+                .id(new DailyCandle.DailyCandleKey(market, candle.timestamp()))
+                .openPrice(candle.open())
+                .highPrice(candle.high())
+                .lowPrice(candle.low())
+                .closePrice(candle.close())
+                .volume(candle.volume())
+                .build();
+    }
+
+    private static final class MarketCandles {
+
+        private final NavigableMap<Instant, TradingDayCandleDto> candles = new TreeMap<>();
+        private final NavigableSet<Instant> persisted = new TreeSet<>();
+        private int backfilledCount;
+    }
+}
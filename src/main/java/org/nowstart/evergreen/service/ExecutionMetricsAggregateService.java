@@ -0,0 +1,270 @@
+package org.nowstart.evergreen.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.dto.OrderExecutionSummary;
+import org.nowstart.evergreen.data.dto.TradingExecutionMetrics;
+import org.nowstart.evergreen.data.entity.ExecutionMetricsAggregate;
+import org.nowstart.evergreen.data.entity.ExecutionMetricsAggregate.ExecutionMetricsAggregateKey;
+import org.nowstart.evergreen.data.entity.TradingOrder;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.OrderSide;
+import org.nowstart.evergreen.data.type.OrderStatus;
+import org.nowstart.evergreen.repository.ExecutionMetricsAggregateRepository;
+import org.nowstart.evergreen.repository.TradingOrderRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the running execution-metrics aggregate per (market, mode).
+ *
+ * <p>Each FILLED order is folded into the aggregate once, inside the transaction that marks it filled, so a metrics
+ * lookup is a single row read. {@link #rebuild} replays every FILLED order in creation order with the same fold and
+ * is used when no seeded aggregate exists yet. Writers lock the aggregate row before reading orders or folding, so
+ * concurrent folds for the same (market, mode) are applied one after another instead of overwriting each other.
+ *
+ * <p>A missing row is first inserted unseeded through {@link AggregateRowInsertService} and then locked like any
+ * other. When two first fills race, the loser's duplicate key is caught and it folds into the row the winner seeded.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExecutionMetricsAggregateService {
+
+    // appliedOrderCount of a row that was inserted but not yet replayed.
+    private static final long UNSEEDED = -1L;
+
+    private final TradingOrderRepository tradingOrderRepository;
+    private final ExecutionMetricsAggregateRepository executionMetricsAggregateRepository;
+    private final AggregateRowInsertService aggregateRowInsertService;
+
+    @Transactional
+    public TradingExecutionMetrics resolve(String market, ExecutionMode mode) {
+        ExecutionMetricsAggregate aggregate = executionMetricsAggregateRepository.findById(key(market, mode))
+                .filter(this::isSeeded)
+                .orElseGet(() -> rebuild(market, mode));
+        return toMetrics(aggregate);
+    }
+
+    @Transactional
+    public void applyFilledOrder(TradingOrder order) {
+        if (order == null || order.getStatus() != OrderStatus.FILLED || order.getMode() == null) {
+            return;
+        }
+
+        ExecutionMetricsAggregate aggregate = lockOrInsert(order.getSymbol(), order.getMode());
+        if (!isSeeded(aggregate)) {
+            // The replay already contains this order because it was saved earlier in the same transaction.
+            replay(aggregate);
+            return;
+        }
+        if (order.getClientOrderId() != null && order.getClientOrderId().equals(aggregate.getLastAppliedOrderId())) {
+            return;
+        }
+
+        fold(aggregate, OrderExecutionSummary.from(order));
+        executionMetricsAggregateRepository.save(aggregate);
+    }
+
+    @Transactional
+    public ExecutionMetricsAggregate rebuild(String market, ExecutionMode mode) {
+        ExecutionMetricsAggregate aggregate = lockOrInsert(market, mode);
+        replay(aggregate);
+        return aggregate;
+    }
+
+    private ExecutionMetricsAggregate lockOrInsert(String market, ExecutionMode mode) {
+        ExecutionMetricsAggregateKey key = key(market, mode);
+        // Checked without a lock: a locking read of a missing key takes a gap lock that would block the insert below,
+        // which runs on another connection.
+        if (!executionMetricsAggregateRepository.existsById(key)) {
+            try {
+                aggregateRowInsertService.insert(
+                        ExecutionMetricsAggregate.builder().id(key).appliedOrderCount(UNSEEDED).build()
+                );
+            } catch (DataIntegrityViolationException e) {
+                log.info("event=execution_metrics_insert_conflict market={} mode={}", market, mode);
+            }
+        }
+        return executionMetricsAggregateRepository.findWithLockById(key)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Execution metrics aggregate missing after insert. market=" + market + ", mode=" + mode
+                ));
+    }
+
+    private void replay(ExecutionMetricsAggregate aggregate) {
+        ExecutionMetricsAggregateKey key = aggregate.getId();
+        List<OrderExecutionSummary> filledOrders = tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(
+                key.getSymbol(),
+                key.getMode(),
+                OrderStatus.FILLED
+        );
+
+        reset(aggregate);
+        for (OrderExecutionSummary order : filledOrders) {
+            fold(aggregate, order);
+        }
+        executionMetricsAggregateRepository.save(aggregate);
+        log.info("event=execution_metrics_rebuilt market={} mode={} orders={}",
+                key.getSymbol(), key.getMode(), filledOrders.size());
+    }
+
+    private boolean isSeeded(ExecutionMetricsAggregate aggregate) {
+        return aggregate.getAppliedOrderCount() != UNSEEDED;
+    }
+
+    private void fold(ExecutionMetricsAggregate aggregate, OrderExecutionSummary order) {
+        aggregate.setAppliedOrderCount(aggregate.getAppliedOrderCount() + 1);
+        if (order == null || order.side() == null) {
+            return;
+        }
+        aggregate.setLastAppliedOrderId(order.clientOrderId());
+
+        double qty = toPositiveDouble(order.executedVolume());
+        double price = toPositiveDouble(order.avgExecutedPrice());
+        double fee = toNonNegativeDouble(order.feeAmount());
+        if (!Double.isFinite(qty) || !Double.isFinite(price)) {
+            return;
+        }
+
+        double positionQty = aggregate.getPositionQty();
+        if (order.side() == OrderSide.BUY) {
+            double newQty = positionQty + qty;
+            if (newQty > 0.0) {
+                double currentCostBasis = aggregate.getAvgCost() * positionQty;
+                double buyCostWithFee = (price * qty) + fee;
+                aggregate.setAvgCost((currentCostBasis + buyCostWithFee) / newQty);
+                aggregate.setPositionQty(newQty);
+            }
+            return;
+        }
+
+        double sellQty = Math.min(positionQty, qty);
+        if (sellQty <= 0.0) {
+            return;
+        }
+
+        // When exchange data drifts (e.g. oversell correction), apply fee proportionally to matched quantity.
+        double effectiveFee = sellQty < qty ? fee * (sellQty / qty) : fee;
+        double proceedsAfterFee = (price * sellQty) - effectiveFee;
+        double costBasis = aggregate.getAvgCost() * sellQty;
+        double pnl = proceedsAfterFee - costBasis;
+        aggregate.setRealizedPnlKrw(aggregate.getRealizedPnlKrw() + pnl);
+        aggregate.setRealizedCostKrw(aggregate.getRealizedCostKrw() + costBasis);
+        aggregate.setRoundTripPnlKrw(aggregate.getRoundTripPnlKrw() + pnl);
+        aggregate.setRoundTripCostKrw(aggregate.getRoundTripCostKrw() + costBasis);
+
+        aggregate.setPositionQty(Math.max(0.0, positionQty - sellQty));
+        if (aggregate.getPositionQty() == 0.0) {
+            closeRoundTrip(aggregate);
+        }
+    }
+
+    private void closeRoundTrip(ExecutionMetricsAggregate aggregate) {
+        double tradeReturnPct = aggregate.getRoundTripCostKrw() > 0.0
+                ? (aggregate.getRoundTripPnlKrw() / aggregate.getRoundTripCostKrw()) * 100.0
+                : Double.NaN;
+        if (Double.isFinite(tradeReturnPct)) {
+            aggregate.setTradeCount(aggregate.getTradeCount() + 1);
+            aggregate.setTradeReturnSumPct(aggregate.getTradeReturnSumPct() + tradeReturnPct);
+            if (tradeReturnPct > 0.0) {
+                aggregate.setWinCount(aggregate.getWinCount() + 1);
+                aggregate.setWinSumPct(aggregate.getWinSumPct() + tradeReturnPct);
+            } else if (tradeReturnPct < 0.0) {
+                aggregate.setLossCount(aggregate.getLossCount() + 1);
+                aggregate.setLossSumAbsPct(aggregate.getLossSumAbsPct() + Math.abs(tradeReturnPct));
+            }
+
+            double equityCurve = aggregate.getEquityCurve() * (1.0 + (tradeReturnPct / 100.0));
+            aggregate.setEquityCurve(equityCurve);
+            if (equityCurve > aggregate.getPeakEquityCurve()) {
+                aggregate.setPeakEquityCurve(equityCurve);
+            }
+            double drawdown = ((equityCurve / aggregate.getPeakEquityCurve()) - 1.0) * 100.0;
+            if (drawdown < aggregate.getMaxDrawdownPct()) {
+                aggregate.setMaxDrawdownPct(drawdown);
+            }
+        }
+        aggregate.setAvgCost(0.0);
+        aggregate.setRoundTripPnlKrw(0.0);
+        aggregate.setRoundTripCostKrw(0.0);
+    }
+
+    private TradingExecutionMetrics toMetrics(ExecutionMetricsAggregate aggregate) {
+        if (aggregate.getAppliedOrderCount() == 0) {
+            return TradingExecutionMetrics.empty();
+        }
+
+        int tradeCount = aggregate.getTradeCount();
+        int winCount = aggregate.getWinCount();
+        int lossCount = aggregate.getLossCount();
+        double realizedReturnPct = aggregate.getRealizedCostKrw() > 0.0
+                ? (aggregate.getRealizedPnlKrw() / aggregate.getRealizedCostKrw()) * 100.0
+                : Double.NaN;
+        double winRatePct = tradeCount > 0 ? (winCount * 100.0) / tradeCount : Double.NaN;
+        double avgWinPct = winCount > 0 ? aggregate.getWinSumPct() / winCount : Double.NaN;
+        double avgLossPct = lossCount > 0 ? aggregate.getLossSumAbsPct() / lossCount : Double.NaN;
+        double rrRatio = (Double.isFinite(avgWinPct) && Double.isFinite(avgLossPct) && avgLossPct > 0.0)
+                ? avgWinPct / avgLossPct
+                : Double.NaN;
+        double expectancyPct = tradeCount > 0
+                ? aggregate.getTradeReturnSumPct() / tradeCount
+                : Double.NaN;
+        double maxDrawdownForMetric = tradeCount > 0 ? aggregate.getMaxDrawdownPct() : Double.NaN;
+
+        return new TradingExecutionMetrics(
+                aggregate.getRealizedPnlKrw(),
+                realizedReturnPct,
+                maxDrawdownForMetric,
+                tradeCount,
+                winRatePct,
+                avgWinPct,
+                avgLossPct,
+                rrRatio,
+                expectancyPct
+        );
+    }
+
+    private void reset(ExecutionMetricsAggregate aggregate) {
+        aggregate.setPositionQty(0.0);
+        aggregate.setAvgCost(0.0);
+        aggregate.setRealizedPnlKrw(0.0);
+        aggregate.setRealizedCostKrw(0.0);
+        aggregate.setRoundTripPnlKrw(0.0);
+        aggregate.setRoundTripCostKrw(0.0);
+        aggregate.setTradeCount(0);
+        aggregate.setWinCount(0);
+        aggregate.setLossCount(0);
+        aggregate.setWinSumPct(0.0);
+        aggregate.setLossSumAbsPct(0.0);
+        aggregate.setTradeReturnSumPct(0.0);
+        aggregate.setEquityCurve(1.0);
+        aggregate.setPeakEquityCurve(1.0);
+        aggregate.setMaxDrawdownPct(0.0);
+        aggregate.setAppliedOrderCount(0);
+        aggregate.setLastAppliedOrderId(null);
+    }
+
+    private ExecutionMetricsAggregateKey key(String market, ExecutionMode mode) {
+        return new ExecutionMetricsAggregateKey(market, mode);
+    }
+
+    private double toPositiveDouble(BigDecimal value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        double v = value.doubleValue();
+        return v > 0.0 ? v : Double.NaN;
+    }
+
+    private double toNonNegativeDouble(BigDecimal value) {
+        if (value == null) {
+            return 0.0;
+        }
+        double v = value.doubleValue();
+        return Math.max(v, 0.0);
+    }
+}
@@ -0,0 +1,164 @@
+package org.nowstart.evergreen.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.dto.OrderExecutionSummary;
+import org.nowstart.evergreen.data.entity.ManagedPosition;
+import org.nowstart.evergreen.data.entity.ManagedPosition.ManagedPositionKey;
+import org.nowstart.evergreen.data.entity.TradingOrder;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.OrderSide;
+import org.nowstart.evergreen.repository.ManagedPositionRepository;
+import org.nowstart.evergreen.repository.TradingOrderRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Ledger of the quantity the bot itself bought and still holds, per (market, mode).
+ *
+ * <p>Every executed-volume delta is applied as it is recorded, so position sync reads one row. When no row exists
+ * yet the ledger is seeded by replaying every order; {@link #verify} repeats that replay to detect and repair drift.
+ * Writers lock the ledger row before reading it, so concurrent deltas for the same (market, mode) are not lost.
+ *
+ * <p>A missing row is first inserted with a {@code null} qty through {@link AggregateRowInsertService} and then locked;
+ * a {@code null} qty means "not seeded yet". When two first deltas race, the loser's duplicate key is caught and it
+ * applies its delta to the row the winner seeded.
+ *
+ * <p>The ledger and the replay can legitimately disagree. Deltas clamp a sell at zero in the order they arrive, while
+ * the replay clamps in order creation order, so interleaved partial fills of a buy and a sell can end at different
+ * quantities. {@link #verify} reconciles that by overwriting the ledger with the replay.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ManagedPositionLedgerService {
+
+    private final TradingOrderRepository tradingOrderRepository;
+    private final ManagedPositionRepository managedPositionRepository;
+    private final AggregateRowInsertService aggregateRowInsertService;
+
+    @Transactional
+    public BigDecimal resolveManagedQty(String market, ExecutionMode mode) {
+        return managedPositionRepository.findById(key(market, mode))
+                .map(ManagedPosition::getQty)
+                .filter(Objects::nonNull)
+                .orElseGet(() -> seed(market, mode).getQty());
+    }
+
+    @Transactional
+    public void applyExecutedDelta(TradingOrder order, BigDecimal deltaQty) {
+        if (order == null || order.getSide() == null || order.getMode() == null
+                || deltaQty == null || deltaQty.compareTo(BigDecimal.ZERO) <= 0) {
+            return;
+        }
+
+        ManagedPosition position = lockOrInsert(order.getSymbol(), order.getMode());
+        if (position.getQty() == null) {
+            // The replay already contains this delta because the order was saved earlier in the same transaction.
+            position.setQty(replay(order.getSymbol(), order.getMode()));
+            managedPositionRepository.save(position);
+            return;
+        }
+
+        position.setQty(apply(position.getQty(), order.getSide(), deltaQty));
+        managedPositionRepository.save(position);
+    }
+
+    /**
+     * Compares the ledger with a full replay and overwrites the ledger when they differ.
+     *
+     * @return {@code true} when the ledger already matched the replay
+     */
+    @Transactional
+    public boolean verify(String market, ExecutionMode mode) {
+        ManagedPosition position = lockOrInsert(market, mode);
+        BigDecimal replayed = replay(market, mode);
+        if (position.getQty() == null) {
+            position.setQty(replayed);
+            managedPositionRepository.save(position);
+            return true;
+        }
+
+        BigDecimal ledgerQty = position.getQty();
+        if (ledgerQty.compareTo(replayed) == 0) {
+            return true;
+        }
+
+        log.warn(
+                "event=managed_position_drift market={} mode={} ledger_qty={} replayed_qty={}",
+                market,
+                mode,
+                ledgerQty,
+                replayed
+        );
+        position.setQty(replayed);
+        managedPositionRepository.save(position);
+        return false;
+    }
+
+    private ManagedPosition seed(String market, ExecutionMode mode) {
+        ManagedPosition position = lockOrInsert(market, mode);
+        if (position.getQty() == null) {
+            position.setQty(replay(market, mode));
+            managedPositionRepository.save(position);
+        }
+        return position;
+    }
+
+    private ManagedPosition lockOrInsert(String market, ExecutionMode mode) {
+        ManagedPositionKey key = key(market, mode);
+        // Checked without a lock: a locking read of a missing key takes a gap lock that would block the insert below,
+        // which runs on another connection.
+        if (!managedPositionRepository.existsById(key)) {
+            try {
+                aggregateRowInsertService.insert(ManagedPosition.builder().id(key).build());
+            } catch (DataIntegrityViolationException e) {
+                log.info("event=managed_position_insert_conflict market={} mode={}", market, mode);
+            }
+        }
+        return managedPositionRepository.findWithLockById(key)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Managed position missing after insert. market=" + market + ", mode=" + mode
+                ));
+    }
+
+    private BigDecimal replay(String market, ExecutionMode mode) {
+        List<OrderExecutionSummary> orders = tradingOrderRepository.findExecutionSummariesBySymbolAndMode(market, mode);
+        if (orders == null || orders.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal managedQty = BigDecimal.ZERO;
+        for (OrderExecutionSummary order : orders) {
+            if (order == null || order.side() == null) {
+                continue;
+            }
+            BigDecimal executedVolume = safe(order.executedVolume());
+            if (executedVolume.compareTo(BigDecimal.ZERO) <= 0) {
+                continue;
+            }
+            managedQty = apply(managedQty, order.side(), executedVolume);
+        }
+        return managedQty;
+    }
+
+    private BigDecimal apply(BigDecimal managedQty, OrderSide side, BigDecimal qty) {
+        if (side == OrderSide.BUY) {
+            return managedQty.add(qty);
+        }
+        BigDecimal remaining = managedQty.subtract(qty);
+        return remaining.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : remaining;
+    }
+
+    private ManagedPositionKey key(String market, ExecutionMode mode) {
+        return new ManagedPositionKey(market, mode);
+    }
+
+    private BigDecimal safe(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
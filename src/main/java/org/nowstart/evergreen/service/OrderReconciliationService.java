@@ -4,6 +4,10 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.nowstart.evergreen.data.dto.UpbitOrderResponse;
 import org.nowstart.evergreen.data.entity.Fill;
@@ -25,10 +29,14 @@ public class OrderReconciliationService {
     private final TradingOrderRepository tradingOrderRepository;
     private final FillRepository fillRepository;
     private final PositionRepository positionRepository;
+    private final ExecutionMetricsAggregateService executionMetricsAggregateService;
+    private final ManagedPositionLedgerService managedPositionLedgerService;
+    private final AccountSnapshotService accountSnapshotService;
 
     @Transactional
     public TradingOrder reconcile(TradingOrder order, UpbitOrderResponse response) {
         BigDecimal previousExecutedVolume = safe(order.getExecutedVolume());
+        OrderStatus previousStatus = order.getStatus();
         BigDecimal latestExecutedVolume = parseDecimal(response.executed_volume());
 
         order.setExchangeOrderId(response.uuid());
@@ -40,14 +48,16 @@ public class OrderReconciliationService {
 
         BigDecimal deltaQtyFromNewFills = BigDecimal.ZERO;
         BigDecimal deltaFundsFromNewFills = BigDecimal.ZERO;
+        List<Fill> newFills = new ArrayList<>();
 
-        if (response.trades() != null) {
+        if (response.trades() != null && !response.trades().isEmpty()) {
+            Set<Fill.FillKey> knownFillKeys = new HashSet<>(fillRepository.findIdsByOrderId(order.getClientOrderId()));
             for (int index = 0; index < response.trades().size(); index++) {
                 UpbitOrderResponse.UpbitTrade trade = response.trades().get(index);
                 Instant filledAt = parseTimestamp(trade.created_at());
                 String tradeUuid = resolveTradeUuid(order, trade, index);
                 Fill.FillKey fillKey = new Fill.FillKey(order.getClientOrderId(), filledAt, tradeUuid);
-                if (fillRepository.existsById(fillKey)) {
+                if (!knownFillKeys.add(fillKey)) {
                     continue;
                 }
 
@@ -58,7 +68,7 @@ public class OrderReconciliationService {
                         .fillPrice(parseDecimal(trade.price()))
                         .fee(BigDecimal.ZERO)
                         .build();
-                fillRepository.save(fill);
+                newFills.add(fill);
 
                 BigDecimal tradeQty = parseDecimal(trade.volume());
                 BigDecimal tradeFunds = parseDecimal(trade.funds());
@@ -69,6 +79,9 @@ public class OrderReconciliationService {
                 deltaFundsFromNewFills = deltaFundsFromNewFills.add(tradeFunds);
             }
         }
+        if (!newFills.isEmpty()) {
+            fillRepository.saveAll(newFills);
+        }
 
         BigDecimal deltaExecutedVolume = latestExecutedVolume.subtract(previousExecutedVolume);
         if (deltaExecutedVolume.compareTo(BigDecimal.ZERO) > 0) {
@@ -76,6 +89,16 @@ public class OrderReconciliationService {
                     ? deltaFundsFromNewFills.divide(deltaQtyFromNewFills, 12, RoundingMode.HALF_UP)
                     : safe(order.getAvgExecutedPrice());
             applyPositionDelta(order, deltaExecutedVolume, deltaPriceToApply);
+            managedPositionLedgerService.applyExecutedDelta(order, deltaExecutedVolume);
+        }
+
+        if (previousStatus != OrderStatus.FILLED && order.getStatus() == OrderStatus.FILLED) {
+            executionMetricsAggregateService.applyFilledOrder(order);
+        }
+
+        // Submits, fills and cancels all move locked or available balances on the exchange.
+        if (previousStatus != order.getStatus() || deltaExecutedVolume.compareTo(BigDecimal.ZERO) > 0) {
+            accountSnapshotService.invalidate(order.getSymbol());
         }
 
         return order;
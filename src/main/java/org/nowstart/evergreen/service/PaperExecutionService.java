@@ -28,6 +28,8 @@ public class PaperExecutionService {
     private final FillRepository fillRepository;
     private final PositionRepository positionRepository;
     private final TradingProperties tradingProperties;
+    private final ExecutionMetricsAggregateService executionMetricsAggregateService;
+    private final ManagedPositionLedgerService managedPositionLedgerService;
 
     @Transactional
     public TradingOrder execute(TradingOrder order) {
@@ -58,6 +60,8 @@ public class PaperExecutionService {
         fillRepository.save(fill);
 
         upsertPosition(order.getSymbol(), order.getSide(), execQty, execPrice);
+        managedPositionLedgerService.applyExecutedDelta(order, execQty);
+        executionMetricsAggregateService.applyFilledOrder(order);
 
         return order;
     }
@@ -0,0 +1,83 @@
+package org.nowstart.evergreen.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.nowstart.evergreen.data.entity.PositionDriftSnapshot;
+import org.nowstart.evergreen.repository.PositionDriftSnapshotRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Downsamples one chunk of a symbol's position drift snapshots in a transaction of its own.
+ *
+ * <p>Committing per chunk keeps row locks short and lets each chunk's entities leave the persistence context, so a
+ * large backlog neither holds one long transaction open nor accumulates every scanned row in memory.
+ */
+@Service
+@RequiredArgsConstructor
+public class PositionDriftDownsampleChunkService {
+
+    private final PositionDriftSnapshotRepository positionDriftSnapshotRepository;
+
+    /**
+     * @param kept the last row kept by the previous chunk, or {@code null} for the first chunk of a symbol
+     */
+    @Transactional
+    public Chunk downsample(
+            String symbol,
+            Instant before,
+            long afterId,
+            PositionDriftSnapshot kept,
+            long bucketMillis,
+            int chunkSize
+    ) {
+        List<PositionDriftSnapshot> chunk = positionDriftSnapshotRepository
+                .findBySymbolAndCapturedAtBeforeAndIdGreaterThanOrderByIdAsc(symbol, before, afterId, Limit.of(chunkSize));
+        if (chunk.isEmpty()) {
+            return new Chunk(0, 0, afterId, kept);
+        }
+
+        List<PositionDriftSnapshot> redundant = new ArrayList<>();
+        for (PositionDriftSnapshot snapshot : chunk) {
+            if (kept != null && sameBucket(kept, snapshot, bucketMillis) && sameQuantities(kept, snapshot)) {
+                redundant.add(snapshot);
+            } else {
+                kept = snapshot;
+            }
+        }
+        positionDriftSnapshotRepository.deleteAllInBatch(redundant);
+        return new Chunk(chunk.size(), redundant.size(), chunk.get(chunk.size() - 1).getId(), kept);
+    }
+
+    private boolean sameBucket(PositionDriftSnapshot left, PositionDriftSnapshot right, long bucketMillis) {
+        return Math.floorDiv(left.getCapturedAt().toEpochMilli(), bucketMillis)
+                == Math.floorDiv(right.getCapturedAt().toEpochMilli(), bucketMillis);
+    }
+
+    private boolean sameQuantities(PositionDriftSnapshot left, PositionDriftSnapshot right) {
+        return compare(left.getTotalQty(), right.getTotalQty()) == 0
+                && compare(left.getManagedQty(), right.getManagedQty()) == 0
+                && compare(left.getDriftQty(), right.getDriftQty()) == 0;
+    }
+
+    private int compare(BigDecimal left, BigDecimal right) {
+        return safe(left).compareTo(safe(right));
+    }
+
+    private BigDecimal safe(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+    /**
+     * @param scanned rows read in this chunk; {@code 0} once the symbol is exhausted
+     * @param deleted rows removed in this chunk
+     * @param lastId  id to continue after
+     * @param kept    last surviving row, compared against the first row of the next chunk
+     */
+    public record Chunk(int scanned, int deleted, long lastId, PositionDriftSnapshot kept) {
+    }
+}
@@ -0,0 +1,60 @@
+package org.nowstart.evergreen.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.entity.PositionDriftSnapshot;
+import org.nowstart.evergreen.repository.PositionDriftSnapshotRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * Downsamples position drift snapshots older than the raw retention window.
+ *
+ * <p>Within each bucket only the first row and rows whose quantities differ from the row kept before them survive, so
+ * every change point is preserved while repeated identical rows collapse to one per bucket. Each chunk commits on its
+ * own through {@link PositionDriftDownsampleChunkService}; a run that fails part-way leaves only whole chunks applied,
+ * and the next run picks up from there.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PositionDriftRetentionService {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final PositionDriftSnapshotRepository positionDriftSnapshotRepository;
+    private final PositionDriftDownsampleChunkService positionDriftDownsampleChunkService;
+
+    public int downsample(Instant before, Duration bucket) {
+        long bucketMillis = Math.max(1L, bucket.toMillis());
+        int deleted = 0;
+        for (String symbol : positionDriftSnapshotRepository.findSymbolsCapturedBefore(before)) {
+            deleted += downsampleSymbol(symbol, before, bucketMillis);
+        }
+        log.info("event=position_snapshot_downsampled before={} bucket={} deleted={}", before, bucket, deleted);
+        return deleted;
+    }
+
+    private int downsampleSymbol(String symbol, Instant before, long bucketMillis) {
+        int deleted = 0;
+        long afterId = 0L;
+        PositionDriftSnapshot kept = null;
+        while (true) {
+            PositionDriftDownsampleChunkService.Chunk chunk = positionDriftDownsampleChunkService.downsample(
+                    symbol,
+                    before,
+                    afterId,
+                    kept,
+                    bucketMillis,
+                    CHUNK_SIZE
+            );
+            if (chunk.scanned() == 0) {
+                return deleted;
+            }
+            deleted += chunk.deleted();
+            afterId = chunk.lastId();
+            kept = chunk.kept();
+        }
+    }
+}
@@ -2,18 +2,29 @@ package org.nowstart.evergreen.service;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nowstart.evergreen.data.entity.PositionDriftSnapshot;
+import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.repository.PositionDriftSnapshotRepository;
 import org.springframework.stereotype.Service;
 
+/**
+ * Records position drift snapshots only when total, managed or drift quantity changes, plus a heartbeat row every
+ * {@code positionSnapshotHeartbeat}. The latest snapshot per market is kept in memory, so an unchanged cycle touches
+ * the database not at all.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PositionDriftService {
 
     private final PositionDriftSnapshotRepository positionDriftSnapshotRepository;
+    private final TradingProperties tradingProperties;
+    private final Map<String, Optional<PositionDriftSnapshot>> lastSnapshotByMarket = new ConcurrentHashMap<>();
 
     public void captureSnapshot(String market, BigDecimal totalQty, BigDecimal managedQty) {
         BigDecimal safeTotalQty = safe(totalQty);
@@ -25,11 +36,11 @@ public class PositionDriftService {
         BigDecimal sellableQty = safeTotalQty.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : safeTotalQty;
         BigDecimal driftQty = safeTotalQty.subtract(safeManagedQty).abs();
         boolean driftDetected = driftQty.compareTo(BigDecimal.ZERO) > 0;
-        PositionDriftSnapshot previous = positionDriftSnapshotRepository
-                .findTopBySymbolOrderByCapturedAtDesc(market)
+        PositionDriftSnapshot previous = lastSnapshotByMarket
+                .computeIfAbsent(market, positionDriftSnapshotRepository::findTopBySymbolOrderByCapturedAtDesc)
                 .orElse(null);
 
-        PositionDriftSnapshot snapshot = positionDriftSnapshotRepository.save(PositionDriftSnapshot.builder()
+        PositionDriftSnapshot snapshot = PositionDriftSnapshot.builder()
                 .symbol(market)
                 .totalQty(safeTotalQty)
                 .managedQty(safeManagedQty)
@@ -37,7 +48,11 @@ public class PositionDriftService {
                 .driftQty(driftQty)
                 .driftDetected(driftDetected)
                 .capturedAt(Instant.now())
-                .build());
+                .build();
+        if (shouldPersist(previous, snapshot)) {
+            positionDriftSnapshotRepository.save(snapshot);
+            lastSnapshotByMarket.put(market, Optional.of(snapshot));
+        }
 
         log.info(
                 "event=position_snapshot market={} total_qty={} managed_qty={} external_qty={} sellable_qty={} drift_qty={} drift_detected={}",
@@ -62,6 +77,18 @@ public class PositionDriftService {
         }
     }
 
+    private boolean shouldPersist(PositionDriftSnapshot previous, PositionDriftSnapshot current) {
+        if (previous == null || previous.getCapturedAt() == null) {
+            return true;
+        }
+        if (compare(previous.getTotalQty(), current.getTotalQty()) != 0
+                || compare(previous.getManagedQty(), current.getManagedQty()) != 0
+                || compare(previous.getDriftQty(), current.getDriftQty()) != 0) {
+            return true;
+        }
+        return !current.getCapturedAt().isBefore(previous.getCapturedAt().plus(tradingProperties.positionSnapshotHeartbeat()));
+    }
+
     private boolean shouldEmitExternalDrift(PositionDriftSnapshot previous, PositionDriftSnapshot current) {
         if (current == null || !current.isDriftDetected()) {
             return false;
@@ -0,0 +1,86 @@
+package org.nowstart.evergreen.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.dto.UpbitTickerResponse;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.repository.UpbitFeignClient;
+import org.springframework.stereotype.Service;
+
+/**
+ * Per-cycle snapshot of trade prices for every configured market.
+ *
+ * <p>{@link #refresh(Collection)} fetches all markets with one comma-separated {@code /v1/ticker} request per
+ * {@value #MAX_MARKETS_PER_REQUEST} markets. Readers share that snapshot until it is older than the scheduler
+ * interval; markets outside the snapshot fall back to a single-market request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TickerSnapshotService {
+
+    static final int MAX_MARKETS_PER_REQUEST = 100;
+
+    private final UpbitFeignClient upbitFeignClient;
+    private final TradingProperties tradingProperties;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Instant.EPOCH);
+
+    public void refresh(Collection<String> markets) {
+        List<String> distinct = markets.stream().distinct().toList();
+        Map<String, BigDecimal> prices = new HashMap<>();
+        int requests = 0;
+        for (int from = 0; from < distinct.size(); from += MAX_MARKETS_PER_REQUEST) {
+            List<String> chunk = distinct.subList(from, Math.min(distinct.size(), from + MAX_MARKETS_PER_REQUEST));
+            requests++;
+            try {
+                collect(upbitFeignClient.getTickers(String.join(",", chunk)), prices);
+            } catch (Exception e) {
+                log.warn("event=ticker_snapshot_failed markets={}", chunk, e);
+            }
+        }
+
+        snapshot = new Snapshot(Map.copyOf(prices), Instant.now());
+        log.debug("event=ticker_snapshot_refreshed markets={} priced={} requests={}", distinct.size(), prices.size(), requests);
+    }
+
+    /**
+     * Returns the latest positive trade price for {@code market}, or {@link BigDecimal#ZERO} when the exchange has none.
+     */
+    public BigDecimal latestTradePrice(String market) {
+        Snapshot current = snapshot;
+        if (current.capturedAt().plus(tradingProperties.interval()).isAfter(Instant.now())) {
+            BigDecimal price = current.prices().get(market);
+            if (price != null) {
+                return price;
+            }
+        }
+
+        Map<String, BigDecimal> prices = new HashMap<>();
+        collect(upbitFeignClient.getTickers(market), prices);
+        return prices.getOrDefault(market, BigDecimal.ZERO);
+    }
+
+    private void collect(List<UpbitTickerResponse> tickers, Map<String, BigDecimal> prices) {
+        if (tickers == null) {
+            return;
+        }
+        for (UpbitTickerResponse ticker : tickers) {
+            if (ticker == null || ticker.market() == null || ticker.trade_price() == null) {
+                continue;
+            }
+            if (ticker.trade_price().compareTo(BigDecimal.ZERO) > 0) {
+                prices.put(ticker.market(), ticker.trade_price());
+            }
+        }
+    }
+
+    private record Snapshot(Map<String, BigDecimal> prices, Instant capturedAt) {
+    }
+}
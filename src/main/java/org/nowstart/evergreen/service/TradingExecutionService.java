@@ -14,7 +14,6 @@ import org.nowstart.evergreen.data.dto.UpbitAccountResponse;
 import org.nowstart.evergreen.data.dto.UpbitCreateOrderRequest;
 import org.nowstart.evergreen.data.dto.UpbitOrderChanceResponse;
 import org.nowstart.evergreen.data.dto.UpbitOrderResponse;
-import org.nowstart.evergreen.data.dto.UpbitTickerResponse;
 import org.nowstart.evergreen.data.entity.AuditEvent;
 import org.nowstart.evergreen.data.entity.TradingOrder;
 import org.nowstart.evergreen.data.exception.TradingApiException;
@@ -44,16 +43,18 @@ public class TradingExecutionService {
     private final TradingProperties tradingProperties;
     private final OrderRequestValidationService orderRequestValidationService;
     private final TradingOrderFactory tradingOrderFactory;
+    private final TickerSnapshotService tickerSnapshotService;
+    private final AccountSnapshotService accountSnapshotService;
 
     public List<BalanceDto> getBalances(String currency) {
-        return upbitFeignClient.getAccounts().stream()
+        return accountSnapshotService.accounts().stream()
                 .filter(account -> currency == null || currency.isBlank() || currency.equalsIgnoreCase(account.currency()))
                 .map(this::toBalance)
                 .toList();
     }
 
     public OrderChanceDto getOrderChance(String market) {
-        UpbitOrderChanceResponse chance = upbitFeignClient.getOrderChance(market);
+        UpbitOrderChanceResponse chance = accountSnapshotService.orderChance(market);
         return new OrderChanceDto(
                 market,
                 parseDecimal(chance.bid_fee()),
@@ -147,7 +148,7 @@ public class TradingExecutionService {
     }
 
     private void guardLiveOrder(TradingOrder order) {
-        UpbitOrderChanceResponse chance = upbitFeignClient.getOrderChance(order.getSymbol());
+        UpbitOrderChanceResponse chance = accountSnapshotService.orderChance(order.getSymbol());
         BigDecimal requestedNotional = estimateRequestedNotional(order, chance);
         order.setRequestedNotional(requestedNotional);
         if (order.getOrderType() == TradeOrderType.MARKET_BUY
@@ -201,7 +202,7 @@ public class TradingExecutionService {
                         : parseDecimal(chance.ask_account().avg_buy_price());
             }
             if (referencePrice.compareTo(BigDecimal.ZERO) <= 0) {
-                referencePrice = fetchLatestTradePrice(order.getSymbol());
+                referencePrice = tickerSnapshotService.latestTradePrice(order.getSymbol());
             }
 
             if (referencePrice.compareTo(BigDecimal.ZERO) <= 0) {
@@ -234,18 +235,6 @@ public class TradingExecutionService {
         }
     }
 
-    private BigDecimal fetchLatestTradePrice(String market) {
-        List<UpbitTickerResponse> tickers = upbitFeignClient.getTickers(market);
-        if (tickers == null || tickers.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-        BigDecimal tradePrice = tickers.getFirst().trade_price();
-        if (tradePrice == null || tradePrice.compareTo(BigDecimal.ZERO) <= 0) {
-            return BigDecimal.ZERO;
-        }
-        return tradePrice;
-    }
-
     private BigDecimal toSpendableKrw(BigDecimal balance) {
         BigDecimal multiplier = BigDecimal.ONE.subtract(safe(tradingProperties.feeRate()));
         if (multiplier.compareTo(BigDecimal.ZERO) <= 0 || multiplier.compareTo(BigDecimal.ONE) > 0) {
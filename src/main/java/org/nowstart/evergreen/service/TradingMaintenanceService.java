@@ -0,0 +1,67 @@
+package org.nowstart.evergreen.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.data.entity.TradingOrder;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.OrderStatus;
+import org.nowstart.evergreen.repository.TradingOrderRepository;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps positions and in-flight orders in sync between candle closes when signals are only evaluated once per close.
+ */
+@Slf4j
+@Service
+@RefreshScope
+@RequiredArgsConstructor
+public class TradingMaintenanceService {
+
+    private static final List<OrderStatus> ACTIVE_ORDER_STATUSES = List.of(
+            OrderStatus.CREATED,
+            OrderStatus.SUBMITTED,
+            OrderStatus.PARTIALLY_FILLED
+    );
+
+    private final TradingProperties tradingProperties;
+    private final TradingSignalMarketDataService tradingSignalMarketDataService;
+    private final TradingPositionSyncService tradingPositionSyncService;
+    private final TradingOrderRepository tradingOrderRepository;
+    private final TradingExecutionService tradingExecutionService;
+
+    public void runOnce() {
+        List<String> markets = tradingProperties.markets().stream()
+                .map(tradingSignalMarketDataService::normalizeMarket)
+                .filter(market -> !market.isBlank())
+                .distinct()
+                .toList();
+        if (!markets.isEmpty()) {
+            try {
+                tradingPositionSyncService.syncPositions(markets);
+            } catch (Exception e) {
+                log.error("Failed to sync exchange positions during maintenance.", e);
+            }
+        }
+
+        if (tradingProperties.executionMode() != ExecutionMode.LIVE) {
+            return;
+        }
+
+        int refreshed = 0;
+        for (TradingOrder order : tradingOrderRepository.findByModeAndStatusIn(ExecutionMode.LIVE, ACTIVE_ORDER_STATUSES)) {
+            if (order.getExchangeOrderId() == null || order.getExchangeOrderId().isBlank()) {
+                continue;
+            }
+            try {
+                tradingExecutionService.getOrder(order.getClientOrderId());
+                refreshed++;
+            } catch (Exception e) {
+                log.warn("event=maintenance_order_refresh_failed client_order_id={}", order.getClientOrderId(), e);
+            }
+        }
+        log.debug("event=maintenance_completed markets={} refreshed_orders={}", markets.size(), refreshed);
+    }
+}
@@ -8,15 +8,11 @@ import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nowstart.evergreen.data.dto.UpbitAccountResponse;
-import org.nowstart.evergreen.data.entity.TradingOrder;
 import org.nowstart.evergreen.data.entity.TradingPosition;
 import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.data.type.ExecutionMode;
-import org.nowstart.evergreen.data.type.OrderSide;
 import org.nowstart.evergreen.data.type.PositionState;
 import org.nowstart.evergreen.repository.PositionRepository;
-import org.nowstart.evergreen.repository.TradingOrderRepository;
-import org.nowstart.evergreen.repository.UpbitFeignClient;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,9 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TradingPositionSyncService {
 
-    private final UpbitFeignClient upbitFeignClient;
+    private final AccountSnapshotService accountSnapshotService;
     private final PositionRepository positionRepository;
-    private final TradingOrderRepository tradingOrderRepository;
+    private final ManagedPositionLedgerService managedPositionLedgerService;
     private final PositionDriftService positionDriftService;
     private final TradingProperties tradingProperties;
 
@@ -39,7 +35,7 @@ public class TradingPositionSyncService {
             return;
         }
 
-        List<UpbitAccountResponse> accounts = upbitFeignClient.getAccounts();
+        List<UpbitAccountResponse> accounts = accountSnapshotService.accounts();
         Map<String, UpbitAccountResponse> accountByCurrency = accounts == null
                 ? Map.of()
                 : accounts.stream()
@@ -63,7 +59,7 @@ public class TradingPositionSyncService {
 
         UpbitAccountResponse account = accountByCurrency.get(assetCurrency);
         BigDecimal totalQty = resolveTotalQty(account);
-        BigDecimal managedQty = resolveManagedQty(market);
+        BigDecimal managedQty = managedPositionLedgerService.resolveManagedQty(market, tradingProperties.executionMode());
         boolean hasPosition = totalQty.compareTo(BigDecimal.ZERO) > 0;
         BigDecimal avgPrice = hasPosition ? parseDecimal(account.avg_buy_price()) : BigDecimal.ZERO;
 
@@ -91,40 +87,6 @@ public class TradingPositionSyncService {
         );
     }
 
-    private BigDecimal resolveManagedQty(String market) {
-        List<TradingOrder> orders = tradingOrderRepository.findBySymbolAndModeOrderByCreatedAtAsc(
-                market,
-                tradingProperties.executionMode()
-        );
-        if (orders == null || orders.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal managedQty = BigDecimal.ZERO;
-        for (TradingOrder order : orders) {
-            if (order == null || order.getSide() == null) {
-                continue;
-            }
-            BigDecimal executedVolume = safe(order.getExecutedVolume());
-            if (executedVolume.compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
-            }
-
-            if (order.getSide() == OrderSide.BUY) {
-                managedQty = managedQty.add(executedVolume);
-                continue;
-            }
-
-            if (order.getSide() == OrderSide.SELL) {
-                managedQty = managedQty.subtract(executedVolume);
-                if (managedQty.compareTo(BigDecimal.ZERO) < 0) {
-                    managedQty = BigDecimal.ZERO;
-                }
-            }
-        }
-        return managedQty;
-    }
-
     private String resolveAssetCurrency(String market) {
         if (market == null) {
             return "";
@@ -156,8 +118,4 @@ public class TradingPositionSyncService {
         }
     }
 
-    private BigDecimal safe(BigDecimal value) {
-        return value == null ? BigDecimal.ZERO : value;
-    }
-
 }
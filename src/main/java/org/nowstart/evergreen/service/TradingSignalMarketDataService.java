@@ -1,19 +1,12 @@
 package org.nowstart.evergreen.service;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nowstart.evergreen.data.dto.TradingDayCandleDto;
-import org.nowstart.evergreen.data.dto.UpbitDayCandleResponse;
-import org.nowstart.evergreen.data.dto.UpbitTickerResponse;
 import org.nowstart.evergreen.data.property.TradingProperties;
-import org.nowstart.evergreen.repository.UpbitFeignClient;
 import org.nowstart.evergreen.service.strategy.StrategyRegistry;
 import org.nowstart.evergreen.service.strategy.TradingStrategyParamResolver;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -25,7 +18,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TradingSignalMarketDataService {
 
-    private final UpbitFeignClient upbitFeignClient;
+    private final TickerSnapshotService tickerSnapshotService;
+    private final DailyCandleStoreService dailyCandleStore;
     private final TradingProperties tradingProperties;
     private final TradingStrategyParamResolver strategyParamResolver;
     private final StrategyRegistry strategyRegistry;
@@ -41,22 +35,10 @@ public class TradingSignalMarketDataService {
                 strategyWarmup + 2
         );
 
-        List<UpbitDayCandleResponse> rows = upbitFeignClient.getDayCandles(market, required);
-        if (rows == null || rows.isEmpty()) {
-            log.warn("No daily candles received from exchange. market={}, requiredCount={}", market, required);
-            return List.of();
-        }
-
-        List<TradingDayCandleDto> candles = rows.stream()
-                .map(this::toDayCandle)
-                .filter(Objects::nonNull)
-                .sorted(Comparator.comparing(TradingDayCandleDto::timestamp))
-                .toList();
+        List<TradingDayCandleDto> candles = dailyCandleStore.loadDailyCandles(market, required);
         if (candles.isEmpty()) {
-            log.warn("No valid daily candles after normalization. market={}, rawCount={}", market, rows.size());
-            return candles;
+            log.warn("No daily candles available. market={}, requiredCount={}", market, required);
         }
-
         return candles;
     }
 
@@ -69,12 +51,12 @@ public class TradingSignalMarketDataService {
     public double resolveLivePrice(String market, double fallbackClose) {
         double fallback = (Double.isFinite(fallbackClose) && fallbackClose > 0.0) ? fallbackClose : Double.NaN;
         try {
-            List<UpbitTickerResponse> tickers = upbitFeignClient.getTickers(market);
-            if (tickers == null || tickers.isEmpty() || tickers.getFirst() == null || tickers.getFirst().trade_price() == null) {
+            BigDecimal latest = tickerSnapshotService.latestTradePrice(market);
+            if (latest == null) {
                 return fallback;
             }
 
-            double tradePrice = tickers.getFirst().trade_price().doubleValue();
+            double tradePrice = latest.doubleValue();
             if (!Double.isFinite(tradePrice) || tradePrice <= 0.0) {
                 return fallback;
             }
@@ -92,29 +74,4 @@ public class TradingSignalMarketDataService {
         }
         return value.trim().toUpperCase(Locale.ROOT);
     }
-
-    private TradingDayCandleDto toDayCandle(UpbitDayCandleResponse row) {
-        if (row == null
-                || row.candle_date_time_utc() == null
-                || row.opening_price() == null
-                || row.high_price() == null
-                || row.low_price() == null
-                || row.trade_price() == null) {
-            return null;
-        }
-
-        try {
-            return new TradingDayCandleDto(
-                    LocalDateTime.parse(row.candle_date_time_utc()).toInstant(ZoneOffset.UTC),
-                    row.opening_price(),
-                    row.high_price(),
-                    row.low_price(),
-                    row.trade_price(),
-                    row.candle_acc_trade_volume() == null ? BigDecimal.ZERO : row.candle_acc_trade_volume()
-            );
-        } catch (Exception e) {
-            log.warn("Failed to parse day candle row. row={}", row, e);
-            return null;
-        }
-    }
 }
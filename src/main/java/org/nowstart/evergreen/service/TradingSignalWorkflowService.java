@@ -1,7 +1,19 @@
 package org.nowstart.evergreen.service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nowstart.evergreen.data.dto.TradingDayCandleDto;
@@ -9,9 +21,9 @@ import org.nowstart.evergreen.data.dto.TradingExecutionMetrics;
 import org.nowstart.evergreen.data.entity.TradingPosition;
 import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.repository.PositionRepository;
-import org.nowstart.evergreen.service.strategy.StrategyRegistry;
+import org.nowstart.evergreen.service.strategy.StrategyEvaluationCache;
 import org.nowstart.evergreen.service.strategy.TradingStrategyParamResolver;
-import org.nowstart.evergreen.service.strategy.core.OhlcvCandle;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
 import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
 import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -32,44 +44,172 @@ public class TradingSignalWorkflowService {
     private final PositionRepository positionRepository;
     private final TradingSignalLogService tradingSignalLogService;
     private final TradingStrategyParamResolver strategyParamResolver;
-    private final StrategyRegistry strategyRegistry;
+    private final StrategyEvaluationCache strategyEvaluationCache;
+    private final TickerSnapshotService tickerSnapshotService;
 
     public void runOnce() {
-        List<String> markets = tradingProperties.markets().stream()
+        runCycle(resolveMarkets(null), null);
+    }
+
+    /**
+     * Runs one cycle for the markets whose signal candle starts at or after {@code expectedSignalCandle}.
+     *
+     * @param expectedSignalCandle start of the candle that must be the signal candle
+     * @param onlyMarkets          markets to evaluate, or {@code null} for every configured market
+     * @return markets that still lack the expected signal candle, failed or timed out
+     */
+    public Set<String> runOnce(Instant expectedSignalCandle, Collection<String> onlyMarkets) {
+        return runCycle(resolveMarkets(onlyMarkets), expectedSignalCandle);
+    }
+
+    private List<String> resolveMarkets(Collection<String> onlyMarkets) {
+        return tradingProperties.markets().stream()
                 .map(tradingSignalMarketDataService::normalizeMarket)
                 .filter(market -> !market.isBlank())
+                .filter(market -> onlyMarkets == null || onlyMarkets.contains(market))
                 .distinct()
                 .toList();
+    }
 
+    private Set<String> runCycle(List<String> markets, Instant expectedSignalCandle) {
         if (markets.isEmpty()) {
-            return;
+            return Set.of();
         }
 
         try {
             tradingPositionSyncService.syncPositions(markets);
         } catch (Exception e) {
             log.error("Failed to sync exchange positions. Skipping signal evaluation for this cycle.", e);
-            return;
+            return Set.copyOf(markets);
+        }
+
+        tickerSnapshotService.refresh(markets);
+        return evaluateMarkets(markets, expectedSignalCandle);
+    }
+
+    /**
+     * Evaluates markets concurrently on virtual threads.
+     *
+     * <p>At most {@code maxConcurrentMarkets} markets are in flight at once; this bounds threads and DB work, while the
+     * Upbit request budget itself is enforced by {@link UpbitRateLimiter}, whose queueing counts against the deadline.
+     * Candle fetch and strategy evaluation get {@code marketEvaluationTimeout} from the moment they start. A straggler
+     * is logged and its result abandoned so it cannot hold back the other markets, but it is not interrupted: it may be
+     * in the middle of a database write. Order submission happens after that phase, outside the deadline, and is never
+     * interrupted either: an order Upbit may already have accepted must still get its local order, fill and audit
+     * records. Before returning, the cycle waits up to one more {@code marketEvaluationTimeout} for abandoned
+     * evaluations so they do not overlap the next cycle, and logs any that are still running. It returns the markets
+     * that were not evaluated against {@code expectedSignalCandle}.
+     */
+    private Set<String> evaluateMarkets(List<String> markets, Instant expectedSignalCandle) {
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        Semaphore permits = new Semaphore(tradingProperties.maxConcurrentMarkets());
+        long timeoutMillis = tradingProperties.marketEvaluationTimeout().toMillis();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<?>> tasks = new ArrayList<>(markets.size());
+            for (String market : markets) {
+                tasks.add(executor.submit(() -> {
+                    if (!evaluateWithDeadline(executor, permits, market, expectedSignalCandle, timeoutMillis)) {
+                        pending.add(market);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("event=market_evaluation_interrupted markets={}", markets.size());
+        } catch (ExecutionException e) {
+            log.error("Unexpected failure while evaluating markets", e.getCause());
+        } finally {
+            executor.shutdown();
+            awaitStragglers(executor, timeoutMillis);
         }
+        return Set.copyOf(pending);
+    }
 
-        for (String market : markets) {
-            try {
-                evaluateMarket(market);
-            } catch (Exception e) {
-                log.error("Failed to evaluate market={}", market, e);
+    private void awaitStragglers(ExecutorService executor, long timeoutMillis) {
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("event=market_evaluation_straggler timeout_ms={}", timeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean evaluateWithDeadline(
+            ExecutorService executor,
+            Semaphore permits,
+            String market,
+            Instant expectedSignalCandle,
+            long timeoutMillis
+    ) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        try {
+            MarketDecision decision = awaitDecision(executor, market, expectedSignalCandle, timeoutMillis);
+            if (decision == null) {
+                return false;
             }
+            submit(market, decision);
+            return decision.ready();
+        } catch (Exception e) {
+            log.error("Failed to submit signal order market={}", market, e);
+            return false;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return the decision, or {@code null} when the market failed or missed its deadline
+     */
+    private MarketDecision awaitDecision(
+            ExecutorService executor,
+            String market,
+            Instant expectedSignalCandle,
+            long timeoutMillis
+    ) {
+        Future<MarketDecision> evaluation = executor.submit(() -> decide(market, expectedSignalCandle));
+        try {
+            return evaluation.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            evaluation.cancel(false);
+            log.warn("event=market_evaluation_timeout market={} timeout_ms={}", market, timeoutMillis);
+        } catch (ExecutionException e) {
+            log.error("Failed to evaluate market={}", market, e.getCause());
+        } catch (InterruptedException e) {
+            evaluation.cancel(false);
+            Thread.currentThread().interrupt();
         }
+        return null;
     }
 
-    private void evaluateMarket(String market) {
+    /**
+     * Fetches candles and evaluates the strategy. This writes candles and metrics aggregates, so a caller that gives up
+     * on it abandons the result instead of interrupting it.
+     */
+    private MarketDecision decide(String market, Instant expectedSignalCandle) {
         List<TradingDayCandleDto> candles = tradingSignalMarketDataService.fetchDailyCandles(market);
         int signalIndex = tradingSignalMarketDataService.resolveSignalIndex(candles.size());
+        if (expectedSignalCandle != null
+                && (signalIndex < 1 || candles.get(signalIndex).timestamp().isBefore(expectedSignalCandle))) {
+            log.debug("event=signal_candle_pending market={} expected={}", market, expectedSignalCandle);
+            return MarketDecision.PENDING;
+        }
         if (signalIndex < 1) {
-            return;
+            return MarketDecision.NO_ORDER;
         }
 
         if (tradingOrderGuardService.hasBlockingOrder(market)) {
-            return;
+            return MarketDecision.NO_ORDER;
         }
 
         TradingDayCandleDto signalCandle = candles.get(signalIndex);
@@ -80,58 +220,74 @@ public class TradingSignalWorkflowService {
         boolean hasPosition = sellableQty.compareTo(BigDecimal.ZERO) > 0;
 
         TradingStrategyParamResolver.ActiveStrategy activeStrategy = strategyParamResolver.resolveActive();
-        StrategyEvaluation strategyEvaluation = strategyRegistry.evaluate(
+        StrategyEvaluationCache.Lookup lookup = strategyEvaluationCache.evaluate(
+                market,
                 activeStrategy.version(),
-                candles.stream().map(this::toOhlcv).toList(),
+                activeStrategy.params(),
+                toCandleSeries(candles),
                 signalIndex,
-                toPositionSnapshot(totalPosition, sellableQty, totalAvgPrice),
-                activeStrategy.params()
+                toPositionSnapshot(totalPosition, sellableQty, totalAvgPrice)
         );
 
+        StrategyEvaluation strategyEvaluation = lookup.evaluation();
         boolean buySignal = strategyEvaluation.decision().buySignal();
         boolean sellSignal = strategyEvaluation.decision().sellSignal();
 
-        TradingExecutionMetrics executionMetrics = tradingSignalMetricsService.resolveExecutionMetrics(market);
-        double livePrice = tradingSignalMarketDataService.resolveLivePrice(market, signalCandle.close().doubleValue());
-        double unrealizedReturnPct = tradingSignalMetricsService.resolveUnrealizedReturnPct(
-                hasPosition,
-                livePrice,
-                totalAvgPrice.doubleValue()
-        );
+        // 같은 신호 캔들/포지션/파라미터로 이미 평가·기록한 경우 로그와 지표 조회를 생략한다.
+        if (!lookup.cached()) {
+            TradingExecutionMetrics executionMetrics = tradingSignalMetricsService.resolveExecutionMetrics(market);
+            double livePrice = tradingSignalMarketDataService.resolveLivePrice(market, signalCandle.close().doubleValue());
+            double unrealizedReturnPct = tradingSignalMetricsService.resolveUnrealizedReturnPct(
+                    hasPosition,
+                    livePrice,
+                    totalAvgPrice.doubleValue()
+            );
 
-        tradingSignalLogService.logCandleSignal(new TradingSignalLogService.TradingSignalLogContext(
-                market,
-                activeStrategy.version(),
-                signalCandle,
-                livePrice,
-                hasPosition,
-                sellableQty,
-                totalAvgPrice,
-                totalQty,
-                unrealizedReturnPct,
-                executionMetrics,
-                strategyEvaluation
-        ));
+            tradingSignalLogService.logCandleSignal(new TradingSignalLogService.TradingSignalLogContext(
+                    market,
+                    activeStrategy.version(),
+                    signalCandle,
+                    livePrice,
+                    hasPosition,
+                    sellableQty,
+                    totalAvgPrice,
+                    totalQty,
+                    unrealizedReturnPct,
+                    executionMetrics,
+                    strategyEvaluation
+            ));
+        }
 
         if (buySignal) {
-            tradingSignalOrderService.submitBuySignal(market, signalCandle);
-            return;
+            return new MarketDecision(true, SignalAction.BUY, signalCandle, sellableQty);
         }
-
         if (sellSignal) {
-            tradingSignalOrderService.submitSellSignal(market, signalCandle, sellableQty);
+            return new MarketDecision(true, SignalAction.SELL, signalCandle, sellableQty);
         }
+        return MarketDecision.NO_ORDER;
     }
 
-    private OhlcvCandle toOhlcv(TradingDayCandleDto candle) {
-        return new OhlcvCandle(
-                candle.timestamp(),
-                safe(candle.open()).doubleValue(),
-                safe(candle.high()).doubleValue(),
-                safe(candle.low()).doubleValue(),
-                safe(candle.close()).doubleValue(),
-                safe(candle.volume()).doubleValue()
-        );
+    private void submit(String market, MarketDecision decision) {
+        if (decision.action() == SignalAction.BUY) {
+            tradingSignalOrderService.submitBuySignal(market, decision.signalCandle());
+        } else if (decision.action() == SignalAction.SELL) {
+            tradingSignalOrderService.submitSellSignal(market, decision.signalCandle(), decision.sellableQty());
+        }
+    }
+
+    private CandleSeries toCandleSeries(List<TradingDayCandleDto> candles) {
+        CandleSeries series = new CandleSeries(candles.size());
+        for (TradingDayCandleDto candle : candles) {
+            series.append(
+                    candle.timestamp().toEpochMilli(),
+                    safe(candle.open()).doubleValue(),
+                    safe(candle.high()).doubleValue(),
+                    safe(candle.low()).doubleValue(),
+                    safe(candle.close()).doubleValue(),
+                    safe(candle.volume()).doubleValue()
+            );
+        }
+        return series;
     }
 
     private PositionSnapshot toPositionSnapshot(TradingPosition position, BigDecimal qty, BigDecimal avgPrice) {
@@ -148,4 +304,26 @@ public class TradingSignalWorkflowService {
     private BigDecimal safe(BigDecimal value) {
         return value == null ? BigDecimal.ZERO : value;
     }
+
+    private enum SignalAction {
+        BUY,
+        SELL
+    }
+
+    /**
+     * Outcome of the deadline-bound phase.
+     *
+     * @param ready  whether the market was evaluated against the expected signal candle
+     * @param action order to submit, or {@code null}
+     */
+    private record MarketDecision(
+            boolean ready,
+            SignalAction action,
+            TradingDayCandleDto signalCandle,
+            BigDecimal sellableQty
+    ) {
+
+        private static final MarketDecision PENDING = new MarketDecision(false, null, null, null);
+        private static final MarketDecision NO_ORDER = new MarketDecision(true, null, null, null);
+    }
 }
@@ -0,0 +1,68 @@
+package org.nowstart.evergreen.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.repository.UpbitFeignClient;
+import org.springframework.stereotype.Service;
+
+/**
+ * Opens {@code httpPrewarmConnections} pooled connections to Upbit ahead of time.
+ *
+ * <p>The calls run concurrently so each one leases its own connection; the ticker endpoint is used because it is
+ * cheap, and it shares the host and therefore the pool route with the order endpoints.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UpbitConnectionWarmer {
+
+    private final UpbitFeignClient upbitFeignClient;
+    private final PoolingHttpClientConnectionManager upbitConnectionManager;
+    private final TradingProperties tradingProperties;
+
+    /**
+     * @return number of warm-up calls that succeeded
+     */
+    public int warm() {
+        int connections = tradingProperties.httpPrewarmConnections();
+        String market = tradingProperties.markets().getFirst();
+        int warmed = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> calls = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                calls.add(executor.submit(() -> upbitFeignClient.getTickers(market)));
+            }
+            for (Future<?> call : calls) {
+                try {
+                    call.get();
+                    warmed++;
+                } catch (ExecutionException e) {
+                    log.warn("event=upbit_connection_prewarm_failed market={}", market, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        PoolStats stats = upbitConnectionManager.getTotalStats();
+        log.info(
+                "event=upbit_connections_prewarmed requested={} warmed={} available={} leased={}",
+                connections,
+                warmed,
+                stats.getAvailable(),
+                stats.getLeased()
+        );
+        return warmed;
+    }
+}
@@ -0,0 +1,260 @@
+package org.nowstart.evergreen.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Client-side governor for Upbit's per-group, per-second request quotas.
+ *
+ * <p>Each group ({@code order}, {@code default} for the rest of the exchange API, and the quotation groups such as
+ * {@code candle} and {@code ticker}) gets a token bucket that starts at the documented limit. Every response's
+ * {@code Remaining-Req} header ({@code group=default; min=1800; sec=29}) is treated as the server's truth: it caps the
+ * tokens left, raises the capacity when the server allows more than assumed, and remaps an endpoint when the server
+ * reports a different group than the one guessed from its path. A {@code sec=0} or a 429 closes the group for a
+ * second.
+ *
+ * <p>{@link #acquire} blocks instead of failing. Order placement and cancellation are priority callers: while one of
+ * them waits on a group, ordinary callers of that group do not take its tokens. Priority is per group on purpose.
+ * Upbit meters each group separately, so a candle or ticker call never spends order quota and holding it back would
+ * not admit an order any sooner. The contention that matters is inside {@code default}, where cancels share the quota
+ * with balance and order-status polling. Waits are recorded as
+ * {@code evergreen.exchange.ratelimit.wait{group}} and 429s as {@code evergreen.exchange.ratelimit.throttled{group}}.
+ */
+@Slf4j
+@Service
+public class UpbitRateLimiter {
+
+    public static final String REMAINING_REQ_HEADER = "Remaining-Req";
+
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long YIELD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int FALLBACK_LIMIT = 8;
+    private static final Map<String, Integer> DOCUMENTED_LIMITS = Map.of(
+            "default", 30,
+            "order", 8,
+            "market", 10,
+            "candle", 10,
+            "ticker", 10,
+            "orderbook", 10,
+            "trade", 10
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<String, Bucket> buckets = new HashMap<>();
+    private final Map<String, String> learnedGroups = new ConcurrentHashMap<>();
+
+    public UpbitRateLimiter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public String groupOf(String method, String path) {
+        String learned = learnedGroups.get(endpointKey(method, path));
+        if (learned != null) {
+            return learned;
+        }
+        if (path.startsWith("/v1/candles")) {
+            return "candle";
+        }
+        if (path.startsWith("/v1/ticker")) {
+            return "ticker";
+        }
+        if (path.startsWith("/v1/orderbook")) {
+            return "orderbook";
+        }
+        if (path.startsWith("/v1/trades")) {
+            return "trade";
+        }
+        if (path.startsWith("/v1/market")) {
+            return "market";
+        }
+        if ("POST".equals(method) && "/v1/orders".equals(path)) {
+            return "order";
+        }
+        return "default";
+    }
+
+    public static boolean isPriority(String method) {
+        return "POST".equals(method) || "DELETE".equals(method);
+    }
+
+    /**
+     * Blocks until {@code group} has a token for this caller and takes it.
+     */
+    public void acquire(String group, boolean priority) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        lock.lockInterruptibly();
+        try {
+            Bucket bucket = bucket(group);
+            if (priority) {
+                bucket.priorityWaiters++;
+            }
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    bucket.refill(now);
+                    long waitNanos = bucket.nanosUntilToken(now);
+                    boolean yieldToPriority = !priority && bucket.priorityWaiters > 0;
+                    if (waitNanos == 0 && !yieldToPriority) {
+                        bucket.tokens -= 1;
+                        break;
+                    }
+                    changed.awaitNanos(waitNanos == 0 ? YIELD_NANOS : waitNanos);
+                }
+            } finally {
+                if (priority) {
+                    bucket.priorityWaiters--;
+                    changed.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        Timer.builder("evergreen.exchange.ratelimit.wait")
+                .tag("group", group)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Folds one response into the bucket state.
+     *
+     * @param requestGroup    group the request was admitted under
+     * @param remainingHeader raw {@code Remaining-Req} value, or {@code null}
+     */
+    public void update(String requestGroup, String method, String path, String remainingHeader, int status) {
+        RemainingReq remaining = RemainingReq.parse(remainingHeader);
+        String group = requestGroup;
+        if (remaining != null && !remaining.group().equals(requestGroup)) {
+            group = remaining.group();
+            learnedGroups.put(endpointKey(method, path), group);
+            log.info("event=upbit_rate_limit_group_learned method={} path={} group={}", method, path, group);
+        }
+
+        lock.lock();
+        try {
+            Bucket bucket = bucket(group);
+            long now = System.nanoTime();
+            bucket.refill(now);
+            if (remaining != null) {
+                bucket.observe(remaining.sec(), now);
+            }
+            if (status == 429) {
+                bucket.block(now);
+                Counter.builder("evergreen.exchange.ratelimit.throttled")
+                        .tag("group", group)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("event=upbit_rate_limited group={} method={} path={}", group, method, path);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Bucket bucket(String group) {
+        return buckets.computeIfAbsent(group, key -> new Bucket(DOCUMENTED_LIMITS.getOrDefault(key, FALLBACK_LIMIT)));
+    }
+
+    private static String endpointKey(String method, String path) {
+        return method + " " + path;
+    }
+
+    record RemainingReq(String group, int sec) {
+
+        static RemainingReq parse(String header) {
+            if (header == null || header.isBlank()) {
+                return null;
+            }
+            String group = null;
+            Integer sec = null;
+            for (String part : header.split(";")) {
+                int separator = part.indexOf('=');
+                if (separator < 0) {
+                    continue;
+                }
+                String key = part.substring(0, separator).trim();
+                String value = part.substring(separator + 1).trim();
+                if ("group".equals(key)) {
+                    group = value;
+                } else if ("sec".equals(key)) {
+                    try {
+                        sec = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+            }
+            return group == null || group.isEmpty() || sec == null ? null : new RemainingReq(group, sec);
+        }
+    }
+
+    /**
+     * Continuous-refill bucket guarded by the limiter lock.
+     */
+    private static final class Bucket {
+
+        private int capacity;
+        private double tokens;
+        private long refilledAt;
+        private long blockedUntil;
+        private int priorityWaiters;
+
+        private Bucket(int capacity) {
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+            this.blockedUntil = refilledAt;
+        }
+
+        private void refill(long now) {
+            if (now - blockedUntil < 0) {
+                refilledAt = now;
+                return;
+            }
+            long from = blockedUntil - refilledAt > 0 ? blockedUntil : refilledAt;
+            long elapsed = now - from;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + (double) elapsed * capacity / SECOND_NANOS);
+            }
+            refilledAt = now;
+        }
+
+        private long nanosUntilToken(long now) {
+            if (now - blockedUntil < 0) {
+                return blockedUntil - now;
+            }
+            if (tokens >= 1) {
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) * SECOND_NANOS / capacity));
+        }
+
+        private void observe(int remainingThisSecond, long now) {
+            if (remainingThisSecond + 1 > capacity) {
+                capacity = remainingThisSecond + 1;
+            }
+            tokens = Math.min(tokens, remainingThisSecond);
+            if (remainingThisSecond <= 0) {
+                block(now);
+            }
+        }
+
+        private void block(long now) {
+            tokens = 0;
+            blockedUntil = now + SECOND_NANOS;
+        }
+    }
+}
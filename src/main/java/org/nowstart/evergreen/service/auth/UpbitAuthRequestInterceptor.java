@@ -1,85 +1,70 @@
 package org.nowstart.evergreen.service.auth;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class UpbitAuthRequestInterceptor implements RequestInterceptor {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     private final UpbitJwtSigner upbitJwtSigner;
 
     @Override
     public void apply(RequestTemplate template) {
         String canonicalQuery = buildCanonicalQuery(template);
         String token = upbitJwtSigner.createToken(canonicalQuery);
-        template.header("Authorization", "Bearer " + token);
-        template.header("Accept", "application/json");
-        template.header("User-Agent", "evergreen-backtest/1.0");
+        // Feign re-applies interceptors to the same template on every retry, so headers are replaced, not appended.
+        replaceHeader(template, "Authorization", "Bearer " + token);
+        replaceHeader(template, "Accept", "application/json");
+        replaceHeader(template, "User-Agent", "evergreen-backtest/1.0");
+    }
+
+    private void replaceHeader(RequestTemplate template, String name, String value) {
+        template.removeHeader(name);
+        template.header(name, value);
     }
 
     private String buildCanonicalQuery(RequestTemplate template) {
+        Collection<String> encoded = template.headers().get(UpbitCanonicalQueryEncoder.CANONICAL_QUERY_HEADER);
+        if (encoded != null) {
+            // Left on the template so a retry signs the same query; UpbitRateLimitedClient strips it before sending.
+            return encoded.isEmpty() ? "" : encoded.iterator().next();
+        }
+
         byte[] body = template.body();
         if (body != null && body.length > 0) {
-            try {
-                Map<String, Object> map = OBJECT_MAPPER.readValue(body, new TypeReference<>() {});
-                return toCanonicalQuery(map);
-            } catch (IOException e) {
-                return new String(body, StandardCharsets.UTF_8);
-            }
+            throw new IllegalStateException(
+                    "Upbit request body has no canonical query; encode it through UpbitCanonicalQueryEncoder. url="
+                            + template.url()
+            );
         }
 
         if (template.queries() == null || template.queries().isEmpty()) {
             return "";
         }
 
-        Map<String, Object> query = new LinkedHashMap<>();
-        template.queries().forEach((key, values) -> {
-            if (values == null || values.isEmpty()) {
-                return;
-            }
-            if (values.size() == 1) {
-                query.put(key, values.iterator().next());
-                return;
-            }
-            query.put(key, new ArrayList<>(values));
-        });
-
-        return toCanonicalQuery(query);
-    }
+        List<String> keys = new ArrayList<>(template.queries().keySet());
+        keys.sort(null);
 
-    private String toCanonicalQuery(Map<String, Object> payload) {
-        List<Map.Entry<String, Object>> entries = new ArrayList<>(payload.entrySet());
-        entries.sort(Comparator.comparing(Map.Entry::getKey));
-
-        List<String> pairs = new ArrayList<>();
-        for (Map.Entry<String, Object> entry : entries) {
-            Object value = entry.getValue();
-            if (value == null) {
+        StringBuilder query = new StringBuilder();
+        for (String key : keys) {
+            Collection<String> values = template.queries().get(key);
+            if (values == null) {
                 continue;
             }
-            if (value instanceof List<?> list) {
-                for (Object item : list) {
-                    if (item != null) {
-                        pairs.add(entry.getKey() + "=" + item);
-                    }
+            for (String value : values) {
+                if (value == null) {
+                    continue;
+                }
+                if (!query.isEmpty()) {
+                    query.append('&');
                 }
-            } else {
-                pairs.add(entry.getKey() + "=" + value);
+                query.append(key).append('=').append(value);
             }
         }
-
-        return String.join("&", pairs);
+        return query.toString();
     }
 }
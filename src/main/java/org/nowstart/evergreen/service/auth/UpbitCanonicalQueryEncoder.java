@@ -0,0 +1,32 @@
+package org.nowstart.evergreen.service.auth;
+
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import java.lang.reflect.Type;
+import lombok.RequiredArgsConstructor;
+import org.nowstart.evergreen.data.dto.UpbitCreateOrderRequest;
+
+/**
+ * Encodes Upbit request bodies and records their canonical query alongside.
+ *
+ * <p>The body itself is written by the delegate. For bodies that know their parameters the canonical
+ * {@code key=value} string is attached as {@link #CANONICAL_QUERY_HEADER}, which
+ * {@link UpbitAuthRequestInterceptor} hashes on every attempt, so the JSON is never parsed back. The header stays on
+ * the template for retries and is stripped by {@code UpbitRateLimitedClient} before the request leaves.
+ */
+@RequiredArgsConstructor
+public class UpbitCanonicalQueryEncoder implements Encoder {
+
+    public static final String CANONICAL_QUERY_HEADER = "X-Evergreen-Canonical-Query";
+
+    private final Encoder delegate;
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) throws EncodeException {
+        delegate.encode(object, bodyType, template);
+        if (object instanceof UpbitCreateOrderRequest request) {
+            template.header(CANONICAL_QUERY_HEADER, request.canonicalQuery());
+        }
+    }
+}
@@ -1,82 +1,290 @@
 package org.nowstart.evergreen.service.auth;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
+/**
+ * HS512 JWT signer for the Upbit private API.
+ *
+ * <p>Everything that does not change between requests is prepared once: the encoded header segment, the
+ * {@code access_key} prefix of the payload and an initialized HMAC prototype. A signing call borrows a context
+ * holding its own {@link Mac}/{@link MessageDigest} clone and reusable byte buffers from a small bounded pool, so a
+ * token costs one {@link String} plus what the JCE providers allocate internally. The pool is used instead of a
+ * {@link ThreadLocal} because requests may run on short-lived virtual threads, which would build a fresh context per
+ * call. When the pool is empty a new context is created, and when it is full a returned context is dropped.
+ * Instances are thread-safe; a context is used by one caller at a time.
+ */
 public class UpbitJwtSigner {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String HMAC_ALGORITHM = "HmacSHA512";
+    private static final String DIGEST_ALGORITHM = "SHA-512";
+    private static final int SHA512_BYTES = 64;
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final HexFormat HEX = HexFormat.of();
+    private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEADER_SEGMENT = encodeSegment("{\"alg\":\"HS512\",\"typ\":\"JWT\"}");
+    private static final byte[] NONCE_FIELD = ",\"nonce\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] QUERY_HASH_FIELD = "\",\"query_hash\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] QUERY_HASH_ALG_FIELD = "\",\"query_hash_alg\":\"SHA512\"}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PAYLOAD_END = "\"}".getBytes(StandardCharsets.US_ASCII);
 
-    private final String accessKey;
-    private final String secretKey;
+    private final byte[] accessKeyField;
+    private final SecretKeySpec signingKey;
+    private final Mac macPrototype;
+    private final BlockingQueue<SigningContext> idleContexts = new ArrayBlockingQueue<>(POOL_SIZE);
 
-    public String createToken(String canonicalQuery) {
-        Map<String, Object> header = Map.of(
-                "alg", "HS512",
-                "typ", "JWT"
-        );
-
-        Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("access_key", accessKey);
-        payload.put("nonce", UUID.randomUUID().toString());
+    public UpbitJwtSigner(String accessKey, String secretKey) {
+        this.accessKeyField = ("{\"access_key\":\"" + escapeJson(accessKey == null ? "" : accessKey) + "\"")
+                .getBytes(StandardCharsets.UTF_8);
+        this.signingKey = secretKey == null || secretKey.isEmpty()
+                ? null
+                : new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.macPrototype = signingKey == null ? null : newMac(signingKey);
+    }
 
-        if (canonicalQuery != null && !canonicalQuery.isBlank()) {
-            payload.put("query_hash", sha512Hex(canonicalQuery));
-            payload.put("query_hash_alg", "SHA512");
+    public String createToken(String canonicalQuery) {
+        if (macPrototype == null) {
+            throw new IllegalStateException("Failed to sign JWT: secret key is not configured");
+        }
+        SigningContext context = idleContexts.poll();
+        if (context == null) {
+            context = newContext();
+        }
+        try {
+            return context.sign(canonicalQuery);
+        } finally {
+            idleContexts.offer(context);
         }
+    }
 
-        String headerEncoded = base64UrlEncode(toJson(header));
-        String payloadEncoded = base64UrlEncode(toJson(payload));
-        String signingInput = headerEncoded + "." + payloadEncoded;
+    int idleContextCount() {
+        return idleContexts.size();
+    }
 
-        return signingInput + "." + hmacSha512Base64Url(signingInput, secretKey);
+    private SigningContext newContext() {
+        return new SigningContext(cloneMac(), newSha512());
     }
 
-    private static String toJson(Map<String, Object> obj) {
+    private Mac cloneMac() {
         try {
-            return OBJECT_MAPPER.writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Failed to serialize JWT payload", e);
+            return (Mac) macPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // Providers without clone support still get one instance per context, initialized once.
+            return newMac(signingKey);
         }
     }
 
-    private static String base64UrlEncode(String value) {
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign JWT", e);
+        }
     }
 
-    private static String sha512Hex(String value) {
+    private static MessageDigest newSha512() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-512");
-            byte[] hashed = digest.digest(value.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(hashed.length * 2);
-            for (byte b : hashed) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("SHA-512 not available", e);
         }
     }
 
-    private static String hmacSha512Base64Url(String value, String secret) {
-        try {
-            Mac mac = Mac.getInstance("HmacSHA512");
-            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
-            byte[] sig = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(sig);
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to sign JWT", e);
+    private static byte[] encodeSegment(String json) {
+        byte[] raw = json.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = new byte[encodedLength(raw.length)];
+        base64Url(raw, 0, raw.length, encoded, 0);
+        return encoded;
+    }
+
+    private static int encodedLength(int length) {
+        return (length / 3) * 4 + switch (length % 3) {
+            case 1 -> 2;
+            case 2 -> 3;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Unpadded base64url of {@code src[from, from + length)} written at {@code dst[offset]}.
+     *
+     * @return offset just past the last written byte
+     */
+    private static int base64Url(byte[] src, int from, int length, byte[] dst, int offset) {
+        int end = from + length;
+        int index = from;
+        int out = offset;
+        while (end - index >= 3) {
+            int bits = (src[index] & 0xff) << 16 | (src[index + 1] & 0xff) << 8 | (src[index + 2] & 0xff);
+            dst[out] = BASE64_URL[(bits >>> 18) & 0x3f];
+            dst[out + 1] = BASE64_URL[(bits >>> 12) & 0x3f];
+            dst[out + 2] = BASE64_URL[(bits >>> 6) & 0x3f];
+            dst[out + 3] = BASE64_URL[bits & 0x3f];
+            index += 3;
+            out += 4;
+        }
+        int remaining = end - index;
+        if (remaining == 1) {
+            int bits = (src[index] & 0xff) << 16;
+            dst[out++] = BASE64_URL[(bits >>> 18) & 0x3f];
+            dst[out++] = BASE64_URL[(bits >>> 12) & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (src[index] & 0xff) << 16 | (src[index + 1] & 0xff) << 8;
+            dst[out++] = BASE64_URL[(bits >>> 18) & 0x3f];
+            dst[out++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            dst[out++] = BASE64_URL[(bits >>> 6) & 0x3f];
+        }
+        return out;
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append("\\u00").append(HEX.toHexDigits((byte) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Signing state used by one caller at a time. Buffers only grow, so steady-state signing reuses them.
+     */
+    private final class SigningContext {
+
+        private final Mac mac;
+        private final MessageDigest digest;
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] nonceBytes = new byte[16];
+        private final byte[] hash = new byte[SHA512_BYTES];
+        private final byte[] signature = new byte[SHA512_BYTES];
+        private byte[] query = new byte[256];
+        private byte[] payload = new byte[512];
+        private byte[] token = new byte[1024];
+
+        private SigningContext(Mac mac, MessageDigest digest) {
+            this.mac = mac;
+            this.digest = digest;
+        }
+
+        private String sign(String canonicalQuery) {
+            int payloadLength = writePayload(canonicalQuery);
+
+            int tokenLength = HEADER_SEGMENT.length + 1 + encodedLength(payloadLength) + 1 + encodedLength(SHA512_BYTES);
+            if (token.length < tokenLength) {
+                token = new byte[tokenLength];
+            }
+            System.arraycopy(HEADER_SEGMENT, 0, token, 0, HEADER_SEGMENT.length);
+            int position = HEADER_SEGMENT.length;
+            token[position++] = '.';
+            position = base64Url(payload, 0, payloadLength, token, position);
+
+            try {
+                mac.update(token, 0, position);
+                mac.doFinal(signature, 0);
+            } catch (GeneralSecurityException | IllegalStateException e) {
+                mac.reset();
+                throw new IllegalStateException("Failed to sign JWT", e);
+            }
+            token[position++] = '.';
+            position = base64Url(signature, 0, SHA512_BYTES, token, position);
+
+            return new String(token, 0, position, StandardCharsets.ISO_8859_1);
+        }
+
+        private int writePayload(String canonicalQuery) {
+            boolean hasQuery = canonicalQuery != null && !canonicalQuery.isBlank();
+            int capacity = accessKeyField.length + NONCE_FIELD.length + 36 + QUERY_HASH_FIELD.length
+                    + SHA512_BYTES * 2 + QUERY_HASH_ALG_FIELD.length;
+            if (payload.length < capacity) {
+                payload = new byte[capacity];
+            }
+
+            int position = put(accessKeyField, 0);
+            position = put(NONCE_FIELD, position);
+            position = writeNonce(position);
+            if (!hasQuery) {
+                return put(PAYLOAD_END, position);
+            }
+
+            position = put(QUERY_HASH_FIELD, position);
+            hashQuery(canonicalQuery);
+            for (byte b : hash) {
+                payload[position++] = (byte) HEX.toHighHexDigit(b);
+                payload[position++] = (byte) HEX.toLowHexDigit(b);
+            }
+            return put(QUERY_HASH_ALG_FIELD, position);
+        }
+
+        /**
+         * Random (version 4) UUID in canonical text form, written without a {@link java.util.UUID} instance.
+         */
+        private int writeNonce(int position) {
+            random.nextBytes(nonceBytes);
+            nonceBytes[6] = (byte) ((nonceBytes[6] & 0x0f) | 0x40);
+            nonceBytes[8] = (byte) ((nonceBytes[8] & 0x3f) | 0x80);
+            for (int i = 0; i < nonceBytes.length; i++) {
+                if (i == 4 || i == 6 || i == 8 || i == 10) {
+                    payload[position++] = '-';
+                }
+                payload[position++] = (byte) HEX.toHighHexDigit(nonceBytes[i]);
+                payload[position++] = (byte) HEX.toLowHexDigit(nonceBytes[i]);
+            }
+            return position;
+        }
+
+        private void hashQuery(String canonicalQuery) {
+            int length = canonicalQuery.length();
+            if (query.length < length) {
+                query = new byte[Math.max(length, query.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = canonicalQuery.charAt(i);
+                if (c >= 0x80) {
+                    // Non-ASCII queries are rare; hash their UTF-8 bytes the simple way.
+                    digest.update(canonicalQuery.getBytes(StandardCharsets.UTF_8));
+                    finishDigest();
+                    return;
+                }
+                query[i] = (byte) c;
+            }
+            digest.update(query, 0, length);
+            finishDigest();
+        }
+
+        private void finishDigest() {
+            try {
+                digest.digest(hash, 0, SHA512_BYTES);
+            } catch (DigestException e) {
+                digest.reset();
+                throw new IllegalStateException("Failed to hash JWT query", e);
+            }
+        }
+
+        private int put(byte[] source, int position) {
+            System.arraycopy(source, 0, payload, position, source.length);
+            return position + source.length;
         }
     }
 }
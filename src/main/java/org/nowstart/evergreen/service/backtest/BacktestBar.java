@@ -0,0 +1,30 @@
+package org.nowstart.evergreen.service.backtest;
+
+import java.time.Instant;
+import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
+
+/**
+ * One simulated bar.
+ *
+ * @param timestamp           candle timestamp
+ * @param open                candle open used for execution
+ * @param close               candle close used for the signal
+ * @param exposure            exposure held from this open to the next open ({@code 0.0} or {@code 1.0})
+ * @param openToOpenReturn    return from this open to the next open ({@code 0.0} on the last bar)
+ * @param turnover            absolute exposure change executed at this open
+ * @param equity              strategy equity after this bar
+ * @param equityBuyAndHold    buy-and-hold equity after this bar
+ * @param evaluation          strategy evaluation at this close, {@code null} for the first bar
+ */
+public record BacktestBar(
+        Instant timestamp,
+        double open,
+        double close,
+        double exposure,
+        double openToOpenReturn,
+        double turnover,
+        double equity,
+        double equityBuyAndHold,
+        StrategyEvaluation evaluation
+) {
+}
@@ -0,0 +1,25 @@
+package org.nowstart.evergreen.service.backtest;
+
+/**
+ * Per-side trading costs applied to every unit of turnover.
+ *
+ * @param feeRate  exchange fee rate per side (for example {@code 0.0005})
+ * @param slippage expected slippage rate per side
+ */
+public record BacktestCosts(
+        double feeRate,
+        double slippage
+) {
+
+    public static final BacktestCosts DEFAULT = new BacktestCosts(0.0005, 0.0002);
+
+    public BacktestCosts {
+        if (!Double.isFinite(feeRate) || !Double.isFinite(slippage) || feeRate < 0.0 || slippage < 0.0) {
+            throw new IllegalArgumentException("feeRate and slippage must be finite and >= 0");
+        }
+    }
+
+    public double costPerUnit() {
+        return feeRate + slippage;
+    }
+}
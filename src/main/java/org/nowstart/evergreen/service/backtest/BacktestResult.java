@@ -0,0 +1,16 @@
+package org.nowstart.evergreen.service.backtest;
+
+import java.util.List;
+
+public record BacktestResult(
+        BacktestSummary summary,
+        List<BacktestBar> bars
+) {
+
+    public BacktestResult {
+        if (summary == null) {
+            throw new IllegalArgumentException("summary is required");
+        }
+        bars = bars == null ? List.of() : List.copyOf(bars);
+    }
+}
@@ -0,0 +1,66 @@
+package org.nowstart.evergreen.service.backtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.nowstart.evergreen.service.strategy.StrategyRegistry;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
+import org.nowstart.evergreen.service.strategy.core.StrategyParams;
+import org.springframework.stereotype.Service;
+
+/**
+ * Replays a strategy over a candle history and simulates an all-in/all-out daily account.
+ *
+ * <p>Signals come from the registered {@link org.nowstart.evergreen.service.strategy.core.TradingStrategyEngine}
+ * through a single {@code evaluateRange} pass, so research results and live decisions share one implementation.
+ * A signal at close {@code i} is filled at open {@code i + 1}; returns, turnover costs, CAGR and MDD follow the
+ * research backtest in {@code src/test/python/v5.py}.
+ */
+@Service
+@RequiredArgsConstructor
+public class BacktestService {
+
+    private final StrategyRegistry strategyRegistry;
+
+    public BacktestResult backtest(
+            String strategyVersion,
+            CandleSeries candles,
+            StrategyParams params,
+            BacktestCosts costs
+    ) {
+        if (candles == null || candles.size() < 2) {
+            throw new IllegalArgumentException("At least 2 candles are required");
+        }
+        if (costs == null) {
+            throw new IllegalArgumentException("costs are required");
+        }
+
+        SimulatedPosition position = new SimulatedPosition(candles);
+        List<StrategyEvaluation> evaluations = strategyRegistry.evaluateRange(
+                strategyVersion,
+                candles,
+                1,
+                candles.size(),
+                position,
+                params
+        );
+        EquitySimulation simulation = EquitySimulation.run(candles, position.exposure(), costs);
+
+        List<BacktestBar> bars = new ArrayList<>(candles.size());
+        for (int i = 0; i < candles.size(); i++) {
+            bars.add(new BacktestBar(
+                    candles.timestamp(i),
+                    candles.open(i),
+                    candles.close(i),
+                    position.exposure()[i],
+                    simulation.openToOpenReturn(i),
+                    simulation.turnover(i),
+                    simulation.equity(i),
+                    simulation.equityBuyAndHold(i),
+                    i == 0 ? null : evaluations.get(i - 1)
+            ));
+        }
+        return new BacktestResult(simulation.summary(), bars);
+    }
+}
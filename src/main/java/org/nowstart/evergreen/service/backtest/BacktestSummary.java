@@ -0,0 +1,25 @@
+package org.nowstart.evergreen.service.backtest;
+
+import java.time.Instant;
+
+/**
+ * Headline metrics of one backtest run.
+ *
+ * @param finalEquity            strategy equity at the last bar, starting from {@code 1.0}
+ * @param finalEquityBuyAndHold  buy-and-hold equity at the last bar after one entry cost
+ * @param cagr                   compound annual growth rate of the strategy equity
+ * @param mdd                    maximum drawdown of the strategy equity (zero or negative)
+ * @param trades                 number of bars with non-zero turnover
+ * @param from                   timestamp of the first bar
+ * @param to                     timestamp of the last bar
+ */
+public record BacktestSummary(
+        double finalEquity,
+        double finalEquityBuyAndHold,
+        double cagr,
+        double mdd,
+        int trades,
+        Instant from,
+        Instant to
+) {
+}
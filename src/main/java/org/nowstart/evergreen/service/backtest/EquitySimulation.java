@@ -0,0 +1,116 @@
+package org.nowstart.evergreen.service.backtest;
+
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+
+/**
+ * Open-to-open equity curve for a given exposure path.
+ *
+ * <p>Exposure {@code e[i]} earns {@code open[i+1] / open[i] - 1}, and every change of exposure pays
+ * {@link BacktestCosts#costPerUnit()} per unit of turnover. Equity is floored at {@link #MIN_EQUITY} so CAGR stays
+ * defined after a wipe-out. Buy-and-hold pays one entry cost at the first bar.
+ */
+final class EquitySimulation {
+
+    static final double MIN_EQUITY = 1e-12;
+    private static final double TRADE_EPSILON = 1e-12;
+    private static final double DAYS_PER_YEAR = 365.25;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final double[] openToOpenReturn;
+    private final double[] turnover;
+    private final double[] equity;
+    private final double[] equityBuyAndHold;
+    private final BacktestSummary summary;
+
+    private EquitySimulation(CandleSeries candles, double[] exposure, BacktestCosts costs) {
+        int n = candles.size();
+        openToOpenReturn = new double[n];
+        turnover = new double[n];
+        equity = new double[n];
+        equityBuyAndHold = new double[n];
+
+        for (int i = 0; i < n - 1; i++) {
+            openToOpenReturn[i] = (candles.open(i + 1) / candles.open(i)) - 1.0;
+        }
+        turnover[0] = Math.abs(exposure[0]);
+        for (int i = 1; i < n; i++) {
+            turnover[i] = Math.abs(exposure[i] - exposure[i - 1]);
+        }
+
+        double costPerUnit = costs.costPerUnit();
+        equity[0] = 1.0;
+        equityBuyAndHold[0] = Math.max(MIN_EQUITY, 1.0 - costPerUnit);
+        for (int i = 1; i < n; i++) {
+            double gross = 1.0 + (exposure[i] * openToOpenReturn[i]) - (turnover[i] * costPerUnit);
+            equity[i] = compound(equity[i - 1], gross);
+            equityBuyAndHold[i] = compound(equityBuyAndHold[i - 1], 1.0 + openToOpenReturn[i]);
+        }
+
+        double finalEquity = equity[n - 1];
+        long days = Math.floorDiv(candles.epochMillis(n - 1) - candles.epochMillis(0), MILLIS_PER_DAY);
+        double years = Math.max(1.0 / DAYS_PER_YEAR, days / DAYS_PER_YEAR);
+        summary = new BacktestSummary(
+                finalEquity,
+                equityBuyAndHold[n - 1],
+                Math.pow(finalEquity, 1.0 / years) - 1.0,
+                maxDrawdown(equity),
+                countTrades(turnover),
+                candles.timestamp(0),
+                candles.timestamp(n - 1)
+        );
+    }
+
+    static EquitySimulation run(CandleSeries candles, double[] exposure, BacktestCosts costs) {
+        if (candles.size() < 2 || exposure.length != candles.size()) {
+            throw new IllegalArgumentException("At least 2 candles and one exposure per candle are required");
+        }
+        return new EquitySimulation(candles, exposure, costs);
+    }
+
+    double openToOpenReturn(int index) {
+        return openToOpenReturn[index];
+    }
+
+    double turnover(int index) {
+        return turnover[index];
+    }
+
+    double equity(int index) {
+        return equity[index];
+    }
+
+    double equityBuyAndHold(int index) {
+        return equityBuyAndHold[index];
+    }
+
+    BacktestSummary summary() {
+        return summary;
+    }
+
+    private static double compound(double previous, double gross) {
+        if (!Double.isFinite(gross) || gross <= 0.0) {
+            return MIN_EQUITY;
+        }
+        return Math.max(MIN_EQUITY, previous * gross);
+    }
+
+    private static double maxDrawdown(double[] equity) {
+        double peak = equity[0];
+        double mdd = 0.0;
+        for (double value : equity) {
+            peak = Math.max(peak, value);
+            mdd = Math.min(mdd, (value / peak) - 1.0);
+        }
+        return mdd;
+    }
+
+    private static int countTrades(double[] turnover) {
+        int trades = 0;
+        for (double value : turnover) {
+            if (value > TRADE_EPSILON) {
+                trades++;
+            }
+        }
+        return trades;
+    }
+}
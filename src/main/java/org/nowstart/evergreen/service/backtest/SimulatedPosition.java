@@ -0,0 +1,56 @@
+package org.nowstart.evergreen.service.backtest;
+
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+import org.nowstart.evergreen.service.strategy.core.PositionTimeline;
+import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
+
+/**
+ * All-in/all-out position driven by the strategy's own decisions.
+ *
+ * <p>A signal at close {@code i} is filled at open {@code i + 1}, so the position reported for index {@code i} is the
+ * one carried in from the previous close. The entry timestamp is the fill candle, which makes the engine's
+ * highest-close-since-entry start at the first held bar.
+ */
+final class SimulatedPosition implements PositionTimeline {
+
+    private final CandleSeries candles;
+    private final double[] exposure;
+    private boolean holding;
+    private PositionSnapshot held;
+
+    SimulatedPosition(CandleSeries candles) {
+        this.candles = candles;
+        this.exposure = new double[candles.size()];
+    }
+
+    @Override
+    public PositionSnapshot positionAt(int index) {
+        if (!holding) {
+            exposure[index] = 0.0;
+            return PositionSnapshot.EMPTY;
+        }
+        if (held == null) {
+            held = new PositionSnapshot(1.0, candles.open(index), candles.timestamp(index));
+        }
+        exposure[index] = 1.0;
+        return held;
+    }
+
+    @Override
+    public void onEvaluation(int index, StrategyEvaluation evaluation) {
+        if (evaluation.decision().sellSignal()) {
+            holding = false;
+            held = null;
+        } else if (evaluation.decision().buySignal()) {
+            holding = true;
+        }
+    }
+
+    /**
+     * Returns the exposure carried into each bar's open. Index {@code 0} is always flat.
+     */
+    double[] exposure() {
+        return exposure;
+    }
+}
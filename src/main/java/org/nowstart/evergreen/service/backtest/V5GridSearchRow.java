@@ -0,0 +1,17 @@
+package org.nowstart.evergreen.service.backtest;
+
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyOverrides;
+
+/**
+ * One ranked grid-search candidate.
+ *
+ * @param params      evaluated parameter set
+ * @param calmarLike  {@code cagr / |mdd|}, {@code NaN} when there was no drawdown
+ * @param summary     backtest summary for {@code params}
+ */
+public record V5GridSearchRow(
+        V5StrategyOverrides params,
+        double calmarLike,
+        BacktestSummary summary
+) {
+}
@@ -0,0 +1,180 @@
+package org.nowstart.evergreen.service.backtest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.v5.V5IndicatorCache;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyEngine;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyOverrides;
+import org.springframework.stereotype.Service;
+
+/**
+ * Parallel grid search over {@link V5StrategyOverrides}.
+ *
+ * <p>Combinations are split over a dedicated {@link ForkJoinPool} and share one {@link V5IndicatorCache}, so each
+ * distinct EMA length, ATR period, regime band and volatility lookback is computed once per series. Rows are ranked
+ * by calmar-like ratio, then CAGR, then final equity, with non-finite values sorted last. Combinations with
+ * {@code atrMultHighVol < atrMultLowVol} are skipped, as the research backtest rejects them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class V5GridSearchService {
+
+    private static final int SEQUENTIAL_THRESHOLD = 8;
+    private static final Comparator<V5GridSearchRow> RANKING = Comparator
+            .comparingDouble((V5GridSearchRow row) -> rankValue(row.calmarLike()))
+            .thenComparingDouble(row -> rankValue(row.summary().cagr()))
+            .thenComparingDouble(row -> rankValue(row.summary().finalEquity()))
+            .reversed();
+
+    private final V5StrategyEngine strategyEngine;
+
+    public List<V5GridSearchRow> search(CandleSeries candles, V5GridSearchSpace space, BacktestCosts costs, int topK) {
+        return search(candles, space, costs, topK, Runtime.getRuntime().availableProcessors());
+    }
+
+    public List<V5GridSearchRow> search(
+            CandleSeries candles,
+            V5GridSearchSpace space,
+            BacktestCosts costs,
+            int topK,
+            int parallelism
+    ) {
+        if (candles == null || candles.size() < 2) {
+            throw new IllegalArgumentException("At least 2 candles are required");
+        }
+        return search(strategyEngine.indicatorCache(candles), candles.size(), space, costs, topK, parallelism);
+    }
+
+    /**
+     * Searches over the prefix {@code [0, barCount)} of the cached series.
+     *
+     * <p>All V5 indicators are causal, so a cache built on the full series serves every prefix; expanding
+     * walk-forward train windows share one cache this way.
+     */
+    List<V5GridSearchRow> search(
+            V5IndicatorCache indicators,
+            int barCount,
+            V5GridSearchSpace space,
+            BacktestCosts costs,
+            int topK,
+            int parallelism
+    ) {
+        if (barCount < 2 || barCount > indicators.candles().size()) {
+            throw new IllegalArgumentException("barCount must be in [2, candles.size()], actual=" + barCount);
+        }
+        if (space == null || costs == null) {
+            throw new IllegalArgumentException("space and costs are required");
+        }
+        if (topK <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("topK and parallelism must be > 0");
+        }
+
+        long startedAt = System.nanoTime();
+        int combinations = space.combinationCount();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        List<V5GridSearchRow> rows;
+        try {
+            rows = pool.invoke(new SearchTask(indicators, barCount, space, costs, 0, combinations));
+        } finally {
+            pool.shutdown();
+        }
+
+        List<V5GridSearchRow> ranked = new ArrayList<>(rows);
+        ranked.sort(RANKING);
+        log.info(
+                "event=grid_search_completed bars={} combinations={} evaluated={} parallelism={} elapsed_ms={}",
+                barCount,
+                combinations,
+                rows.size(),
+                parallelism,
+                (System.nanoTime() - startedAt) / 1_000_000L
+        );
+        return List.copyOf(ranked.subList(0, Math.min(topK, ranked.size())));
+    }
+
+    /**
+     * Backtests {@code params} over the prefix {@code [0, barCount)} of the cached series.
+     */
+    BacktestSummary backtest(V5IndicatorCache indicators, int barCount, V5StrategyOverrides params, BacktestCosts costs) {
+        CandleSeries candles = indicators.candles();
+        CandleSeries window = barCount == candles.size() ? candles : candles.window(0, barCount);
+        SimulatedPosition position = new SimulatedPosition(window);
+        strategyEngine.evaluateRange(candles, 1, barCount, position, params, indicators);
+        return EquitySimulation.run(window, position.exposure(), costs).summary();
+    }
+
+    private V5GridSearchRow evaluate(
+            V5IndicatorCache indicators,
+            int barCount,
+            V5StrategyOverrides params,
+            BacktestCosts costs
+    ) {
+        if (params.atrMultHighVol().compareTo(params.atrMultLowVol()) < 0) {
+            return null;
+        }
+
+        BacktestSummary summary = backtest(indicators, barCount, params, costs);
+        double calmarLike = summary.mdd() == 0.0 ? Double.NaN : summary.cagr() / Math.abs(summary.mdd());
+        return new V5GridSearchRow(params, calmarLike, summary);
+    }
+
+    private static double rankValue(double value) {
+        return Double.isFinite(value) ? value : Double.NEGATIVE_INFINITY;
+    }
+
+    private final class SearchTask extends RecursiveTask<List<V5GridSearchRow>> {
+
+        private final V5IndicatorCache indicators;
+        private final int barCount;
+        private final V5GridSearchSpace space;
+        private final BacktestCosts costs;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private SearchTask(
+                V5IndicatorCache indicators,
+                int barCount,
+                V5GridSearchSpace space,
+                BacktestCosts costs,
+                int fromIndex,
+                int toIndex
+        ) {
+            this.indicators = indicators;
+            this.barCount = barCount;
+            this.space = space;
+            this.costs = costs;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected List<V5GridSearchRow> compute() {
+            if (toIndex - fromIndex <= SEQUENTIAL_THRESHOLD) {
+                List<V5GridSearchRow> rows = new ArrayList<>(toIndex - fromIndex);
+                for (int i = fromIndex; i < toIndex; i++) {
+                    V5GridSearchRow row = evaluate(indicators, barCount, space.combination(i), costs);
+                    if (row != null) {
+                        rows.add(row);
+                    }
+                }
+                return rows;
+            }
+
+            int middle = (fromIndex + toIndex) >>> 1;
+            SearchTask left = new SearchTask(indicators, barCount, space, costs, fromIndex, middle);
+            SearchTask right = new SearchTask(indicators, barCount, space, costs, middle, toIndex);
+            left.fork();
+            List<V5GridSearchRow> rightRows = right.compute();
+            List<V5GridSearchRow> rows = new ArrayList<>(left.join());
+            rows.addAll(rightRows);
+            return rows;
+        }
+    }
+}
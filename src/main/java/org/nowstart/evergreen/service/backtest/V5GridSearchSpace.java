@@ -0,0 +1,81 @@
+package org.nowstart.evergreen.service.backtest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyOverrides;
+
+/**
+ * Candidate values per {@link V5StrategyOverrides} axis. Combinations are enumerated with the first axis varying
+ * slowest, matching the research grid search.
+ */
+public record V5GridSearchSpace(
+        List<Integer> regimeEmaLens,
+        List<Integer> atrPeriods,
+        List<BigDecimal> atrMultLowVols,
+        List<BigDecimal> atrMultHighVols,
+        List<Integer> volRegimeLookbacks,
+        List<BigDecimal> volRegimeThresholds,
+        List<BigDecimal> regimeBands
+) {
+
+    public V5GridSearchSpace {
+        regimeEmaLens = requireAxis(regimeEmaLens, "regimeEmaLens");
+        atrPeriods = requireAxis(atrPeriods, "atrPeriods");
+        atrMultLowVols = requireAxis(atrMultLowVols, "atrMultLowVols");
+        atrMultHighVols = requireAxis(atrMultHighVols, "atrMultHighVols");
+        volRegimeLookbacks = requireAxis(volRegimeLookbacks, "volRegimeLookbacks");
+        volRegimeThresholds = requireAxis(volRegimeThresholds, "volRegimeThresholds");
+        regimeBands = requireAxis(regimeBands, "regimeBands");
+    }
+
+    public int combinationCount() {
+        long total = (long) regimeEmaLens.size()
+                * atrPeriods.size()
+                * atrMultLowVols.size()
+                * atrMultHighVols.size()
+                * volRegimeLookbacks.size()
+                * volRegimeThresholds.size()
+                * regimeBands.size();
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("grid has too many combinations: " + total);
+        }
+        return (int) total;
+    }
+
+    /**
+     * Returns the combination at {@code index} in {@code [0, combinationCount())}.
+     */
+    public V5StrategyOverrides combination(int index) {
+        int remaining = index;
+        int regimeBand = remaining % regimeBands.size();
+        remaining /= regimeBands.size();
+        int volRegimeThreshold = remaining % volRegimeThresholds.size();
+        remaining /= volRegimeThresholds.size();
+        int volRegimeLookback = remaining % volRegimeLookbacks.size();
+        remaining /= volRegimeLookbacks.size();
+        int atrMultHighVol = remaining % atrMultHighVols.size();
+        remaining /= atrMultHighVols.size();
+        int atrMultLowVol = remaining % atrMultLowVols.size();
+        remaining /= atrMultLowVols.size();
+        int atrPeriod = remaining % atrPeriods.size();
+        remaining /= atrPeriods.size();
+        int regimeEmaLen = remaining % regimeEmaLens.size();
+
+        return new V5StrategyOverrides(
+                regimeEmaLens.get(regimeEmaLen),
+                atrPeriods.get(atrPeriod),
+                atrMultLowVols.get(atrMultLowVol),
+                atrMultHighVols.get(atrMultHighVol),
+                volRegimeLookbacks.get(volRegimeLookback),
+                volRegimeThresholds.get(volRegimeThreshold),
+                regimeBands.get(regimeBand)
+        );
+    }
+
+    private static <T> List<T> requireAxis(List<T> values, String name) {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException(name + " must not be empty");
+        }
+        return List.copyOf(values);
+    }
+}
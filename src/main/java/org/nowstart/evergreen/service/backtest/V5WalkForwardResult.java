@@ -0,0 +1,54 @@
+package org.nowstart.evergreen.service.backtest;
+
+import java.util.List;
+
+/**
+ * Walk-forward splits with aggregate out-of-sample metrics.
+ *
+ * <p>Test windows are adjacent, so final equities compound across splits. Aggregates are {@code NaN} (and
+ * {@code trades} zero) when every split was skipped.
+ *
+ * @param splits                 evaluated splits in order
+ * @param meanCagr               mean test CAGR
+ * @param worstMdd               lowest test maximum drawdown
+ * @param finalEquity            product of test final equities
+ * @param finalEquityBuyAndHold  product of test buy-and-hold final equities
+ * @param trades                 total test trades
+ */
+public record V5WalkForwardResult(
+        List<V5WalkForwardSplit> splits,
+        double meanCagr,
+        double worstMdd,
+        double finalEquity,
+        double finalEquityBuyAndHold,
+        int trades
+) {
+
+    static V5WalkForwardResult of(List<V5WalkForwardSplit> splits) {
+        if (splits.isEmpty()) {
+            return new V5WalkForwardResult(List.of(), Double.NaN, Double.NaN, Double.NaN, Double.NaN, 0);
+        }
+
+        double cagrSum = 0.0;
+        double worstMdd = 0.0;
+        double finalEquity = 1.0;
+        double finalEquityBuyAndHold = 1.0;
+        int trades = 0;
+        for (V5WalkForwardSplit split : splits) {
+            BacktestSummary test = split.test();
+            cagrSum += test.cagr();
+            worstMdd = Math.min(worstMdd, test.mdd());
+            finalEquity *= test.finalEquity();
+            finalEquityBuyAndHold *= test.finalEquityBuyAndHold();
+            trades += test.trades();
+        }
+        return new V5WalkForwardResult(
+                List.copyOf(splits),
+                cagrSum / splits.size(),
+                worstMdd,
+                finalEquity,
+                finalEquityBuyAndHold,
+                trades
+        );
+    }
+}
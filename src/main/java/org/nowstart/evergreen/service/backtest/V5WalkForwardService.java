@@ -0,0 +1,130 @@
+package org.nowstart.evergreen.service.backtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.v5.V5IndicatorCache;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyEngine;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyOverrides;
+import org.springframework.stereotype.Service;
+
+/**
+ * Expanding-window walk-forward validation of the V5 grid search.
+ *
+ * <p>Each split picks the top-ranked candidate on its train window and backtests it on the following test window.
+ * Train windows are prefixes of the same series and the V5 indicators are causal, so every split's grid search
+ * shares one {@link V5IndicatorCache} built on the full series. Splits run concurrently and divide the available
+ * processors between their grid searches.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class V5WalkForwardService {
+
+    private final V5StrategyEngine strategyEngine;
+    private final V5GridSearchService gridSearchService;
+
+    public V5WalkForwardResult run(CandleSeries candles, V5GridSearchSpace space, BacktestCosts costs) {
+        return run(candles, space, costs, WalkForwardConfig.DEFAULT, Runtime.getRuntime().availableProcessors());
+    }
+
+    public V5WalkForwardResult run(
+            CandleSeries candles,
+            V5GridSearchSpace space,
+            BacktestCosts costs,
+            WalkForwardConfig config,
+            int parallelism
+    ) {
+        if (candles == null || candles.size() < 2) {
+            throw new IllegalArgumentException("At least 2 candles are required");
+        }
+        if (space == null || costs == null || config == null) {
+            throw new IllegalArgumentException("space, costs and config are required");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be > 0");
+        }
+
+        long startedAt = System.nanoTime();
+        int barCount = candles.size();
+        int segment = config.segmentLength(barCount);
+        List<int[]> windows = new ArrayList<>();
+        for (int i = 0; i < config.splits(); i++) {
+            long trainEnd = (long) segment * (i + 1);
+            long testEnd = Math.min(barCount, (long) segment * (i + 2));
+            if (trainEnd < config.minTrainBars() || testEnd - trainEnd < config.minTestBars()) {
+                continue;
+            }
+            windows.add(new int[] {i + 1, (int) trainEnd, (int) testEnd});
+        }
+
+        V5IndicatorCache indicators = strategyEngine.indicatorCache(candles);
+        int splitParallelism = Math.max(1, parallelism / Math.max(1, windows.size()));
+        List<V5WalkForwardSplit> splits;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<V5WalkForwardSplit>> futures = windows.stream()
+                    .map(window -> CompletableFuture.supplyAsync(
+                            () -> runSplit(indicators, window[0], window[1], window[2], space, costs, splitParallelism),
+                            executor
+                    ))
+                    .toList();
+            splits = futures.stream().map(CompletableFuture::join).toList();
+        }
+
+        V5WalkForwardResult result = V5WalkForwardResult.of(splits);
+        log.info(
+                "event=walk_forward_completed bars={} segment={} splits={} mean_cagr={} worst_mdd={} final_equity={} trades={} elapsed_ms={}",
+                barCount,
+                segment,
+                splits.size(),
+                result.meanCagr(),
+                result.worstMdd(),
+                result.finalEquity(),
+                result.trades(),
+                (System.nanoTime() - startedAt) / 1_000_000L
+        );
+        return result;
+    }
+
+    private V5WalkForwardSplit runSplit(
+            V5IndicatorCache indicators,
+            int split,
+            int trainEnd,
+            int testEnd,
+            V5GridSearchSpace space,
+            BacktestCosts costs,
+            int parallelism
+    ) {
+        List<V5GridSearchRow> candidates = gridSearchService.search(indicators, trainEnd, space, costs, 1, parallelism);
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("No grid-search candidate for walk-forward split " + split);
+        }
+
+        V5GridSearchRow best = candidates.getFirst();
+        CandleSeries testCandles = indicators.candles().window(trainEnd, testEnd);
+        V5StrategyOverrides params = best.params();
+        BacktestSummary test = gridSearchService.backtest(
+                strategyEngine.indicatorCache(testCandles),
+                testCandles.size(),
+                params,
+                costs
+        );
+        log.info(
+                "event=walk_forward_split split={} train_bars={} test_bars={} test_cagr={} test_mdd={} test_final_equity={} test_final_bh={} test_trades={}",
+                split,
+                trainEnd,
+                testCandles.size(),
+                test.cagr(),
+                test.mdd(),
+                test.finalEquity(),
+                test.finalEquityBuyAndHold(),
+                test.trades()
+        );
+        return new V5WalkForwardSplit(split, params, best.summary(), test);
+    }
+}
@@ -0,0 +1,19 @@
+package org.nowstart.evergreen.service.backtest;
+
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyOverrides;
+
+/**
+ * Out-of-sample result of one walk-forward split.
+ *
+ * @param split   1-based split number
+ * @param params  best grid-search candidate on the train window
+ * @param train   in-sample summary of {@code params}
+ * @param test    out-of-sample summary of {@code params} on the test window
+ */
+public record V5WalkForwardSplit(
+        int split,
+        V5StrategyOverrides params,
+        BacktestSummary train,
+        BacktestSummary test
+) {
+}
@@ -0,0 +1,33 @@
+package org.nowstart.evergreen.service.backtest;
+
+/**
+ * Split layout of an expanding-window walk-forward run.
+ *
+ * <p>With {@code segment = max(minSegmentBars, n / (splits + 1))}, split {@code i} trains on
+ * {@code [0, segment * (i + 1))} and tests on {@code [segment * (i + 1), segment * (i + 2))}. Splits whose train
+ * window is shorter than {@code minTrainBars} or whose test window is shorter than {@code minTestBars} are skipped.
+ *
+ * @param splits          number of candidate splits
+ * @param minTrainBars    minimum train window length
+ * @param minTestBars     minimum test window length
+ * @param minSegmentBars  lower bound of the segment length
+ */
+public record WalkForwardConfig(
+        int splits,
+        int minTrainBars,
+        int minTestBars,
+        int minSegmentBars
+) {
+
+    public static final WalkForwardConfig DEFAULT = new WalkForwardConfig(3, 300, 30, 50);
+
+    public WalkForwardConfig {
+        if (splits <= 0 || minTrainBars < 2 || minTestBars < 2 || minSegmentBars <= 0) {
+            throw new IllegalArgumentException("splits and minSegmentBars must be > 0, minTrainBars and minTestBars must be >= 2");
+        }
+    }
+
+    public int segmentLength(int barCount) {
+        return Math.max(minSegmentBars, barCount / (splits + 1));
+    }
+}
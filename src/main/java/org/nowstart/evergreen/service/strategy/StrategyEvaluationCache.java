@@ -0,0 +1,111 @@
+package org.nowstart.evergreen.service.strategy;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.core.OhlcvCandle;
+import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
+import org.nowstart.evergreen.service.strategy.core.StrategyParams;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Remembers the last {@link StrategyEvaluation} per market.
+ *
+ * <p>The key is the strategy version, params, signal candle and position snapshot. While none of them changes, a
+ * signal cycle is answered from memory instead of re-running the strategy. A new candle, a position update or a
+ * params change produces a different key; a config refresh clears every entry.
+ */
+@Slf4j
+@Service
+public class StrategyEvaluationCache {
+
+    private final StrategyRegistry strategyRegistry;
+    private final Map<String, CachedEvaluation> evaluationsByMarket = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public StrategyEvaluationCache(
+            StrategyRegistry strategyRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.strategyRegistry = strategyRegistry;
+        FunctionCounter.builder("evergreen.strategy.evaluation.cache", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("evergreen.strategy.evaluation.cache", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Lookup evaluate(
+            String market,
+            String strategyVersion,
+            StrategyParams params,
+            CandleSeries candles,
+            int signalIndex,
+            PositionSnapshot position
+    ) {
+        EvaluationKey key = new EvaluationKey(
+                strategyVersion,
+                params,
+                candles.candle(signalIndex),
+                position == null ? PositionSnapshot.EMPTY : position
+        );
+        CachedEvaluation cached = evaluationsByMarket.get(market);
+        if (cached != null && cached.key().equals(key)) {
+            hits.increment();
+            return new Lookup(cached.evaluation(), true);
+        }
+
+        misses.increment();
+        StrategyEvaluation evaluation = strategyRegistry.evaluate(
+                strategyVersion,
+                candles,
+                signalIndex,
+                position,
+                params
+        );
+        evaluationsByMarket.put(market, new CachedEvaluation(key, evaluation));
+        return new Lookup(evaluation, false);
+    }
+
+    public void invalidate(String market) {
+        evaluationsByMarket.remove(market);
+    }
+
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void invalidateAll() {
+        int size = evaluationsByMarket.size();
+        evaluationsByMarket.clear();
+        log.info("event=strategy_evaluation_cache_cleared entries={}", size);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public record Lookup(StrategyEvaluation evaluation, boolean cached) {
+    }
+
+    private record EvaluationKey(
+            String strategyVersion,
+            StrategyParams params,
+            OhlcvCandle signalCandle,
+            PositionSnapshot position
+    ) {
+    }
+
+    private record CachedEvaluation(EvaluationKey key, StrategyEvaluation evaluation) {
+    }
+}
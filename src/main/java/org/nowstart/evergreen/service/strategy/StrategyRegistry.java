@@ -6,8 +6,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.nowstart.evergreen.service.strategy.core.OhlcvCandle;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
 import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+import org.nowstart.evergreen.service.strategy.core.PositionTimeline;
 import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
 import org.nowstart.evergreen.service.strategy.core.StrategyInput;
 import org.nowstart.evergreen.service.strategy.core.StrategyParams;
@@ -44,7 +45,7 @@ public class StrategyRegistry {
 
     public StrategyEvaluation evaluate(
             String strategyVersion,
-            List<OhlcvCandle> candles,
+            CandleSeries candles,
             int signalIndex,
             PositionSnapshot position,
             StrategyParams params
@@ -53,6 +54,18 @@ public class StrategyRegistry {
         return evaluateInternal(engine, candles, signalIndex, position, params);
     }
 
+    public List<StrategyEvaluation> evaluateRange(
+            String strategyVersion,
+            CandleSeries candles,
+            int fromIndex,
+            int toIndex,
+            PositionTimeline positionTimeline,
+            StrategyParams params
+    ) {
+        TradingStrategyEngine<? extends StrategyParams> engine = resolveEngine(strategyVersion);
+        return evaluateRangeInternal(engine, candles, fromIndex, toIndex, positionTimeline, params);
+    }
+
     public int requiredWarmupCandles(String strategyVersion, StrategyParams params) {
         TradingStrategyEngine<? extends StrategyParams> engine = resolveEngine(strategyVersion);
         return requiredWarmupInternal(engine, params);
@@ -60,7 +73,7 @@ public class StrategyRegistry {
 
     private <P extends StrategyParams> StrategyEvaluation evaluateInternal(
             TradingStrategyEngine<P> engine,
-            List<OhlcvCandle> candles,
+            CandleSeries candles,
             int signalIndex,
             PositionSnapshot position,
             StrategyParams params
@@ -70,6 +83,18 @@ public class StrategyRegistry {
         return engine.evaluate(new StrategyInput<>(candles, signalIndex, resolvedPosition, typedParams));
     }
 
+    private <P extends StrategyParams> List<StrategyEvaluation> evaluateRangeInternal(
+            TradingStrategyEngine<P> engine,
+            CandleSeries candles,
+            int fromIndex,
+            int toIndex,
+            PositionTimeline positionTimeline,
+            StrategyParams params
+    ) {
+        P typedParams = castParams(engine, params);
+        return engine.evaluateRange(candles, fromIndex, toIndex, positionTimeline, typedParams);
+    }
+
     private <P extends StrategyParams> int requiredWarmupInternal(
             TradingStrategyEngine<P> engine,
             StrategyParams params
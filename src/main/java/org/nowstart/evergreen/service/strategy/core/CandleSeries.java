@@ -0,0 +1,173 @@
+package org.nowstart.evergreen.service.strategy.core;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Columnar candle history backed by primitive arrays.
+ *
+ * <p>Timestamps are kept as epoch milliseconds and OHLCV values as {@code double} columns, so indicator kernels
+ * read contiguous memory instead of walking {@link OhlcvCandle} records. Only the owning series can append; it grows
+ * its columns on demand. {@link #window(int, int)} returns a read-only view over the same columns without copying.
+ * Appended values are never overwritten, so views stay valid after the owner grows.
+ *
+ * <p>Instances are not thread-safe while appending.
+ */
+public final class CandleSeries {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] epochMillis;
+    private double[] open;
+    private double[] high;
+    private double[] low;
+    private double[] close;
+    private double[] volume;
+    private final int offset;
+    private final boolean view;
+    private int size;
+
+    public CandleSeries() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CandleSeries(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must be >= 0");
+        }
+        this.epochMillis = new long[initialCapacity];
+        this.open = new double[initialCapacity];
+        this.high = new double[initialCapacity];
+        this.low = new double[initialCapacity];
+        this.close = new double[initialCapacity];
+        this.volume = new double[initialCapacity];
+        this.offset = 0;
+        this.view = false;
+    }
+
+    private CandleSeries(CandleSeries source, int offset, int size) {
+        this.epochMillis = source.epochMillis;
+        this.open = source.open;
+        this.high = source.high;
+        this.low = source.low;
+        this.close = source.close;
+        this.volume = source.volume;
+        this.offset = offset;
+        this.view = true;
+        this.size = size;
+    }
+
+    public static CandleSeries of(List<OhlcvCandle> candles) {
+        if (candles == null) {
+            throw new IllegalArgumentException("candles are required");
+        }
+        CandleSeries series = new CandleSeries(candles.size());
+        for (OhlcvCandle candle : candles) {
+            series.append(candle);
+        }
+        return series;
+    }
+
+    public CandleSeries append(OhlcvCandle candle) {
+        if (candle == null || candle.timestamp() == null) {
+            throw new IllegalArgumentException("candle and timestamp are required");
+        }
+        return append(
+                candle.timestamp().toEpochMilli(),
+                candle.open(),
+                candle.high(),
+                candle.low(),
+                candle.close(),
+                candle.volume()
+        );
+    }
+
+    public CandleSeries append(
+            long epochMillis,
+            double open,
+            double high,
+            double low,
+            double close,
+            double volume
+    ) {
+        if (view) {
+            throw new IllegalStateException("CandleSeries window is read-only");
+        }
+        ensureCapacity(size + 1);
+        this.epochMillis[size] = epochMillis;
+        this.open[size] = open;
+        this.high[size] = high;
+        this.low[size] = low;
+        this.close[size] = close;
+        this.volume[size] = volume;
+        size++;
+        return this;
+    }
+
+    /**
+     * Returns a read-only view of {@code [fromIndex, toIndex)} that shares this series' columns.
+     */
+    public CandleSeries window(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new CandleSeries(this, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long epochMillis(int index) {
+        return epochMillis[offset + Objects.checkIndex(index, size)];
+    }
+
+    public Instant timestamp(int index) {
+        return Instant.ofEpochMilli(epochMillis(index));
+    }
+
+    public double open(int index) {
+        return open[offset + Objects.checkIndex(index, size)];
+    }
+
+    public double high(int index) {
+        return high[offset + Objects.checkIndex(index, size)];
+    }
+
+    public double low(int index) {
+        return low[offset + Objects.checkIndex(index, size)];
+    }
+
+    public double close(int index) {
+        return close[offset + Objects.checkIndex(index, size)];
+    }
+
+    public double volume(int index) {
+        return volume[offset + Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Materializes one row as a record. Intended for edges such as logging or cache keys, not kernels.
+     */
+    public OhlcvCandle candle(int index) {
+        return new OhlcvCandle(timestamp(index), open(index), high(index), low(index), close(index), volume(index));
+    }
+
+    private void ensureCapacity(int required) {
+        int capacity = close.length;
+        if (required <= capacity) {
+            return;
+        }
+        int grown = Math.max(required, capacity + (capacity >> 1));
+        epochMillis = Arrays.copyOf(epochMillis, grown);
+        open = Arrays.copyOf(open, grown);
+        high = Arrays.copyOf(high, grown);
+        low = Arrays.copyOf(low, grown);
+        close = Arrays.copyOf(close, grown);
+        volume = Arrays.copyOf(volume, grown);
+    }
+}
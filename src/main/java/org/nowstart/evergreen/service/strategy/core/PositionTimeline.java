@@ -0,0 +1,29 @@
+package org.nowstart.evergreen.service.strategy.core;
+
+/**
+ * Supplies the position held at each signal index of a range evaluation.
+ *
+ * <p>Engines call {@link #positionAt(int)} and then {@link #onEvaluation(int, StrategyEvaluation)} once per index in
+ * ascending order, so a simulator can derive the next position from the decisions emitted so far.
+ */
+public interface PositionTimeline {
+
+    /**
+     * Returns the position held while the candle at {@code index} is evaluated.
+     */
+    PositionSnapshot positionAt(int index);
+
+    /**
+     * Receives the evaluation produced for {@code index}. The default ignores it.
+     */
+    default void onEvaluation(int index, StrategyEvaluation evaluation) {
+    }
+
+    /**
+     * Returns a timeline that reports the same position at every index.
+     */
+    static PositionTimeline constant(PositionSnapshot position) {
+        PositionSnapshot resolved = position == null ? PositionSnapshot.EMPTY : position;
+        return index -> resolved;
+    }
+}
@@ -0,0 +1,236 @@
+package org.nowstart.evergreen.service.strategy.core;
+
+import java.util.Arrays;
+
+/**
+ * Sliding-window order statistic over the last {@code lookback} pushed values.
+ *
+ * <p>Non-finite values occupy a window slot but are not ranked, which matches the "skip NaN" convention of the
+ * indicator kernels. Ranked values live in an array-backed treap, so {@link #push(double)} and
+ * {@link #countLessOrEqual(double)} run in O(log L) instead of rescanning the window.
+ *
+ * <p>Typical usage for a rolling percentile:
+ * <pre>{@code
+ * RollingRankWindow window = new RollingRankWindow(lookback);
+ * for (int i = 0; i < n; i++) {
+ *     window.push(ratio[i]);
+ *     double percentile = window.percentileOf(ratio[i]);
+ * }
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class RollingRankWindow {
+
+    private static final int NIL = -1;
+
+    private final int lookback;
+    private final double[] ring;
+    private long pushed;
+
+    private final double[] keys;
+    private final int[] counts;
+    private final int[] sizes;
+    private final int[] left;
+    private final int[] right;
+    private final int[] priorities;
+    private final int[] freeNodes;
+    private int freeCount;
+    private int root = NIL;
+    private int prioritySeed = 0x9E3779B9;
+
+    public RollingRankWindow(int lookback) {
+        if (lookback < 0) {
+            throw new IllegalArgumentException("lookback must be >= 0");
+        }
+        this.lookback = lookback;
+        this.ring = new double[lookback];
+        Arrays.fill(ring, Double.NaN);
+
+        this.keys = new double[lookback];
+        this.counts = new int[lookback];
+        this.sizes = new int[lookback];
+        this.left = new int[lookback];
+        this.right = new int[lookback];
+        this.priorities = new int[lookback];
+        this.freeNodes = new int[lookback];
+        for (int i = 0; i < lookback; i++) {
+            freeNodes[i] = lookback - 1 - i;
+        }
+        this.freeCount = lookback;
+    }
+
+    /**
+     * Appends a value and evicts the value that falls out of the window.
+     */
+    public void push(double value) {
+        if (lookback == 0) {
+            return;
+        }
+
+        int slot = (int) (pushed % lookback);
+        if (pushed >= lookback && Double.isFinite(ring[slot])) {
+            root = remove(root, ring[slot]);
+        }
+        double normalized = normalize(value);
+        ring[slot] = normalized;
+        if (Double.isFinite(normalized)) {
+            root = insert(root, normalized);
+        }
+        pushed++;
+    }
+
+    /**
+     * Returns the number of finite values currently in the window.
+     */
+    public int finiteCount() {
+        return size(root);
+    }
+
+    /**
+     * Returns the number of finite window values that are less than or equal to {@code value}.
+     */
+    public int countLessOrEqual(double value) {
+        double key = normalize(value);
+        int node = root;
+        int count = 0;
+        while (node != NIL) {
+            if (Double.compare(keys[node], key) <= 0) {
+                count += size(left[node]) + counts[node];
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the share of finite window values that are less than or equal to {@code value},
+     * or {@code NaN} when {@code value} is not finite or the window holds no finite value.
+     */
+    public double percentileOf(double value) {
+        int count = finiteCount();
+        if (!Double.isFinite(value) || count == 0) {
+            return Double.NaN;
+        }
+        return countLessOrEqual(value) / (double) count;
+    }
+
+    private int insert(int node, double key) {
+        if (node == NIL) {
+            return allocate(key);
+        }
+
+        int comparison = Double.compare(key, keys[node]);
+        if (comparison == 0) {
+            counts[node]++;
+            sizes[node]++;
+            return node;
+        }
+
+        if (comparison < 0) {
+            left[node] = insert(left[node], key);
+            update(node);
+            return priorities[left[node]] > priorities[node] ? rotateRight(node) : node;
+        }
+
+        right[node] = insert(right[node], key);
+        update(node);
+        return priorities[right[node]] > priorities[node] ? rotateLeft(node) : node;
+    }
+
+    private int remove(int node, double key) {
+        if (node == NIL) {
+            return NIL;
+        }
+
+        int comparison = Double.compare(key, keys[node]);
+        if (comparison < 0) {
+            left[node] = remove(left[node], key);
+        } else if (comparison > 0) {
+            right[node] = remove(right[node], key);
+        } else if (counts[node] > 1) {
+            counts[node]--;
+        } else {
+            int merged = merge(left[node], right[node]);
+            release(node);
+            return merged;
+        }
+
+        update(node);
+        return node;
+    }
+
+    private int merge(int lower, int upper) {
+        if (lower == NIL) {
+            return upper;
+        }
+        if (upper == NIL) {
+            return lower;
+        }
+        if (priorities[lower] > priorities[upper]) {
+            right[lower] = merge(right[lower], upper);
+            update(lower);
+            return lower;
+        }
+        left[upper] = merge(lower, left[upper]);
+        update(upper);
+        return upper;
+    }
+
+    private int rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private int rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private int allocate(double key) {
+        int node = freeNodes[--freeCount];
+        keys[node] = key;
+        counts[node] = 1;
+        sizes[node] = 1;
+        left[node] = NIL;
+        right[node] = NIL;
+        priorities[node] = nextPriority();
+        return node;
+    }
+
+    private void release(int node) {
+        freeNodes[freeCount++] = node;
+    }
+
+    private void update(int node) {
+        sizes[node] = size(left[node]) + counts[node] + size(right[node]);
+    }
+
+    private int size(int node) {
+        return node == NIL ? 0 : sizes[node];
+    }
+
+    private int nextPriority() {
+        int x = prioritySeed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        prioritySeed = x;
+        return x;
+    }
+
+    private double normalize(double value) {
+        // Folds -0.0 into 0.0 so Double.compare agrees with the primitive <= used by the batch kernels.
+        return value + 0.0;
+    }
+}
@@ -1,9 +1,7 @@
 package org.nowstart.evergreen.service.strategy.core;
 
-import java.util.List;
-
 public record StrategyInput<P extends StrategyParams>(
-        List<OhlcvCandle> candles,
+        CandleSeries candles,
         int signalIndex,
         PositionSnapshot position,
         P params
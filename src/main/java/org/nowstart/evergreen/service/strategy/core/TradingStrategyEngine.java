@@ -1,5 +1,8 @@
 package org.nowstart.evergreen.service.strategy.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Versioned strategy engine contract.
  *
@@ -29,4 +32,43 @@ public interface TradingStrategyEngine<P extends StrategyParams> {
      * {@link StrategyEvaluation#diagnostics()} using {@link StrategyDiagnostic} factories.
      */
     StrategyEvaluation evaluate(StrategyInput<P> input);
+
+    /**
+     * Evaluates every signal index in {@code [fromIndex, toIndex)} and returns one evaluation per index, in order.
+     *
+     * <p>The result at index {@code i} must equal {@link #evaluate(StrategyInput)} with {@code signalIndex = i} and
+     * the position reported by {@code positionTimeline} for {@code i}. The default re-runs {@code evaluate} per index;
+     * engines should override it to compute indicators once for the whole range.
+     */
+    default List<StrategyEvaluation> evaluateRange(
+            CandleSeries candles,
+            int fromIndex,
+            int toIndex,
+            PositionTimeline positionTimeline,
+            P params
+    ) {
+        validateRange(candles, fromIndex, toIndex, positionTimeline);
+        List<StrategyEvaluation> evaluations = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            StrategyEvaluation evaluation = evaluate(new StrategyInput<>(candles, i, positionTimeline.positionAt(i), params));
+            positionTimeline.onEvaluation(i, evaluation);
+            evaluations.add(evaluation);
+        }
+        return evaluations;
+    }
+
+    /**
+     * Validates the arguments shared by every {@link #evaluateRange} implementation.
+     */
+    static void validateRange(CandleSeries candles, int fromIndex, int toIndex, PositionTimeline positionTimeline) {
+        if (candles == null || positionTimeline == null) {
+            throw new IllegalArgumentException("candles and positionTimeline are required");
+        }
+        if (fromIndex < 1 || fromIndex > toIndex || toIndex > candles.size()) {
+            throw new IllegalArgumentException(
+                    "range must satisfy 1 <= fromIndex <= toIndex <= candles.size(), fromIndex=" + fromIndex
+                            + ", toIndex=" + toIndex + ", size=" + candles.size()
+            );
+        }
+    }
 }
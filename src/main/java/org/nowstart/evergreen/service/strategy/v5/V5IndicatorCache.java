@@ -0,0 +1,63 @@
+package org.nowstart.evergreen.service.strategy.v5;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.nowstart.evergreen.data.type.MarketRegime;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+
+/**
+ * Lazily computed V5 indicator series for one {@link CandleSeries}, shared across parameter sets.
+ *
+ * <p>EMA is keyed by length, ATR by period, regimes by (EMA length, band) and the volatility percentile by
+ * (ATR period, lookback), so a grid search computes each distinct series once no matter how many combinations
+ * use it. Thread-safe; returned arrays are shared and must be treated as read-only.
+ */
+public final class V5IndicatorCache {
+
+    private final V5StrategyEngine engine;
+    private final CandleSeries candles;
+    private final Map<Integer, double[]> emaByLength = new ConcurrentHashMap<>();
+    private final Map<Integer, double[]> atrByPeriod = new ConcurrentHashMap<>();
+    private final Map<RegimeKey, MarketRegime[]> regimesByKey = new ConcurrentHashMap<>();
+    private final Map<VolatilityKey, double[]> volatilityPercentileByKey = new ConcurrentHashMap<>();
+
+    V5IndicatorCache(V5StrategyEngine engine, CandleSeries candles) {
+        this.engine = engine;
+        this.candles = candles;
+    }
+
+    public CandleSeries candles() {
+        return candles;
+    }
+
+    double[] ema(int length) {
+        return emaByLength.computeIfAbsent(length, key -> engine.exponentialMovingAverage(candles, key));
+    }
+
+    double[] atr(int period) {
+        return atrByPeriod.computeIfAbsent(period, key -> engine.wilderAtr(candles, key));
+    }
+
+    MarketRegime[] regimes(int emaLength, double regimeBand) {
+        return regimesByKey.computeIfAbsent(
+                new RegimeKey(emaLength, regimeBand),
+                key -> engine.resolveRegimes(candles, ema(key.emaLength()), key.regimeBand())
+        );
+    }
+
+    double[] volatilityPercentile(int atrPeriod, int lookback) {
+        return volatilityPercentileByKey.computeIfAbsent(
+                new VolatilityKey(atrPeriod, lookback),
+                key -> engine.resolveVolatilityPercentiles(
+                        engine.resolveAtrPriceRatio(atr(key.atrPeriod()), candles),
+                        key.lookback()
+                )
+        );
+    }
+
+    private record RegimeKey(int emaLength, double regimeBand) {
+    }
+
+    private record VolatilityKey(int atrPeriod, int lookback) {
+    }
+}
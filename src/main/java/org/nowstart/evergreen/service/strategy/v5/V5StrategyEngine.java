@@ -1,12 +1,16 @@
 package org.nowstart.evergreen.service.strategy.v5;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.nowstart.evergreen.data.type.MarketRegime;
-import org.nowstart.evergreen.service.strategy.core.OhlcvCandle;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
 import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+import org.nowstart.evergreen.service.strategy.core.PositionTimeline;
+import org.nowstart.evergreen.service.strategy.core.RollingRankWindow;
 import org.nowstart.evergreen.service.strategy.core.StrategyDiagnostic;
 import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
 import org.nowstart.evergreen.service.strategy.core.StrategyInput;
@@ -43,7 +47,7 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
             throw new IllegalArgumentException("input, candles, and params are required");
         }
 
-        List<OhlcvCandle> candles = input.candles();
+        CandleSeries candles = input.candles();
         int n = candles.size();
         int signalIndex = input.signalIndex();
         if (signalIndex < 1 || signalIndex >= n) {
@@ -52,28 +56,112 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
 
         V5StrategyOverrides params = input.params();
         PositionSnapshot position = input.position() == null ? PositionSnapshot.EMPTY : input.position();
-        boolean hasPosition = position.hasPosition();
         double regimeBand = params.regimeBand().doubleValue();
         double volRegimeThreshold = params.volRegimeThreshold().doubleValue();
-        double atrMultLowVol = params.atrMultLowVol().doubleValue();
-        double atrMultHighVol = params.atrMultHighVol().doubleValue();
-
-        double[] close = candles.stream().mapToDouble(OhlcvCandle::close).toArray();
-        double[] high = candles.stream().mapToDouble(OhlcvCandle::high).toArray();
-        double[] low = candles.stream().mapToDouble(OhlcvCandle::low).toArray();
 
-        double[] regimeAnchor = exponentialMovingAverage(close, params.regimeEmaLen());
-        double[] atr = wilderAtr(high, low, close, params.atrPeriod());
-        MarketRegime[] regimes = resolveRegimes(close, regimeAnchor, regimeBand);
+        double[] regimeAnchor = exponentialMovingAverage(candles, params.regimeEmaLen());
+        double[] atr = wilderAtr(candles, params.atrPeriod());
+        MarketRegime[] regimes = resolveRegimes(candles, regimeAnchor, regimeBand);
         VolatilityState volatility = resolveVolatilityStates(
                 atr,
-                close,
+                candles,
                 params.volRegimeLookback(),
                 volRegimeThreshold
         );
 
-        MarketRegime prevRegime = regimes[signalIndex - 1];
-        MarketRegime currentRegime = regimes[signalIndex];
+        return decide(
+                candles,
+                signalIndex,
+                position,
+                params,
+                regimes[signalIndex - 1],
+                regimes[signalIndex],
+                regimeAnchor[signalIndex],
+                atr[signalIndex],
+                volatility.isHigh()[signalIndex],
+                position.hasPosition() ? resolveHighestCloseSinceEntry(candles, signalIndex, position) : Double.NaN
+        );
+    }
+
+    @Override
+    public List<StrategyEvaluation> evaluateRange(
+            CandleSeries candles,
+            int fromIndex,
+            int toIndex,
+            PositionTimeline positionTimeline,
+            V5StrategyOverrides params
+    ) {
+        TradingStrategyEngine.validateRange(candles, fromIndex, toIndex, positionTimeline);
+        return evaluateRange(candles, fromIndex, toIndex, positionTimeline, params, new V5IndicatorCache(this, candles));
+    }
+
+    /**
+     * Same as {@link #evaluateRange(CandleSeries, int, int, PositionTimeline, V5StrategyOverrides)}, but takes
+     * indicators from {@code indicators} so callers evaluating many parameter sets over one series compute each
+     * distinct EMA, ATR, regime and volatility series once.
+     */
+    public List<StrategyEvaluation> evaluateRange(
+            CandleSeries candles,
+            int fromIndex,
+            int toIndex,
+            PositionTimeline positionTimeline,
+            V5StrategyOverrides params,
+            V5IndicatorCache indicators
+    ) {
+        TradingStrategyEngine.validateRange(candles, fromIndex, toIndex, positionTimeline);
+        if (params == null || indicators == null) {
+            throw new IllegalArgumentException("params and indicators are required");
+        }
+        if (indicators.candles() != candles) {
+            throw new IllegalArgumentException("indicators were built for a different candle series");
+        }
+
+        double[] regimeAnchor = indicators.ema(params.regimeEmaLen());
+        double[] atr = indicators.atr(params.atrPeriod());
+        MarketRegime[] regimes = indicators.regimes(params.regimeEmaLen(), params.regimeBand().doubleValue());
+        double[] volatilityPercentile = indicators.volatilityPercentile(params.atrPeriod(), params.volRegimeLookback());
+        double volRegimeThreshold = params.volRegimeThreshold().doubleValue();
+
+        HighestCloseTracker highestClose = new HighestCloseTracker(candles);
+        List<StrategyEvaluation> evaluations = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            PositionSnapshot position = positionTimeline.positionAt(i);
+            if (position == null) {
+                position = PositionSnapshot.EMPTY;
+            }
+
+            StrategyEvaluation evaluation = decide(
+                    candles,
+                    i,
+                    position,
+                    params,
+                    regimes[i - 1],
+                    regimes[i],
+                    regimeAnchor[i],
+                    atr[i],
+                    isHighVolatility(volatilityPercentile[i], volRegimeThreshold),
+                    position.hasPosition() ? highestClose.resolve(i, position) : Double.NaN
+            );
+            positionTimeline.onEvaluation(i, evaluation);
+            evaluations.add(evaluation);
+        }
+        return evaluations;
+    }
+
+    StrategyEvaluation decide(
+            CandleSeries candles,
+            int signalIndex,
+            PositionSnapshot position,
+            V5StrategyOverrides params,
+            MarketRegime prevRegime,
+            MarketRegime currentRegime,
+            double anchorValue,
+            double atrValue,
+            boolean highVolatility,
+            double highestCloseSinceEntry
+    ) {
+        boolean hasPosition = position.hasPosition();
+        double regimeBand = params.regimeBand().doubleValue();
 
         boolean baseBuy = prevRegime == MarketRegime.BEAR
                 && currentRegime == MarketRegime.BULL;
@@ -81,16 +169,15 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
                 && prevRegime == MarketRegime.BULL
                 && currentRegime == MarketRegime.BEAR;
 
-        double atrMultiplier = volatility.isHigh()[signalIndex]
-                ? atrMultHighVol
-                : atrMultLowVol;
+        double atrMultiplier = highVolatility
+                ? params.atrMultHighVol().doubleValue()
+                : params.atrMultLowVol().doubleValue();
 
         TrailStopEvaluation trailStop = evaluateTrailStop(
-                candles,
-                signalIndex,
-                atr,
+                candles.close(signalIndex),
+                highestCloseSinceEntry,
+                atrValue,
                 atrMultiplier,
-                position,
                 hasPosition
         );
 
@@ -104,7 +191,6 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
                 trailStop.triggered()
         );
 
-        double anchorValue = regimeAnchor[signalIndex];
         double upperValue = Double.isFinite(anchorValue)
                 ? anchorValue * (1.0 + regimeBand)
                 : Double.NaN;
@@ -138,8 +224,18 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
         return new StrategyEvaluation(new StrategySignalDecision(buySignal, sellSignal, signalReason), diagnostics);
     }
 
-    private double[] exponentialMovingAverage(double[] values, int length) {
-        int n = values.length;
+    /**
+     * Opens an empty indicator cache over {@code candles} for repeated range evaluations.
+     */
+    public V5IndicatorCache indicatorCache(CandleSeries candles) {
+        if (candles == null) {
+            throw new IllegalArgumentException("candles are required");
+        }
+        return new V5IndicatorCache(this, candles);
+    }
+
+    double[] exponentialMovingAverage(CandleSeries candles, int length) {
+        int n = candles.size();
         double[] ema = fillNaN(n);
         if (length <= 0 || n < length) {
             return ema;
@@ -147,30 +243,33 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
 
         double seed = 0.0;
         for (int i = 0; i < length; i++) {
-            seed += values[i];
+            seed += candles.close(i);
         }
         ema[length - 1] = seed / length;
 
         double alpha = 2.0 / (length + 1.0);
         for (int i = length; i < n; i++) {
-            ema[i] = (alpha * values[i]) + ((1.0 - alpha) * ema[i - 1]);
+            ema[i] = (alpha * candles.close(i)) + ((1.0 - alpha) * ema[i - 1]);
         }
         return ema;
     }
 
-    private double[] wilderAtr(double[] high, double[] low, double[] close, int period) {
-        int n = close.length;
+    double[] wilderAtr(CandleSeries candles, int period) {
+        int n = candles.size();
         double[] atr = fillNaN(n);
         if (period <= 0 || n < period) {
             return atr;
         }
 
         double[] tr = new double[n];
-        tr[0] = high[0] - low[0];
+        tr[0] = candles.high(0) - candles.low(0);
         for (int i = 1; i < n; i++) {
-            double highLow = high[i] - low[i];
-            double highPrevClose = Math.abs(high[i] - close[i - 1]);
-            double lowPrevClose = Math.abs(low[i] - close[i - 1]);
+            double high = candles.high(i);
+            double low = candles.low(i);
+            double prevClose = candles.close(i - 1);
+            double highLow = high - low;
+            double highPrevClose = Math.abs(high - prevClose);
+            double lowPrevClose = Math.abs(low - prevClose);
             tr[i] = Math.max(highLow, Math.max(highPrevClose, lowPrevClose));
         }
 
@@ -187,96 +286,98 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
         return atr;
     }
 
-    private MarketRegime[] resolveRegimes(double[] close, double[] anchor, double regimeBand) {
-        int n = close.length;
+    MarketRegime[] resolveRegimes(CandleSeries candles, double[] anchor, double regimeBand) {
+        int n = candles.size();
         MarketRegime[] regimes = new MarketRegime[n];
 
         for (int i = 0; i < n; i++) {
-            if (!Double.isFinite(anchor[i])) {
-                regimes[i] = MarketRegime.UNKNOWN;
-                continue;
-            }
-
-            double upper = anchor[i] * (1.0 + regimeBand);
-            double lower = anchor[i] * (1.0 - regimeBand);
             MarketRegime previous = i == 0 ? MarketRegime.UNKNOWN : regimes[i - 1];
-
-            if (close[i] > upper) {
-                regimes[i] = MarketRegime.BULL;
-            } else if (close[i] < lower) {
-                regimes[i] = MarketRegime.BEAR;
-            } else if (previous != MarketRegime.UNKNOWN) {
-                regimes[i] = previous;
-            } else if (close[i] > anchor[i]) {
-                regimes[i] = MarketRegime.BULL;
-            } else if (close[i] < anchor[i]) {
-                regimes[i] = MarketRegime.BEAR;
-            } else {
-                regimes[i] = MarketRegime.UNKNOWN;
-            }
+            regimes[i] = resolveRegime(candles.close(i), anchor[i], regimeBand, previous);
         }
 
         return regimes;
     }
 
-    private VolatilityState resolveVolatilityStates(double[] atr, double[] close, int lookback, double threshold) {
-        int n = close.length;
-        double[] ratio = fillNaN(n);
-        double[] percentile = fillNaN(n);
+    MarketRegime resolveRegime(double close, double anchor, double regimeBand, MarketRegime previous) {
+        if (!Double.isFinite(anchor)) {
+            return MarketRegime.UNKNOWN;
+        }
+
+        double upper = anchor * (1.0 + regimeBand);
+        double lower = anchor * (1.0 - regimeBand);
+
+        if (close > upper) {
+            return MarketRegime.BULL;
+        }
+        if (close < lower) {
+            return MarketRegime.BEAR;
+        }
+        if (previous != MarketRegime.UNKNOWN) {
+            return previous;
+        }
+        if (close > anchor) {
+            return MarketRegime.BULL;
+        }
+        if (close < anchor) {
+            return MarketRegime.BEAR;
+        }
+        return MarketRegime.UNKNOWN;
+    }
+
+    private VolatilityState resolveVolatilityStates(double[] atr, CandleSeries candles, int lookback, double threshold) {
+        int n = candles.size();
+        double[] ratio = resolveAtrPriceRatio(atr, candles);
+        double[] percentile = resolveVolatilityPercentiles(ratio, lookback);
         boolean[] high = new boolean[n];
 
         for (int i = 0; i < n; i++) {
-            if (Double.isFinite(atr[i]) && Double.isFinite(close[i]) && close[i] > 0.0) {
-                ratio[i] = atr[i] / close[i];
-            }
-
-            if (!Double.isFinite(ratio[i])) {
-                continue;
-            }
+            high[i] = isHighVolatility(percentile[i], threshold);
+        }
 
-            int start = Math.max(0, i - lookback + 1);
-            int count = 0;
-            int belowOrEqual = 0;
-            for (int j = start; j <= i; j++) {
-                if (!Double.isFinite(ratio[j])) {
-                    continue;
-                }
-                count++;
-                if (ratio[j] <= ratio[i]) {
-                    belowOrEqual++;
-                }
-            }
+        return new VolatilityState(ratio, percentile, high);
+    }
 
-            if (count == 0) {
-                continue;
+    double[] resolveAtrPriceRatio(double[] atr, CandleSeries candles) {
+        int n = candles.size();
+        double[] ratio = fillNaN(n);
+        for (int i = 0; i < n; i++) {
+            double close = candles.close(i);
+            if (Double.isFinite(atr[i]) && Double.isFinite(close) && close > 0.0) {
+                ratio[i] = atr[i] / close;
             }
+        }
+        return ratio;
+    }
 
-            percentile[i] = belowOrEqual / (double) count;
-            high[i] = percentile[i] >= threshold;
+    double[] resolveVolatilityPercentiles(double[] ratio, int lookback) {
+        double[] percentile = fillNaN(ratio.length);
+        RollingRankWindow window = new RollingRankWindow(Math.max(0, lookback));
+        for (int i = 0; i < ratio.length; i++) {
+            window.push(ratio[i]);
+            percentile[i] = window.percentileOf(ratio[i]);
         }
+        return percentile;
+    }
 
-        return new VolatilityState(ratio, percentile, high);
+    private boolean isHighVolatility(double percentile, double threshold) {
+        return Double.isFinite(percentile) && percentile >= threshold;
     }
 
     private TrailStopEvaluation evaluateTrailStop(
-            List<OhlcvCandle> candles,
-            int signalIndex,
-            double[] atr,
+            double currentClose,
+            double highestCloseSinceEntry,
+            double atrValue,
             double atrMultiplier,
-            PositionSnapshot position,
             boolean hasPosition
     ) {
-        if (!hasPosition || atrMultiplier <= 0.0 || !Double.isFinite(atr[signalIndex])) {
+        if (!hasPosition || atrMultiplier <= 0.0 || !Double.isFinite(atrValue)) {
             return new TrailStopEvaluation(Double.NaN, false);
         }
-
-        double highestCloseSinceEntry = resolveHighestCloseSinceEntry(candles, signalIndex, position);
         if (!Double.isFinite(highestCloseSinceEntry)) {
             return new TrailStopEvaluation(Double.NaN, false);
         }
 
-        double stop = highestCloseSinceEntry - (atrMultiplier * atr[signalIndex]);
-        double currentClose = candles.get(signalIndex).close();
+        double stop = highestCloseSinceEntry - (atrMultiplier * atrValue);
         return new TrailStopEvaluation(stop, currentClose <= stop);
     }
 
@@ -308,15 +409,14 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
         return "NONE";
     }
 
-    private double resolveHighestCloseSinceEntry(List<OhlcvCandle> candles, int signalIndex, PositionSnapshot position) {
+    double resolveHighestCloseSinceEntry(CandleSeries candles, int signalIndex, PositionSnapshot position) {
         int startIndex = 0;
 
         if (position.updatedAt() != null) {
-            LocalDate positionDate = position.updatedAt().atOffset(ZoneOffset.UTC).toLocalDate();
+            long positionDayStart = entryDayStart(position.updatedAt());
             boolean found = false;
             for (int i = 0; i <= signalIndex; i++) {
-                LocalDate candleDate = candles.get(i).timestamp().atOffset(ZoneOffset.UTC).toLocalDate();
-                if (!candleDate.isBefore(positionDate)) {
+                if (candles.epochMillis(i) >= positionDayStart) {
                     startIndex = i;
                     found = true;
                     break;
@@ -329,15 +429,21 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
 
         double highest = Double.NaN;
         for (int i = startIndex; i <= signalIndex; i++) {
-            double candleClose = candles.get(i).close();
-            if (!Double.isFinite(highest) || candleClose > highest) {
-                highest = candleClose;
-            }
+            highest = foldHighest(highest, candles.close(i));
         }
 
         return highest;
     }
 
+    private static long entryDayStart(Instant updatedAt) {
+        LocalDate positionDate = updatedAt.atOffset(ZoneOffset.UTC).toLocalDate();
+        return positionDate.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+    private static double foldHighest(double highest, double candleClose) {
+        return !Double.isFinite(highest) || candleClose > highest ? candleClose : highest;
+    }
+
     private double[] fillNaN(int size) {
         double[] values = new double[size];
         Arrays.fill(values, Double.NaN);
@@ -351,6 +457,66 @@ public class V5StrategyEngine implements TradingStrategyEngine<V5StrategyOverrid
     ) {
     }
 
+    /**
+     * Range-mode replacement for {@link #resolveHighestCloseSinceEntry}: while consecutive indices report the same
+     * entry timestamp, the running maximum is extended by one close instead of rescanning from the entry candle.
+     */
+    private static final class HighestCloseTracker {
+
+        private final CandleSeries candles;
+        private Instant entry;
+        private boolean unbounded;
+        private long entryDayStart;
+        private boolean entryFound;
+        private int lastIndex = -1;
+        private double highest = Double.NaN;
+
+        private HighestCloseTracker(CandleSeries candles) {
+            this.candles = candles;
+        }
+
+        private double resolve(int index, PositionSnapshot position) {
+            Instant updatedAt = position.updatedAt();
+            boolean sameEntry = lastIndex == index - 1
+                    && (updatedAt == null ? unbounded : updatedAt.equals(entry));
+            if (!sameEntry) {
+                reset(index, updatedAt);
+                return highest;
+            }
+
+            if (entryFound) {
+                highest = foldHighest(highest, candles.close(index));
+            } else {
+                entryFound = candles.epochMillis(index) >= entryDayStart;
+                highest = foldHighest(Double.NaN, candles.close(index));
+            }
+            lastIndex = index;
+            return highest;
+        }
+
+        private void reset(int index, Instant updatedAt) {
+            entry = updatedAt;
+            unbounded = updatedAt == null;
+            entryDayStart = unbounded ? Long.MIN_VALUE : entryDayStart(updatedAt);
+
+            int startIndex = index;
+            entryFound = false;
+            for (int i = 0; i <= index; i++) {
+                if (candles.epochMillis(i) >= entryDayStart) {
+                    startIndex = i;
+                    entryFound = true;
+                    break;
+                }
+            }
+
+            highest = Double.NaN;
+            for (int i = startIndex; i <= index; i++) {
+                highest = foldHighest(highest, candles.close(i));
+            }
+            lastIndex = index;
+        }
+    }
+
     private record TrailStopEvaluation(
             double stopPrice,
             boolean triggered
@@ -8,6 +8,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.cloud.context.scope.refresh.RefreshScope;
@@ -25,6 +26,8 @@ class UpbitFeignConfigContextTest {
         contextRunner.run(context -> {
             assertThat(context).hasNotFailed();
             assertThat(context).hasSingleBean(org.nowstart.evergreen.service.auth.UpbitJwtSigner.class);
+            assertThat(context).getBean(feign.codec.Encoder.class)
+                    .isInstanceOf(org.nowstart.evergreen.service.auth.UpbitCanonicalQueryEncoder.class);
         });
     }
 
@@ -53,7 +56,23 @@ class UpbitFeignConfigContextTest {
                     400,
                     true,
                     new BigDecimal("100000"),
-                    "v5"
+                    "v5",
+                    Duration.ofSeconds(20),
+                    4,
+                    SchedulerMode.FIXED_DELAY,
+                    Duration.ofSeconds(3),
+                    Duration.ofSeconds(5),
+                    Duration.ofMinutes(10),
+                    Duration.ofMinutes(5),
+                    Duration.ofHours(1),
+                    Duration.ofHours(1),
+                    Duration.ofDays(7),
+                    Duration.ofDays(1),
+                    Duration.ofSeconds(2),
+                    10,
+                    Duration.ofSeconds(50),
+                    Duration.ofSeconds(30),
+                    2
             );
         }
     }
@@ -0,0 +1,101 @@
+package org.nowstart.evergreen.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.service.UpbitRateLimiter;
+import org.nowstart.evergreen.service.auth.UpbitCanonicalQueryEncoder;
+
+@ExtendWith(MockitoExtension.class)
+class UpbitRateLimitedClientTest {
+
+    @Mock
+    private Client delegate;
+    @Mock
+    private UpbitRateLimiter upbitRateLimiter;
+
+    @Test
+    void execute_admitsPriorityOrderAndReportsRemainingReq() throws Exception {
+        Request request = orderRequest();
+        when(upbitRateLimiter.groupOf("POST", "/v1/orders")).thenReturn("order");
+        when(delegate.execute(any(), any())).thenReturn(response(request, 201));
+
+        Response response = new UpbitRateLimitedClient(delegate, upbitRateLimiter).execute(request, new Request.Options());
+
+        assertThat(response.status()).isEqualTo(201);
+        verify(upbitRateLimiter).acquire("order", true);
+        verify(upbitRateLimiter).update("order", "POST", "/v1/orders", "group=order; min=0; sec=7", 201);
+    }
+
+    @Test
+    void execute_returnsThrottledResponseWithoutResending() throws Exception {
+        Request request = orderRequest();
+        when(upbitRateLimiter.groupOf("POST", "/v1/orders")).thenReturn("order");
+        when(delegate.execute(any(), any())).thenReturn(response(request, 429));
+
+        Response response = new UpbitRateLimitedClient(delegate, upbitRateLimiter).execute(request, new Request.Options());
+
+        assertThat(response.status()).isEqualTo(429);
+        verify(delegate, times(1)).execute(any(), any());
+        verify(upbitRateLimiter).update("order", "POST", "/v1/orders", "group=order; min=0; sec=7", 429);
+    }
+
+    @Test
+    void execute_stripsCanonicalQueryHeaderBeforeSending() throws Exception {
+        Request request = Request.create(
+                Request.HttpMethod.POST,
+                "https://api.upbit.com/v1/orders",
+                Map.of(
+                        "Authorization", List.of("Bearer token"),
+                        UpbitCanonicalQueryEncoder.CANONICAL_QUERY_HEADER, List.of("market=KRW-BTC")
+                ),
+                "{}".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8,
+                null
+        );
+        when(upbitRateLimiter.groupOf("POST", "/v1/orders")).thenReturn("order");
+        when(delegate.execute(any(), any())).thenReturn(response(request, 201));
+
+        new UpbitRateLimitedClient(delegate, upbitRateLimiter).execute(request, new Request.Options());
+
+        ArgumentCaptor<Request> sent = ArgumentCaptor.forClass(Request.class);
+        verify(delegate).execute(sent.capture(), any());
+        assertThat(sent.getValue().headers())
+                .containsKey("Authorization")
+                .doesNotContainKey(UpbitCanonicalQueryEncoder.CANONICAL_QUERY_HEADER);
+        assertThat(sent.getValue().body()).isEqualTo(request.body());
+    }
+
+    private Request orderRequest() {
+        return Request.create(
+                Request.HttpMethod.POST,
+                "https://api.upbit.com/v1/orders",
+                Map.of(),
+                "{}".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8,
+                null
+        );
+    }
+
+    private Response response(Request request, int status) {
+        return Response.builder()
+                .request(request)
+                .status(status)
+                .headers(Map.of(UpbitRateLimiter.REMAINING_REQ_HEADER, List.of("group=order; min=0; sec=7")))
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package org.nowstart.evergreen.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
+import feign.Headers;
+import feign.RequestLine;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.nowstart.evergreen.data.dto.UpbitCreateOrderRequest;
+import org.nowstart.evergreen.service.UpbitRateLimiter;
+import org.nowstart.evergreen.service.auth.UpbitAuthRequestInterceptor;
+import org.nowstart.evergreen.service.auth.UpbitCanonicalQueryEncoder;
+import org.nowstart.evergreen.service.auth.UpbitJwtSigner;
+
+class UpbitThrottleRetryerTest {
+
+    private static final Pattern NONCE = Pattern.compile("\"nonce\":\"([0-9a-f-]{36})\"");
+    private static final Pattern QUERY_HASH = Pattern.compile("\"query_hash\":\"([0-9a-f]{128})\"");
+
+    private final List<String> authorizations = new ArrayList<>();
+
+    @Test
+    void throttledOrderIsResentWithFreshlySignedToken() {
+        OrderApi api = client(List.of(429, 201));
+
+        assertThat(api.createOrder()).isEqualTo("ok");
+
+        assertThat(authorizations).hasSize(2);
+        assertThat(nonce(authorizations.get(0))).isNotEqualTo(nonce(authorizations.get(1)));
+    }
+
+    @Test
+    void throttledOrderGivesUpAfterMaxAttempts() {
+        OrderApi api = client(List.of(429, 429, 429, 201));
+
+        assertThatThrownBy(api::createOrder)
+                .isInstanceOf(FeignException.class)
+                .satisfies(e -> assertThat(((FeignException) e).status()).isEqualTo(429));
+        assertThat(authorizations).hasSize(3);
+    }
+
+    @Test
+    void otherErrorsAreNotRetried() {
+        OrderApi api = client(List.of(400, 201));
+
+        assertThatThrownBy(api::createOrder).isInstanceOf(FeignException.BadRequest.class);
+        assertThat(authorizations).hasSize(1);
+    }
+
+    @Test
+    void throttledOrderIsResentOverHttpWithOneAuthorizationAndCanonicalQueryHash() throws Exception {
+        List<List<String>> receivedAuthorizations = new CopyOnWriteArrayList<>();
+        List<Boolean> receivedCanonicalHeader = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v1/orders", exchange -> {
+            receivedAuthorizations.add(List.copyOf(exchange.getRequestHeaders().get("Authorization")));
+            receivedCanonicalHeader.add(exchange.getRequestHeaders().containsKey(UpbitCanonicalQueryEncoder.CANONICAL_QUERY_HEADER));
+            exchange.getRequestBody().readAllBytes();
+            boolean throttled = receivedAuthorizations.size() == 1;
+            byte[] body = (throttled ? "{\"error\":{\"name\":\"too_many_requests\"}}" : "ok").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(throttled ? 429 : 201, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        UpbitCreateOrderRequest order = new UpbitCreateOrderRequest("KRW-BTC", "bid", "limit", "0.01", "100000000", "c-1");
+        try {
+            OrderBodyApi api = Feign.builder()
+                    .client(new UpbitRateLimitedClient(
+                            new Client.Default(null, null),
+                            new UpbitRateLimiter(new SimpleMeterRegistry())
+                    ))
+                    .encoder(new UpbitCanonicalQueryEncoder((object, bodyType, template) ->
+                            template.body("{\"market\":\"KRW-BTC\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)))
+                    .requestInterceptor(new UpbitAuthRequestInterceptor(new UpbitJwtSigner("access", "secret")))
+                    .errorDecoder(new UpbitErrorDecoder())
+                    .retryer(new UpbitThrottleRetryer(3))
+                    .target(OrderBodyApi.class, "http://localhost:" + server.getAddress().getPort());
+
+            assertThat(api.createOrder(order)).isEqualTo("ok");
+        } finally {
+            server.stop(0);
+        }
+
+        assertThat(receivedAuthorizations).hasSize(2);
+        assertThat(receivedAuthorizations.get(1)).hasSize(1);
+        assertThat(receivedCanonicalHeader).containsExactly(false, false);
+        String retried = receivedAuthorizations.get(1).getFirst();
+        assertThat(nonce(retried)).isNotEqualTo(nonce(receivedAuthorizations.get(0).getFirst()));
+        Matcher queryHash = QUERY_HASH.matcher(payload(retried));
+        assertThat(queryHash.find()).isTrue();
+        assertThat(queryHash.group(1)).isEqualTo(HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-512").digest(order.canonicalQuery().getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private OrderApi client(List<Integer> statuses) {
+        return Feign.builder()
+                .client((request, options) -> {
+                    authorizations.add(request.headers().get("Authorization").iterator().next());
+                    int status = statuses.get(authorizations.size() - 1);
+                    return Response.builder()
+                            .request(request)
+                            .status(status)
+                            .headers(Map.of())
+                            .body(status < 300 ? "ok" : "{\"error\":{}}", StandardCharsets.UTF_8)
+                            .build();
+                })
+                .requestInterceptor(new UpbitAuthRequestInterceptor(new UpbitJwtSigner("access", "secret")))
+                .errorDecoder(new UpbitErrorDecoder())
+                .retryer(new UpbitThrottleRetryer(3))
+                .target(OrderApi.class, "https://api.upbit.com");
+    }
+
+    private static String nonce(String authorization) {
+        Matcher matcher = NONCE.matcher(payload(authorization));
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static String payload(String authorization) {
+        String payload = authorization.replace("Bearer ", "").split("\\.")[1];
+        return new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8);
+    }
+
+    interface OrderApi {
+
+        @RequestLine("POST /v1/orders")
+        String createOrder();
+    }
+
+    interface OrderBodyApi {
+
+        @RequestLine("POST /v1/orders")
+        @Headers("Content-Type: application/json")
+        String createOrder(UpbitCreateOrderRequest request);
+    }
+}
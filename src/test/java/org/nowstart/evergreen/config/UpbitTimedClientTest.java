@@ -0,0 +1,70 @@
+package org.nowstart.evergreen.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.nowstart.evergreen.repository.UpbitFeignClient;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+class UpbitTimedClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_recordsLatencyPerEndpointAndStatus() throws IOException {
+        Client delegate = (request, options) -> Response.builder()
+                .request(request)
+                .status(201)
+                .headers(Map.of())
+                .build();
+        UpbitTimedClient client = new UpbitTimedClient(delegate, meterRegistry);
+
+        client.execute(createOrderRequest(), new Request.Options());
+
+        Timer timer = meterRegistry.get("evergreen.exchange.http.latency")
+                .tag("endpoint", "createOrder")
+                .tag("method", "POST")
+                .tag("status", "201")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_recordsIoFailures() {
+        Client delegate = (request, options) -> {
+            throw new IOException("connection reset");
+        };
+        UpbitTimedClient client = new UpbitTimedClient(delegate, meterRegistry);
+
+        assertThatThrownBy(() -> client.execute(createOrderRequest(), new Request.Options()))
+                .isInstanceOf(IOException.class);
+
+        assertThat(meterRegistry.get("evergreen.exchange.http.latency").tag("status", "IO_ERROR").timer().count())
+                .isEqualTo(1);
+    }
+
+    private Request createOrderRequest() {
+        MethodMetadata metadata = new SpringMvcContract().parseAndValidateMetadata(UpbitFeignClient.class).stream()
+                .filter(candidate -> candidate.method().getName().equals("createOrder"))
+                .findFirst()
+                .orElseThrow();
+        return Request.create(
+                Request.HttpMethod.POST,
+                "https://api.upbit.com/v1/orders",
+                Map.of(),
+                "{}".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8,
+                metadata.template()
+        );
+    }
+}
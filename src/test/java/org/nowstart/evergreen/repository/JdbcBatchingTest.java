@@ -0,0 +1,107 @@
+package org.nowstart.evergreen.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nowstart.evergreen.Application;
+import org.nowstart.evergreen.config.JpaBatchConfig;
+import org.nowstart.evergreen.data.entity.AuditEvent;
+import org.nowstart.evergreen.data.entity.Fill;
+import org.nowstart.evergreen.data.entity.TradingOrder;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.OrderSide;
+import org.nowstart.evergreen.data.type.OrderStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JdbcBatchingTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FillRepository fillRepository;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void saveAll_insertsFillsInSingleBatchWithoutSelects() {
+        TradingOrder order = entityManager.persistAndFlush(TradingOrder.builder()
+                .clientOrderId("client-batch")
+                .symbol("KRW-BTC")
+                .side(OrderSide.BUY)
+                .mode(ExecutionMode.LIVE)
+                .status(OrderStatus.SUBMITTED)
+                .build());
+        List<Fill> fills = new ArrayList<>();
+        Instant filledAt = Instant.parse("2026-02-20T00:00:00Z");
+        for (int i = 0; i < ROWS; i++) {
+            fills.add(Fill.builder()
+                    .id(new Fill.FillKey(order.getClientOrderId(), filledAt.plusSeconds(i), "trade-" + i))
+                    .order(order)
+                    .fillQty(new BigDecimal("0.01"))
+                    .fillPrice(new BigDecimal("100"))
+                    .fee(BigDecimal.ZERO)
+                    .build());
+        }
+        statistics.clear();
+
+        fillRepository.saveAll(fills);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void saveAll_insertsAuditEventsInSingleBatchWithoutSelects() {
+        List<AuditEvent> events = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            events.add(AuditEvent.builder()
+                    .eventId(UUID.randomUUID())
+                    .type("ORDER_SUBMITTED")
+                    .payload("{\"index\":" + i + "}")
+                    .build());
+        }
+        statistics.clear();
+
+        auditEventRepository.saveAll(events);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = Application.class)
+    @Import(JpaBatchConfig.class)
+    static class JpaSliceConfig {
+    }
+}
@@ -0,0 +1,154 @@
+package org.nowstart.evergreen.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.nowstart.evergreen.Application;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MariaDBContainer;
+
+/**
+ * Seeds MariaDB with a realistic order history and checks that the per-cycle order queries resolve through the
+ * declared composite indexes. Row count can be raised with {@code -Devergreen.plan-test.orders=2000000}.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIf("dockerAvailable")
+class TradingOrderQueryPlanTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TradingOrderQueryPlanTest.class);
+
+    private static final int ORDER_COUNT = Integer.getInteger("evergreen.plan-test.orders", 100_000);
+    private static final int MARKET_COUNT = 20;
+    private static final int INSERT_BATCH = 5_000;
+    private static final int TIMED_RUNS = 200;
+    private static final String MARKET = "KRW-M0";
+    private static final List<OrderStatus> ACTIVE_STATUSES = List.of(
+            OrderStatus.CREATED,
+            OrderStatus.SUBMITTED,
+            OrderStatus.PARTIALLY_FILLED
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TradingOrderRepository tradingOrderRepository;
+
+    static boolean dockerAvailable() {
+        return DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @Test
+    void hotQueries_useCompositeIndexes() {
+        seedOrders();
+        jdbcTemplate.queryForList("ANALYZE TABLE trading_order");
+
+        Map<String, Object> guardPlan = explain(
+                "select client_order_id from trading_order where mode = ? and symbol = ? and status in (?, ?, ?) limit 1",
+                "LIVE", MARKET, "CREATED", "SUBMITTED", "PARTIALLY_FILLED"
+        );
+        Map<String, Object> metricsPlan = explain(
+                "select client_order_id, side, executed_volume, avg_executed_price, fee_amount from trading_order"
+                        + " where symbol = ? and mode = ? and status = ? order by created_at",
+                MARKET, "LIVE", "FILLED"
+        );
+        Map<String, Object> ledgerPlan = explain(
+                "select client_order_id, side, executed_volume, avg_executed_price, fee_amount from trading_order"
+                        + " where symbol = ? and mode = ? order by created_at",
+                MARKET, "LIVE"
+        );
+
+        assertThat(guardPlan.get("key")).isEqualTo("idx_trading_order_symbol_mode_status_created_at");
+        assertThat(metricsPlan.get("key")).isEqualTo("idx_trading_order_symbol_mode_status_created_at");
+        assertThat(String.valueOf(metricsPlan.get("Extra"))).doesNotContain("filesort");
+        assertThat(ledgerPlan.get("key")).isEqualTo("idx_trading_order_symbol_mode_created_at");
+        assertThat(String.valueOf(ledgerPlan.get("Extra"))).doesNotContain("filesort");
+
+        log.info("event=query_plan_benchmark orders={} guard_median_us={} metrics_median_us={} ledger_median_us={}",
+                ORDER_COUNT,
+                medianMicros(() -> tradingOrderRepository.existsByModeAndSymbolAndStatusIn(ExecutionMode.LIVE, MARKET, ACTIVE_STATUSES)),
+                medianMicros(() -> tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(
+                        MARKET, ExecutionMode.LIVE, OrderStatus.FILLED)),
+                medianMicros(() -> tradingOrderRepository.findExecutionSummariesBySymbolAndMode(MARKET, ExecutionMode.LIVE))
+        );
+    }
+
+    private void seedOrders() {
+        String sql = "insert into trading_order (client_order_id, symbol, mode, side, status, executed_volume,"
+                + " avg_executed_price, fee_amount, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        OrderStatus[] settled = {OrderStatus.FILLED, OrderStatus.FILLED, OrderStatus.FILLED, OrderStatus.CANCELED, OrderStatus.REJECTED};
+        Instant start = Instant.parse("2020-01-01T00:00:00Z");
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Timestamp createdAt = Timestamp.from(start.plusSeconds(60L * i));
+            batch.add(new Object[] {
+                    "order-" + i,
+                    "KRW-M" + (i % MARKET_COUNT),
+                    i % 10 == 0 ? "PAPER" : "LIVE",
+                    i % 2 == 0 ? "BUY" : "SELL",
+                    settled[i % settled.length].name(),
+                    "0.01",
+                    "100000",
+                    "5",
+                    createdAt,
+                    createdAt
+            });
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        log.info("event=query_plan sql=\"{}\" args={} plan={}", sql, Arrays.toString(args), plan);
+        assertThat(plan).hasSize(1);
+        return plan.get(0);
+    }
+
+    private long medianMicros(Runnable query) {
+        long[] samples = new long[TIMED_RUNS];
+        for (int i = 0; i < TIMED_RUNS; i++) {
+            long started = System.nanoTime();
+            query.run();
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        return samples[TIMED_RUNS / 2] / 1_000;
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = Application.class)
+    static class MariaDbSliceConfig {
+
+        @Bean
+        @ServiceConnection
+        MariaDBContainer<?> mariaDbContainer() {
+            return new MariaDBContainer<>("mariadb:11.4");
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.nowstart.evergreen.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
+import org.nowstart.evergreen.service.TradingMaintenanceService;
+import org.nowstart.evergreen.service.TradingSignalWorkflowService;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class CandleCloseSchedulerTest {
+
+    @Mock
+    private TradingSignalWorkflowService tradingSignalWorkflowService;
+    @Mock
+    private TradingMaintenanceService tradingMaintenanceService;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final List<ScheduledFuture<?>> scheduledFutures = new ArrayList<>();
+
+    @BeforeEach
+    void stubScheduler() {
+        lenient().when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            ScheduledFuture<?> future = mock(ScheduledFuture.class);
+            scheduledFutures.add(future);
+            return future;
+        });
+    }
+
+    @Test
+    void runBurst_schedulesNextCloseWhenEveryMarketIsReady() {
+        CandleCloseScheduler scheduler = createScheduler(SchedulerMode.CANDLE_CLOSE);
+        Instant closeAt = Instant.parse("2026-03-01T00:00:00Z");
+        when(tradingSignalWorkflowService.runOnce(Instant.parse("2026-02-28T00:00:00Z"), null)).thenReturn(Set.of());
+
+        scheduler.runBurst(closeAt, null);
+
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(any(Runnable.class), at.capture());
+        assertThat(at.getValue()).isEqualTo(Instant.parse("2026-03-02T00:00:03Z"));
+    }
+
+    @Test
+    void runBurst_retriesOnlyPendingMarketsWithinRetryWindow() {
+        CandleCloseScheduler scheduler = createScheduler(SchedulerMode.CANDLE_CLOSE);
+        Instant closeAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        when(tradingSignalWorkflowService.runOnce(closeAt.minus(Duration.ofDays(1)), null)).thenReturn(Set.of("KRW-ETH"));
+        when(tradingSignalWorkflowService.runOnce(closeAt.minus(Duration.ofDays(1)), Set.of("KRW-ETH"))).thenReturn(Set.of());
+
+        scheduler.runBurst(closeAt, null);
+
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(retry.capture(), at.capture());
+        assertThat(at.getValue()).isBefore(closeAt.plus(Duration.ofMinutes(10)));
+
+        retry.getValue().run();
+
+        verify(tradingSignalWorkflowService).runOnce(closeAt.minus(Duration.ofDays(1)), Set.of("KRW-ETH"));
+    }
+
+    @Test
+    void runBurst_givesUpAfterRetryWindowAndSchedulesNextClose() {
+        CandleCloseScheduler scheduler = createScheduler(SchedulerMode.CANDLE_CLOSE);
+        Instant closeAt = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.SECONDS);
+        when(tradingSignalWorkflowService.runOnce(any(), isNull())).thenReturn(Set.of("KRW-ETH"));
+
+        scheduler.runBurst(closeAt, null);
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(closeAt.plus(Duration.ofDays(1)).plusSeconds(3)));
+    }
+
+    @Test
+    void maintain_runsOnlyInCandleCloseMode() {
+        CandleCloseScheduler fixedDelay = createScheduler(SchedulerMode.FIXED_DELAY);
+
+        fixedDelay.maintain();
+        fixedDelay.start();
+
+        verifyNoInteractions(tradingMaintenanceService, tradingSignalWorkflowService, taskScheduler);
+
+        CandleCloseScheduler candleClose = createScheduler(SchedulerMode.CANDLE_CLOSE);
+
+        candleClose.maintain();
+
+        verify(tradingMaintenanceService).runOnce();
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        verify(tradingSignalWorkflowService, never()).runOnce(any(), any());
+    }
+
+    @Test
+    void maintainBeforeStart_keepsSingleBurstChain() {
+        CandleCloseScheduler scheduler = createScheduler(SchedulerMode.CANDLE_CLOSE);
+        Instant today = Instant.now().truncatedTo(ChronoUnit.DAYS);
+        when(tradingSignalWorkflowService.runOnce(today.minus(Duration.ofDays(1)), null)).thenReturn(Set.of());
+
+        scheduler.maintain();
+        scheduler.start();
+        scheduler.maintain();
+
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(2)).schedule(tasks.capture(), any(Instant.class));
+        verify(scheduledFutures.get(0)).cancel(false);
+
+        tasks.getAllValues().get(1).run();
+        scheduler.maintain();
+
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler, times(3)).schedule(any(Runnable.class), at.capture());
+        assertThat(at.getAllValues().get(2)).isEqualTo(today.plus(Duration.ofDays(1)).plusSeconds(3));
+        verify(scheduledFutures.get(2), never()).cancel(anyBoolean());
+        verify(tradingSignalWorkflowService, times(1)).runOnce(any(), any());
+
+        // The next close superseded by start() must not run a second burst if it fires anyway.
+        tasks.getAllValues().get(0).run();
+        verify(tradingSignalWorkflowService, times(1)).runOnce(any(), any());
+    }
+
+    private CandleCloseScheduler createScheduler(SchedulerMode schedulerMode) {
+        return new CandleCloseScheduler(
+                tradingSignalWorkflowService,
+                tradingMaintenanceService,
+                new TradingProperties(
+                        "https://api.upbit.com",
+                        "",
+                        "",
+                        new BigDecimal("0.0005"),
+                        Duration.ofSeconds(30),
+                        ExecutionMode.PAPER,
+                        List.of("KRW-BTC", "KRW-ETH"),
+                        400,
+                        true,
+                        new BigDecimal("100000"),
+                        "v5",
+                        Duration.ofSeconds(20),
+                        4,
+                        schedulerMode,
+                        Duration.ofSeconds(3),
+                        Duration.ofSeconds(5),
+                        Duration.ofMinutes(10),
+                        Duration.ofMinutes(5),
+                        Duration.ofHours(1),
+                        Duration.ofHours(1),
+                        Duration.ofDays(7),
+                        Duration.ofDays(1),
+                        Duration.ofSeconds(2),
+                        10,
+                        Duration.ofSeconds(50),
+                        Duration.ofSeconds(30),
+                        2
+                ),
+                taskScheduler
+        );
+    }
+}
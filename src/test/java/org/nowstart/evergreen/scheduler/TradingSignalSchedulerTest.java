@@ -1,11 +1,18 @@
 package org.nowstart.evergreen.scheduler;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.nowstart.evergreen.service.TradingSignalWorkflowService;
 
 @ExtendWith(MockitoExtension.class)
@@ -16,10 +23,57 @@ class TradingSignalSchedulerTest {
 
     @Test
     void run_delegatesToWorkflowService() {
-        TradingSignalScheduler scheduler = new TradingSignalScheduler(tradingSignalWorkflowService);
+        TradingSignalScheduler scheduler = new TradingSignalScheduler(
+                tradingSignalWorkflowService,
+                properties(SchedulerMode.FIXED_DELAY)
+        );
 
         scheduler.run();
 
         verify(tradingSignalWorkflowService).runOnce();
     }
+
+    @Test
+    void run_skipsWhenCandleCloseModeIsActive() {
+        TradingSignalScheduler scheduler = new TradingSignalScheduler(
+                tradingSignalWorkflowService,
+                properties(SchedulerMode.CANDLE_CLOSE)
+        );
+
+        scheduler.run();
+
+        verifyNoInteractions(tradingSignalWorkflowService);
+    }
+
+    private TradingProperties properties(SchedulerMode schedulerMode) {
+        return new TradingProperties(
+                "https://api.upbit.com",
+                "",
+                "",
+                new BigDecimal("0.0005"),
+                Duration.ofSeconds(30),
+                ExecutionMode.PAPER,
+                List.of("KRW-BTC"),
+                400,
+                true,
+                new BigDecimal("100000"),
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                schedulerMode,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
+        );
+    }
 }
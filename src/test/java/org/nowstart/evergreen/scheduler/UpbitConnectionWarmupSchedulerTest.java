@@ -0,0 +1,110 @@
+package org.nowstart.evergreen.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
+import org.nowstart.evergreen.service.UpbitConnectionWarmer;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class UpbitConnectionWarmupSchedulerTest {
+
+    @Mock
+    private UpbitConnectionWarmer upbitConnectionWarmer;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Test
+    void start_schedulesWarmupBeforeNextClose() {
+        UpbitConnectionWarmupScheduler scheduler = createScheduler(ExecutionMode.LIVE);
+
+        scheduler.start();
+
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(any(Runnable.class), at.capture());
+        assertThat(at.getValue()).isAfter(Instant.now());
+        assertThat(at.getValue().plusSeconds(30).getEpochSecond() % Duration.ofDays(1).toSeconds()).isZero();
+    }
+
+    @Test
+    void warmBefore_warmsAndSchedulesFollowingDay() {
+        UpbitConnectionWarmupScheduler scheduler = createScheduler(ExecutionMode.LIVE);
+        Instant closeAt = Instant.parse("2026-03-01T00:00:00Z");
+
+        scheduler.warmBefore(closeAt);
+
+        verify(upbitConnectionWarmer).warm();
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2026-03-01T23:59:30Z")));
+    }
+
+    @Test
+    void warmBefore_keepsScheduleWhenWarmupFails() {
+        UpbitConnectionWarmupScheduler scheduler = createScheduler(ExecutionMode.LIVE);
+        when(upbitConnectionWarmer.warm()).thenThrow(new IllegalStateException("upbit down"));
+
+        scheduler.warmBefore(Instant.parse("2026-03-01T00:00:00Z"));
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2026-03-01T23:59:30Z")));
+    }
+
+    @Test
+    void start_doesNothingInPaperMode() {
+        UpbitConnectionWarmupScheduler scheduler = createScheduler(ExecutionMode.PAPER);
+
+        scheduler.start();
+
+        verifyNoInteractions(upbitConnectionWarmer, taskScheduler);
+    }
+
+    private UpbitConnectionWarmupScheduler createScheduler(ExecutionMode executionMode) {
+        return new UpbitConnectionWarmupScheduler(
+                upbitConnectionWarmer,
+                new TradingProperties(
+                        "https://api.upbit.com",
+                        "",
+                        "",
+                        new BigDecimal("0.0005"),
+                        Duration.ofSeconds(30),
+                        executionMode,
+                        List.of("KRW-BTC"),
+                        400,
+                        true,
+                        new BigDecimal("100000"),
+                        "v5",
+                        Duration.ofSeconds(20),
+                        4,
+                        SchedulerMode.CANDLE_CLOSE,
+                        Duration.ofSeconds(3),
+                        Duration.ofSeconds(5),
+                        Duration.ofMinutes(10),
+                        Duration.ofMinutes(5),
+                        Duration.ofHours(1),
+                        Duration.ofHours(1),
+                        Duration.ofDays(7),
+                        Duration.ofDays(1),
+                        Duration.ofSeconds(2),
+                        10,
+                        Duration.ofSeconds(50),
+                        Duration.ofSeconds(30),
+                        2
+                ),
+                taskScheduler
+        );
+    }
+}
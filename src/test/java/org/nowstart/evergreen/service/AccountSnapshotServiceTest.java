@@ -0,0 +1,172 @@
+package org.nowstart.evergreen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.dto.UpbitAccountResponse;
+import org.nowstart.evergreen.data.dto.UpbitOrderChanceResponse;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
+import org.nowstart.evergreen.repository.UpbitFeignClient;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSnapshotServiceTest {
+
+    private static final List<UpbitAccountResponse> ACCOUNTS = List.of(
+            new UpbitAccountResponse("KRW", "1000000", "0", "0", "KRW")
+    );
+
+    @Mock
+    private UpbitFeignClient upbitFeignClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void accounts_reusesSnapshotWithinTtl() {
+        AccountSnapshotService service = createService(Duration.ofMinutes(1));
+        when(upbitFeignClient.getAccounts()).thenReturn(ACCOUNTS);
+
+        assertThat(service.accounts()).isEqualTo(ACCOUNTS);
+        assertThat(service.accounts()).isEqualTo(ACCOUNTS);
+
+        verify(upbitFeignClient, times(1)).getAccounts();
+        assertThat(count("accounts", "miss")).isEqualTo(1.0);
+        assertThat(count("accounts", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void accounts_reloadsWhenTtlIsZero() {
+        AccountSnapshotService service = createService(Duration.ZERO);
+        when(upbitFeignClient.getAccounts()).thenReturn(ACCOUNTS);
+
+        service.accounts();
+        service.accounts();
+
+        verify(upbitFeignClient, times(2)).getAccounts();
+    }
+
+    @Test
+    void invalidate_dropsAccountsAndEveryMarketChance() {
+        AccountSnapshotService service = createService(Duration.ofMinutes(1));
+        UpbitOrderChanceResponse chance = new UpbitOrderChanceResponse("0.0005", "0.0005", null, null, null);
+        when(upbitFeignClient.getAccounts()).thenReturn(ACCOUNTS);
+        when(upbitFeignClient.getOrderChance("KRW-BTC")).thenReturn(chance);
+        when(upbitFeignClient.getOrderChance("KRW-ETH")).thenReturn(chance);
+        service.accounts();
+        service.orderChance("KRW-BTC");
+        service.orderChance("KRW-ETH");
+
+        service.invalidate("KRW-BTC");
+        service.accounts();
+        assertThat(service.orderChance("KRW-BTC")).isSameAs(chance);
+        assertThat(service.orderChance("KRW-ETH")).isSameAs(chance);
+
+        verify(upbitFeignClient, times(2)).getAccounts();
+        verify(upbitFeignClient, times(2)).getOrderChance("KRW-BTC");
+        verify(upbitFeignClient, times(2)).getOrderChance("KRW-ETH");
+    }
+
+    @Test
+    void accounts_doesNotCacheFailures() {
+        AccountSnapshotService service = createService(Duration.ofMinutes(1));
+        when(upbitFeignClient.getAccounts())
+                .thenThrow(new IllegalStateException("upbit down"))
+                .thenReturn(ACCOUNTS);
+
+        assertThatThrownBy(service::accounts).isInstanceOf(IllegalStateException.class);
+        assertThat(service.accounts()).isEqualTo(ACCOUNTS);
+
+        verify(upbitFeignClient, times(2)).getAccounts();
+    }
+
+    @Test
+    void accounts_concurrentMissesShareOneRequest() throws Exception {
+        AccountSnapshotService service = createService(Duration.ofMinutes(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(upbitFeignClient.getAccounts()).thenAnswer(invocation -> {
+            loading.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return ACCOUNTS;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<UpbitAccountResponse>> first = executor.submit(service::accounts);
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<UpbitAccountResponse>> second = executor.submit(service::accounts);
+            CompletableFuture.runAsync(() -> {
+                while (count("accounts", "shared") < 1.0) {
+                    Thread.onSpinWait();
+                }
+            }).get(5, TimeUnit.SECONDS);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(ACCOUNTS);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(ACCOUNTS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(upbitFeignClient, times(1)).getAccounts();
+    }
+
+    private double count(String cache, String result) {
+        var counter = meterRegistry.find("evergreen.exchange.account.cache")
+                .tag("cache", cache)
+                .tag("result", result)
+                .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private AccountSnapshotService createService(Duration ttl) {
+        TradingProperties properties = new TradingProperties(
+                "https://api.upbit.com",
+                "",
+                "",
+                new BigDecimal("0.0005"),
+                Duration.ofSeconds(30),
+                ExecutionMode.LIVE,
+                List.of("KRW-BTC"),
+                400,
+                true,
+                new BigDecimal("100000"),
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                ttl,
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
+        );
+        return new AccountSnapshotService(upbitFeignClient, properties, meterRegistry);
+    }
+}
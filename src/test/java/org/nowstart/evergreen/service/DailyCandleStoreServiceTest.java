@@ -0,0 +1,292 @@
+package org.nowstart.evergreen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.dto.TradingDayCandleDto;
+import org.nowstart.evergreen.data.dto.UpbitDayCandleResponse;
+import org.nowstart.evergreen.data.entity.DailyCandle;
+import org.nowstart.evergreen.repository.DailyCandleRepository;
+import org.nowstart.evergreen.repository.UpbitFeignClient;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class DailyCandleStoreServiceTest {
+
+    private static final Instant TODAY = Instant.now().truncatedTo(ChronoUnit.DAYS);
+
+    @Mock
+    private UpbitFeignClient upbitFeignClient;
+    @Mock
+    private DailyCandleRepository dailyCandleRepository;
+
+    private DailyCandleStoreService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DailyCandleStoreService(upbitFeignClient, dailyCandleRepository);
+    }
+
+    @Test
+    void loadDailyCandles_backfillsOnceThenFetchesOnlyTheLastTwoCandles() {
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(5))).thenReturn(List.of());
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 5)).thenReturn(rows(4, 0, "100"));
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 2)).thenReturn(
+                rows(1, 0, "100"),
+                List.of(dayCandle(timestamp(0), "100", "102", "99", "101", "10"), dayCandle(timestamp(1), "100", "102", "99", "100", "10"))
+        );
+
+        List<TradingDayCandleDto> backfilled = service.loadDailyCandles("KRW-BTC", 5);
+        List<TradingDayCandleDto> unchanged = service.loadDailyCandles("KRW-BTC", 5);
+        List<TradingDayCandleDto> updated = service.loadDailyCandles("KRW-BTC", 5);
+
+        assertThat(backfilled).extracting(TradingDayCandleDto::timestamp).containsExactly(days(4, 0));
+        assertThat(unchanged).isEqualTo(backfilled);
+        assertThat(updated.getLast().close()).isEqualByComparingTo("101");
+        verify(dailyCandleRepository, times(1)).findByIdMarketOrderByIdCandleAtDesc(anyString(), any());
+        verify(upbitFeignClient, times(1)).getDayCandles("KRW-BTC", 5);
+        verify(upbitFeignClient, times(2)).getDayCandles("KRW-BTC", 2);
+
+        // The forming current-day candle stays in memory; only the four closed days are written, once.
+        ArgumentCaptor<List<DailyCandle>> saved = savedBatches(1);
+        assertThat(saved.getValue()).extracting(candle -> candle.getId().getCandleAt())
+                .containsExactlyInAnyOrder(days(4, 1));
+    }
+
+    @Test
+    void loadDailyCandles_persistsFormingCandleOnceItClosesUnchanged() {
+        AtomicReference<Instant> today = new AtomicReference<>(TODAY);
+        DailyCandleStoreService clocked = new DailyCandleStoreService(upbitFeignClient, dailyCandleRepository) {
+            @Override
+            Instant today() {
+                return today.get();
+            }
+        };
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(3))).thenReturn(List.of());
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 3)).thenReturn(rows(2, 0, "100"));
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 2)).thenReturn(rows(0, -1, "100"));
+
+        clocked.loadDailyCandles("KRW-BTC", 3);
+        today.set(TODAY.plus(1, ChronoUnit.DAYS));
+        List<TradingDayCandleDto> candles = clocked.loadDailyCandles("KRW-BTC", 3);
+
+        assertThat(candles).extracting(TradingDayCandleDto::timestamp).containsExactly(days(1, -1));
+        assertThat(savedBatches(2).getAllValues()).satisfiesExactly(
+                first -> assertThat(first).extracting(candle -> candle.getId().getCandleAt())
+                        .containsExactlyInAnyOrder(days(2, 1)),
+                second -> assertThat(second).extracting(candle -> candle.getId().getCandleAt())
+                        .containsExactly(TODAY)
+        );
+    }
+
+    @Test
+    void loadDailyCandles_reloadsFromDatabaseWhenWriteFails() {
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(5))).thenReturn(List.of());
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 5)).thenReturn(rows(4, 0, "100"));
+        when(dailyCandleRepository.saveAll(any())).thenThrow(new IllegalStateException("db down")).thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.loadDailyCandles("KRW-BTC", 5)).isInstanceOf(IllegalStateException.class);
+        List<TradingDayCandleDto> candles = service.loadDailyCandles("KRW-BTC", 5);
+
+        assertThat(candles).extracting(TradingDayCandleDto::timestamp).containsExactly(days(4, 0));
+        verify(dailyCandleRepository, times(2)).findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(5));
+        assertThat(savedBatches(2).getAllValues()).allSatisfy(batch ->
+                assertThat(batch).extracting(candle -> candle.getId().getCandleAt()).containsExactlyInAnyOrder(days(4, 1)));
+    }
+
+    @Test
+    void loadDailyCandles_ignoresScaleDifferencesBetweenStoredAndFetchedValues() {
+        List<DailyCandle> stored = stored(List.of(1, 2, 3, 4, 5));
+        stored.forEach(candle -> candle.setClosePrice(new BigDecimal("100.000000000000")));
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(5))).thenReturn(stored);
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 2)).thenReturn(rows(1, 0, "100"));
+
+        service.loadDailyCandles("KRW-BTC", 5);
+        service.loadDailyCandles("KRW-BTC", 5);
+
+        verify(dailyCandleRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void loadDailyCandles_rewritesStoredCandleWhenExchangeCorrectsIt() {
+        List<DailyCandle> stored = stored(List.of(1, 2, 3, 4, 5));
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(5))).thenReturn(stored);
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 2)).thenReturn(List.of(
+                dayCandle(timestamp(0), "100", "102", "99", "100", "10"),
+                dayCandle(timestamp(1), "100", "102", "99", "105", "10")
+        ));
+        when(dailyCandleRepository.findAllById(any())).thenReturn(List.of(stored.getFirst()));
+
+        List<TradingDayCandleDto> candles = service.loadDailyCandles("KRW-BTC", 5);
+
+        assertThat(candles.get(candles.size() - 2).close()).isEqualByComparingTo("105");
+        ArgumentCaptor<List<DailyCandle>> saved = savedBatches(1);
+        assertThat(saved.getValue()).singleElement().satisfies(candle -> {
+            assertThat(candle.getId().getCandleAt()).isEqualTo(TODAY.minus(1, ChronoUnit.DAYS));
+            assertThat(candle.getClosePrice()).isEqualByComparingTo("105");
+        });
+    }
+
+    @Test
+    void loadDailyCandles_pagesBackfillByTwoHundredCandles() {
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(450))).thenReturn(List.of());
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 200)).thenReturn(rows(199, 0, "100"));
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 200, TODAY.minus(199, ChronoUnit.DAYS).toString()))
+                .thenReturn(rows(399, 200, "100"));
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 50, TODAY.minus(399, ChronoUnit.DAYS).toString()))
+                .thenReturn(rows(449, 400, "100"));
+
+        List<TradingDayCandleDto> candles = service.loadDailyCandles("KRW-BTC", 450);
+
+        assertThat(candles).extracting(TradingDayCandleDto::timestamp).containsExactly(days(449, 0));
+        verify(upbitFeignClient, never()).getDayCandles("KRW-BTC", 450);
+        assertThat(savedBatches(3).getAllValues()).extracting(List::size).containsExactly(199, 200, 50);
+    }
+
+    @Test
+    void loadDailyCandles_normalizesFiltersAndSortsBackfilledRows() {
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(5))).thenReturn(List.of());
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 5)).thenReturn(Arrays.asList(
+                null,
+                dayCandle(null, "1", "2", "0.5", "1.5", "10"),
+                dayCandle("2026-02-02T00:00:00", null, "2", "0.5", "1.5", "10"),
+                dayCandle("2026-02-02T00:00:00", "1", null, "0.5", "1.5", "10"),
+                dayCandle("2026-02-02T00:00:00", "1", "2", null, "1.5", "10"),
+                dayCandle("2026-02-02T00:00:00", "1", "2", "0.5", null, "10"),
+                dayCandle("not-a-date", "1", "2", "0.5", "1.5", "10"),
+                dayCandle("2026-02-03T00:00:00", "101", "103", "100", "102", null),
+                dayCandle("2026-02-01T00:00:00", "99", "100", "98", "99.5", "321")
+        ));
+
+        List<TradingDayCandleDto> candles = service.loadDailyCandles("KRW-BTC", 5);
+
+        assertThat(candles).hasSize(2);
+        assertThat(candles.get(0).timestamp()).isEqualTo(Instant.parse("2026-02-01T00:00:00Z"));
+        assertThat(candles.get(0).volume()).isEqualByComparingTo("321");
+        assertThat(candles.get(1).timestamp()).isEqualTo(Instant.parse("2026-02-03T00:00:00Z"));
+        assertThat(candles.get(1).volume()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void loadDailyCandles_retriesBackfillWhenExchangeReturnsNoRows() {
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(5))).thenReturn(List.of());
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 5)).thenReturn(null, List.of());
+
+        assertThat(service.loadDailyCandles("KRW-BTC", 5)).isEmpty();
+        assertThat(service.loadDailyCandles("KRW-BTC", 5)).isEmpty();
+
+        verify(upbitFeignClient, times(2)).getDayCandles("KRW-BTC", 5);
+        verify(dailyCandleRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void loadDailyCandles_backfillsStoredGapsWithTargetedRequest() {
+        List<DailyCandle> stored = stored(List.of(0, 1, 4, 5, 6));
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(5))).thenReturn(stored);
+        Instant gapEnd = TODAY.minus(1, ChronoUnit.DAYS);
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 2, gapEnd.toString())).thenReturn(rows(3, 2, "100"));
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 2)).thenReturn(rows(1, 0, "100"));
+
+        List<TradingDayCandleDto> candles = service.loadDailyCandles("KRW-BTC", 5);
+
+        assertThat(candles).extracting(TradingDayCandleDto::timestamp).containsExactly(days(4, 0));
+        verify(upbitFeignClient).getDayCandles("KRW-BTC", 2, gapEnd.toString());
+    }
+
+    @Test
+    void loadDailyCandles_widensDeltaWhenStoredHistoryIsStale() {
+        when(dailyCandleRepository.findByIdMarketOrderByIdCandleAtDesc("KRW-BTC", Limit.of(5)))
+                .thenReturn(stored(List.of(3, 4, 5, 6, 7)));
+        when(upbitFeignClient.getDayCandles("KRW-BTC", 4)).thenReturn(rows(3, 0, "100"));
+
+        List<TradingDayCandleDto> candles = service.loadDailyCandles("KRW-BTC", 5);
+
+        assertThat(candles).extracting(TradingDayCandleDto::timestamp).containsExactly(days(4, 0));
+        verify(upbitFeignClient, never()).getDayCandles(anyString(), anyInt(), anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<DailyCandle>> savedBatches(int expectedBatches) {
+        ArgumentCaptor<List<DailyCandle>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dailyCandleRepository, times(expectedBatches)).saveAll(captor.capture());
+        return captor;
+    }
+
+    private Instant[] days(int fromDaysAgo, int toDaysAgo) {
+        List<Instant> days = new ArrayList<>();
+        for (int daysAgo = fromDaysAgo; daysAgo >= toDaysAgo; daysAgo--) {
+            days.add(TODAY.minus(daysAgo, ChronoUnit.DAYS));
+        }
+        return days.toArray(Instant[]::new);
+    }
+
+    private List<UpbitDayCandleResponse> rows(int fromDaysAgo, int toDaysAgo, String close) {
+        // Upbit returns the newest candle first.
+        List<UpbitDayCandleResponse> rows = new ArrayList<>();
+        for (int daysAgo = toDaysAgo; daysAgo <= fromDaysAgo; daysAgo++) {
+            rows.add(dayCandle(timestamp(daysAgo), "100", "102", "99", close, "10"));
+        }
+        return rows;
+    }
+
+    private String timestamp(int daysAgo) {
+        return LocalDateTime.ofInstant(TODAY.minus(daysAgo, ChronoUnit.DAYS), ZoneOffset.UTC).toString();
+    }
+
+    private List<DailyCandle> stored(List<Integer> daysAgo) {
+        return daysAgo.stream()
+                .map(ago -> DailyCandle.builder()
+                        .id(new DailyCandle.DailyCandleKey("KRW-BTC", TODAY.minus(ago, ChronoUnit.DAYS)))
+                        .openPrice(new BigDecimal("100"))
+                        .highPrice(new BigDecimal("102"))
+                        .lowPrice(new BigDecimal("99"))
+                        .closePrice(new BigDecimal("100"))
+                        .volume(new BigDecimal("10"))
+                        .build())
+                .toList();
+    }
+
+    private UpbitDayCandleResponse dayCandle(
+            String ts,
+            String open,
+            String high,
+            String low,
+            String close,
+            String volume
+    ) {
+        return new UpbitDayCandleResponse(
+                ts,
+                decimal(open),
+                decimal(high),
+                decimal(low),
+                decimal(close),
+                decimal(volume)
+        );
+    }
+
+    private BigDecimal decimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+}
@@ -0,0 +1,225 @@
+package org.nowstart.evergreen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.dto.OrderExecutionSummary;
+import org.nowstart.evergreen.data.dto.TradingExecutionMetrics;
+import org.nowstart.evergreen.data.entity.ExecutionMetricsAggregate;
+import org.nowstart.evergreen.data.entity.TradingOrder;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.OrderSide;
+import org.nowstart.evergreen.data.type.OrderStatus;
+import org.nowstart.evergreen.repository.ExecutionMetricsAggregateRepository;
+import org.nowstart.evergreen.repository.ManagedPositionRepository;
+import org.nowstart.evergreen.repository.TradingOrderRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutionMetricsAggregateServiceTest {
+
+    private static final String MARKET = "KRW-BTC";
+
+    @Mock
+    private TradingOrderRepository tradingOrderRepository;
+    @Mock
+    private ExecutionMetricsAggregateRepository executionMetricsAggregateRepository;
+    @Mock
+    private ManagedPositionRepository managedPositionRepository;
+
+    private final Map<ExecutionMetricsAggregate.ExecutionMetricsAggregateKey, ExecutionMetricsAggregate> store = new HashMap<>();
+    private final List<TradingOrder> filledOrders = new ArrayList<>();
+    private ExecutionMetricsAggregateService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExecutionMetricsAggregateService(
+                tradingOrderRepository,
+                executionMetricsAggregateRepository,
+                new AggregateRowInsertService(executionMetricsAggregateRepository, managedPositionRepository)
+        );
+        lenient().when(executionMetricsAggregateRepository.existsById(any()))
+                .thenAnswer(invocation -> store.containsKey(invocation.getArgument(0)));
+        lenient().when(executionMetricsAggregateRepository.findById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(store.get(invocation.getArgument(0))));
+        lenient().when(executionMetricsAggregateRepository.findWithLockById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(store.get(invocation.getArgument(0))));
+        lenient().when(executionMetricsAggregateRepository.save(any(ExecutionMetricsAggregate.class))).thenAnswer(invocation -> {
+            ExecutionMetricsAggregate aggregate = invocation.getArgument(0);
+            store.put(aggregate.getId(), aggregate);
+            return aggregate;
+        });
+        lenient().when(executionMetricsAggregateRepository.saveAndFlush(any(ExecutionMetricsAggregate.class)))
+                .thenAnswer(invocation -> {
+                    ExecutionMetricsAggregate aggregate = invocation.getArgument(0);
+                    store.put(aggregate.getId(), aggregate);
+                    return aggregate;
+                });
+        lenient().when(tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(MARKET, ExecutionMode.PAPER, OrderStatus.FILLED))
+                .thenAnswer(invocation -> summaries(filledOrders));
+    }
+
+    @Test
+    void applyFilledOrder_matchesFullReplay() {
+        List<TradingOrder> history = List.of(
+                filledOrder("b1", OrderSide.BUY, "1.0", "100", "0.05"),
+                filledOrder("s1", OrderSide.SELL, "0.4", "120", "0.02"),
+                filledOrder("s2", OrderSide.SELL, "0.6", "110", "0.03"),
+                filledOrder("b2", OrderSide.BUY, "2.0", "105", "0.1"),
+                filledOrder("s3", OrderSide.SELL, "2.0", "90", "0.09"),
+                filledOrder("b3", OrderSide.BUY, "1.5", "95", "0.07"),
+                filledOrder("s4", OrderSide.SELL, "1.5", "99", "0.07")
+        );
+
+        for (TradingOrder order : history) {
+            filledOrders.add(order);
+            service.applyFilledOrder(order);
+        }
+        TradingExecutionMetrics incremental = service.resolve(MARKET, ExecutionMode.PAPER);
+
+        store.clear();
+        TradingExecutionMetrics replayed = service.resolve(MARKET, ExecutionMode.PAPER);
+
+        assertThat(incremental).isEqualTo(replayed);
+        assertThat(incremental.tradeCount()).isEqualTo(3);
+        verify(tradingOrderRepository, times(2))
+                .findExecutionSummariesBySymbolAndModeAndStatus(MARKET, ExecutionMode.PAPER, OrderStatus.FILLED);
+    }
+
+    @Test
+    void applyFilledOrder_ignoresRepeatedOrderAndUnfilledOrders() {
+        TradingOrder buy = filledOrder("b1", OrderSide.BUY, "1.0", "100", "0");
+        TradingOrder sell = filledOrder("s1", OrderSide.SELL, "1.0", "110", "0");
+        filledOrders.add(buy);
+        service.applyFilledOrder(buy);
+        filledOrders.add(sell);
+        service.applyFilledOrder(sell);
+        service.applyFilledOrder(sell);
+        TradingOrder open = filledOrder("b2", OrderSide.BUY, "1.0", "100", "0");
+        open.setStatus(OrderStatus.PARTIALLY_FILLED);
+        service.applyFilledOrder(open);
+
+        TradingExecutionMetrics metrics = service.resolve(MARKET, ExecutionMode.PAPER);
+
+        assertThat(metrics.tradeCount()).isEqualTo(1);
+        assertThat(metrics.realizedPnlKrw()).isEqualTo(10.0);
+        assertThat(store.values()).singleElement()
+                .extracting(ExecutionMetricsAggregate::getAppliedOrderCount)
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void applyFilledOrder_locksAggregateRowBeforeFolding() {
+        TradingOrder buy = filledOrder("b1", OrderSide.BUY, "1.0", "100", "0");
+        TradingOrder sell = filledOrder("s1", OrderSide.SELL, "1.0", "110", "0");
+        filledOrders.add(buy);
+        service.applyFilledOrder(buy);
+        filledOrders.add(sell);
+        service.applyFilledOrder(sell);
+
+        ExecutionMetricsAggregate.ExecutionMetricsAggregateKey key =
+                new ExecutionMetricsAggregate.ExecutionMetricsAggregateKey(MARKET, ExecutionMode.PAPER);
+        verify(executionMetricsAggregateRepository, times(2)).findWithLockById(key);
+        verify(executionMetricsAggregateRepository, never()).findById(any());
+    }
+
+    @Test
+    void rebuild_locksAggregateRowBeforeReplayingOrders() {
+        filledOrders.add(filledOrder("b1", OrderSide.BUY, "1.0", "100", "0"));
+
+        service.rebuild(MARKET, ExecutionMode.PAPER);
+
+        InOrder inOrder = inOrder(executionMetricsAggregateRepository, tradingOrderRepository);
+        inOrder.verify(executionMetricsAggregateRepository).findWithLockById(any());
+        inOrder.verify(tradingOrderRepository)
+                .findExecutionSummariesBySymbolAndModeAndStatus(MARKET, ExecutionMode.PAPER, OrderStatus.FILLED);
+    }
+
+    @Test
+    void applyFilledOrder_foldsIntoRowSeededByConcurrentFirstFill() {
+        TradingOrder concurrent = filledOrder("b0", OrderSide.BUY, "1.0", "100", "0");
+        filledOrders.add(concurrent);
+        service.applyFilledOrder(concurrent);
+        ExecutionMetricsAggregate seededByOther = store.remove(
+                new ExecutionMetricsAggregate.ExecutionMetricsAggregateKey(MARKET, ExecutionMode.PAPER)
+        );
+        // This transaction cannot see the concurrent fill; its insert loses the race on the primary key.
+        filledOrders.clear();
+        TradingOrder buy = filledOrder("b1", OrderSide.BUY, "1.0", "110", "0");
+        filledOrders.add(buy);
+        doAnswer(invocation -> {
+            store.put(seededByOther.getId(), seededByOther);
+            throw new DataIntegrityViolationException("duplicate key");
+        }).when(executionMetricsAggregateRepository).saveAndFlush(any(ExecutionMetricsAggregate.class));
+
+        service.applyFilledOrder(buy);
+
+        assertThat(store.values()).singleElement().satisfies(aggregate -> {
+            assertThat(aggregate.getAppliedOrderCount()).isEqualTo(2L);
+            assertThat(aggregate.getPositionQty()).isEqualTo(2.0);
+            assertThat(aggregate.getAvgCost()).isEqualTo(105.0);
+        });
+        verify(tradingOrderRepository, times(1))
+                .findExecutionSummariesBySymbolAndModeAndStatus(MARKET, ExecutionMode.PAPER, OrderStatus.FILLED);
+    }
+
+    @Test
+    void resolve_readsPersistedAggregateWithoutReplay() {
+        TradingOrder buy = filledOrder("b1", OrderSide.BUY, "1.0", "100", "0");
+        filledOrders.add(buy);
+        service.applyFilledOrder(buy);
+
+        service.resolve(MARKET, ExecutionMode.PAPER);
+        service.resolve(MARKET, ExecutionMode.PAPER);
+
+        verify(tradingOrderRepository, times(1))
+                .findExecutionSummariesBySymbolAndModeAndStatus(MARKET, ExecutionMode.PAPER, OrderStatus.FILLED);
+    }
+
+    @Test
+    void resolve_returnsEmptyMetricsWhenNoFilledOrderExists() {
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(MARKET, ExecutionMode.LIVE, OrderStatus.FILLED))
+                .thenReturn(List.of());
+
+        TradingExecutionMetrics metrics = service.resolve(MARKET, ExecutionMode.LIVE);
+
+        assertThat(metrics.tradeCount()).isZero();
+        assertThat(metrics.realizedPnlKrw()).isNaN();
+    }
+
+    private TradingOrder filledOrder(String clientOrderId, OrderSide side, String qty, String price, String fee) {
+        return TradingOrder.builder()
+                .clientOrderId(clientOrderId)
+                .symbol(MARKET)
+                .mode(ExecutionMode.PAPER)
+                .status(OrderStatus.FILLED)
+                .side(side)
+                .executedVolume(new BigDecimal(qty))
+                .avgExecutedPrice(new BigDecimal(price))
+                .feeAmount(new BigDecimal(fee))
+                .build();
+    }
+
+    private List<OrderExecutionSummary> summaries(List<TradingOrder> orders) {
+        return orders.stream().map(order -> order == null ? null : OrderExecutionSummary.from(order)).toList();
+    }
+}
@@ -0,0 +1,181 @@
+package org.nowstart.evergreen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.dto.OrderExecutionSummary;
+import org.nowstart.evergreen.data.entity.ManagedPosition;
+import org.nowstart.evergreen.data.entity.TradingOrder;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.OrderSide;
+import org.nowstart.evergreen.repository.ExecutionMetricsAggregateRepository;
+import org.nowstart.evergreen.repository.ManagedPositionRepository;
+import org.nowstart.evergreen.repository.TradingOrderRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class ManagedPositionLedgerServiceTest {
+
+    private static final String MARKET = "KRW-BTC";
+
+    @Mock
+    private TradingOrderRepository tradingOrderRepository;
+    @Mock
+    private ManagedPositionRepository managedPositionRepository;
+    @Mock
+    private ExecutionMetricsAggregateRepository executionMetricsAggregateRepository;
+
+    private final Map<ManagedPosition.ManagedPositionKey, ManagedPosition> store = new HashMap<>();
+    private final List<TradingOrder> orders = new ArrayList<>();
+    private ManagedPositionLedgerService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ManagedPositionLedgerService(
+                tradingOrderRepository,
+                managedPositionRepository,
+                new AggregateRowInsertService(executionMetricsAggregateRepository, managedPositionRepository)
+        );
+        lenient().when(managedPositionRepository.existsById(any()))
+                .thenAnswer(invocation -> store.containsKey(invocation.getArgument(0)));
+        lenient().when(managedPositionRepository.findById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(store.get(invocation.getArgument(0))));
+        lenient().when(managedPositionRepository.findWithLockById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(store.get(invocation.getArgument(0))));
+        lenient().when(managedPositionRepository.save(any(ManagedPosition.class))).thenAnswer(invocation -> {
+            ManagedPosition position = invocation.getArgument(0);
+            store.put(position.getId(), position);
+            return position;
+        });
+        lenient().when(managedPositionRepository.saveAndFlush(any(ManagedPosition.class))).thenAnswer(invocation -> {
+            ManagedPosition position = invocation.getArgument(0);
+            store.put(position.getId(), position);
+            return position;
+        });
+        lenient().when(tradingOrderRepository.findExecutionSummariesBySymbolAndMode(MARKET, ExecutionMode.LIVE))
+                .thenAnswer(invocation -> summaries(orders));
+    }
+
+    @Test
+    void applyExecutedDelta_keepsLedgerInStepWithReplayWithoutReloadingOrders() {
+        TradingOrder buy = order(OrderSide.BUY, "0.5");
+        orders.add(buy);
+        service.applyExecutedDelta(buy, new BigDecimal("0.5"));
+
+        buy.setExecutedVolume(new BigDecimal("0.8"));
+        service.applyExecutedDelta(buy, new BigDecimal("0.3"));
+        TradingOrder sell = order(OrderSide.SELL, "1.0");
+        orders.add(sell);
+        service.applyExecutedDelta(sell, new BigDecimal("1.0"));
+        TradingOrder rebuy = order(OrderSide.BUY, "0.2");
+        orders.add(rebuy);
+        service.applyExecutedDelta(rebuy, new BigDecimal("0.2"));
+
+        assertThat(service.resolveManagedQty(MARKET, ExecutionMode.LIVE)).isEqualByComparingTo("0.2");
+        assertThat(service.verify(MARKET, ExecutionMode.LIVE)).isTrue();
+        // Seeded once by replay, then verified once by replay.
+        verify(tradingOrderRepository, times(2)).findExecutionSummariesBySymbolAndMode(MARKET, ExecutionMode.LIVE);
+    }
+
+    @Test
+    void applyExecutedDelta_locksLedgerRowBeforeApplyingDelta() {
+        TradingOrder buy = order(OrderSide.BUY, "0.5");
+        orders.add(buy);
+        service.applyExecutedDelta(buy, new BigDecimal("0.5"));
+        service.applyExecutedDelta(buy, new BigDecimal("0.3"));
+        service.verify(MARKET, ExecutionMode.LIVE);
+
+        verify(managedPositionRepository, times(3))
+                .findWithLockById(new ManagedPosition.ManagedPositionKey(MARKET, ExecutionMode.LIVE));
+        verify(managedPositionRepository, never()).findById(any());
+    }
+
+    @Test
+    void applyExecutedDelta_locksLedgerRowBeforeReplayingOrders() {
+        TradingOrder buy = order(OrderSide.BUY, "0.5");
+        orders.add(buy);
+
+        service.applyExecutedDelta(buy, new BigDecimal("0.5"));
+
+        InOrder inOrder = inOrder(managedPositionRepository, tradingOrderRepository);
+        inOrder.verify(managedPositionRepository).saveAndFlush(any(ManagedPosition.class));
+        inOrder.verify(managedPositionRepository)
+                .findWithLockById(new ManagedPosition.ManagedPositionKey(MARKET, ExecutionMode.LIVE));
+        inOrder.verify(tradingOrderRepository).findExecutionSummariesBySymbolAndMode(MARKET, ExecutionMode.LIVE);
+        assertThat(service.resolveManagedQty(MARKET, ExecutionMode.LIVE)).isEqualByComparingTo("0.5");
+    }
+
+    @Test
+    void applyExecutedDelta_appliesDeltaToRowSeededByConcurrentFirstFill() {
+        ManagedPosition.ManagedPositionKey key = new ManagedPosition.ManagedPositionKey(MARKET, ExecutionMode.LIVE);
+        ManagedPosition seededByOther = ManagedPosition.builder().id(key).qty(new BigDecimal("1.0")).build();
+        // This transaction cannot see the concurrent fill; its insert loses the race on the primary key.
+        TradingOrder buy = order(OrderSide.BUY, "0.5");
+        orders.add(buy);
+        doAnswer(invocation -> {
+            store.put(key, seededByOther);
+            throw new DataIntegrityViolationException("duplicate key");
+        }).when(managedPositionRepository).saveAndFlush(any(ManagedPosition.class));
+
+        service.applyExecutedDelta(buy, new BigDecimal("0.5"));
+
+        assertThat(store.get(key).getQty()).isEqualByComparingTo("1.5");
+        verify(tradingOrderRepository, never()).findExecutionSummariesBySymbolAndMode(any(), any());
+    }
+
+    @Test
+    void applyExecutedDelta_ignoresNonPositiveDelta() {
+        service.applyExecutedDelta(order(OrderSide.BUY, "1.0"), BigDecimal.ZERO);
+
+        verify(managedPositionRepository, never()).save(any());
+    }
+
+    @Test
+    void verify_repairsDriftedLedger() {
+        orders.add(order(OrderSide.BUY, "1.5"));
+        store.put(
+                new ManagedPosition.ManagedPositionKey(MARKET, ExecutionMode.LIVE),
+                ManagedPosition.builder()
+                        .id(new ManagedPosition.ManagedPositionKey(MARKET, ExecutionMode.LIVE))
+                        .qty(new BigDecimal("1.0"))
+                        .build()
+        );
+
+        boolean matched = service.verify(MARKET, ExecutionMode.LIVE);
+
+        assertThat(matched).isFalse();
+        assertThat(service.resolveManagedQty(MARKET, ExecutionMode.LIVE)).isEqualByComparingTo("1.5");
+    }
+
+    private TradingOrder order(OrderSide side, String executedVolume) {
+        return TradingOrder.builder()
+                .clientOrderId(side + "-" + orders.size())
+                .symbol(MARKET)
+                .mode(ExecutionMode.LIVE)
+                .side(side)
+                .executedVolume(new BigDecimal(executedVolume))
+                .build();
+    }
+
+    private List<OrderExecutionSummary> summaries(List<TradingOrder> orders) {
+        return orders.stream().map(order -> order == null ? null : OrderExecutionSummary.from(order)).toList();
+    }
+}
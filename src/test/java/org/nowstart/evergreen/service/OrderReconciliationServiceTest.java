@@ -11,8 +11,10 @@ import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +41,12 @@ class OrderReconciliationServiceTest {
     private FillRepository fillRepository;
     @Mock
     private PositionRepository positionRepository;
+    @Mock
+    private ExecutionMetricsAggregateService executionMetricsAggregateService;
+    @Mock
+    private ManagedPositionLedgerService managedPositionLedgerService;
+    @Mock
+    private AccountSnapshotService accountSnapshotService;
 
     private OrderReconciliationService orderReconciliationService;
 
@@ -47,12 +55,15 @@ class OrderReconciliationServiceTest {
         orderReconciliationService = new OrderReconciliationService(
                 tradingOrderRepository,
                 fillRepository,
-                positionRepository
+                positionRepository,
+                executionMetricsAggregateService,
+                managedPositionLedgerService,
+                accountSnapshotService
         );
 
         lenient().when(tradingOrderRepository.save(any(TradingOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
         lenient().when(positionRepository.save(any(TradingPosition.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        lenient().when(fillRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(fillRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -74,7 +85,10 @@ class OrderReconciliationServiceTest {
                 .build();
 
         when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.of(totalPosition));
-        when(fillRepository.existsById(any())).thenReturn(false, true);
+        when(fillRepository.findIdsByOrderId("client-1")).thenReturn(
+                Set.of(),
+                Set.of(new Fill.FillKey("client-1", Instant.parse("2026-02-20T00:00:00Z"), "trade-1"))
+        );
 
         UpbitOrderResponse response = orderResponse(
                 "upbit-1",
@@ -89,7 +103,11 @@ class OrderReconciliationServiceTest {
         orderReconciliationService.reconcile(order, response);
         assertThat(totalPosition.getQty()).isEqualByComparingTo("2.0");
 
-        verify(fillRepository, times(1)).save(any());
+        ArgumentCaptor<List<Fill>> fillCaptor = fillListCaptor();
+        verify(fillRepository, times(1)).saveAll(fillCaptor.capture());
+        assertThat(fillCaptor.getValue()).hasSize(1);
+        // Only the first poll moved balances.
+        verify(accountSnapshotService, times(1)).invalidate("KRW-BTC");
     }
 
     @Test
@@ -111,7 +129,7 @@ class OrderReconciliationServiceTest {
                 .build();
 
         when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.of(totalPosition));
-        when(fillRepository.existsById(any())).thenReturn(false);
+        when(fillRepository.findIdsByOrderId(any())).thenReturn(Set.of());
 
         UpbitOrderResponse response = orderResponse(
                 "upbit-2",
@@ -121,10 +139,12 @@ class OrderReconciliationServiceTest {
         );
 
         TradingOrder reconciled = orderReconciliationService.reconcile(order, response);
+        orderReconciliationService.reconcile(order, response);
 
         assertThat(reconciled.getStatus()).isEqualTo(OrderStatus.FILLED);
         assertThat(totalPosition.getQty()).isEqualByComparingTo("0.6");
         assertThat(totalPosition.getState()).isEqualTo(PositionState.LONG);
+        verify(executionMetricsAggregateService, times(1)).applyFilledOrder(order);
     }
 
     @Test
@@ -139,7 +159,7 @@ class OrderReconciliationServiceTest {
                 .build();
 
         when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.empty());
-        when(fillRepository.existsById(any())).thenReturn(false);
+        when(fillRepository.findIdsByOrderId(any())).thenReturn(Set.of());
 
         UpbitOrderResponse response = orderResponse(
                 "upbit-3",
@@ -153,7 +173,9 @@ class OrderReconciliationServiceTest {
 
         orderReconciliationService.reconcile(order, response);
 
-        verify(fillRepository, times(2)).save(any());
+        ArgumentCaptor<List<Fill>> fillCaptor = fillListCaptor();
+        verify(fillRepository, times(1)).saveAll(fillCaptor.capture());
+        assertThat(fillCaptor.getValue()).hasSize(2);
         ArgumentCaptor<TradingPosition> positionCaptor = ArgumentCaptor.forClass(TradingPosition.class);
         verify(positionRepository).save(positionCaptor.capture());
         assertThat(positionCaptor.getValue().getQty()).isEqualByComparingTo("0.3");
@@ -236,7 +258,7 @@ class OrderReconciliationServiceTest {
                         .state(PositionState.FLAT)
                         .build()
         ));
-        when(fillRepository.existsById(any())).thenReturn(false);
+        when(fillRepository.findIdsByOrderId(any())).thenReturn(Set.of());
 
         UpbitOrderResponse response = orderResponse(
                 "upbit-6",
@@ -271,7 +293,7 @@ class OrderReconciliationServiceTest {
                 .state(PositionState.LONG)
                 .build();
         when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.of(existing));
-        when(fillRepository.existsById(any())).thenReturn(false);
+        when(fillRepository.findIdsByOrderId(any())).thenReturn(Set.of());
 
         UpbitOrderResponse response = orderResponse(
                 "upbit-7",
@@ -298,7 +320,7 @@ class OrderReconciliationServiceTest {
                 .avgExecutedPrice(new BigDecimal("100"))
                 .build();
         when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.empty());
-        when(fillRepository.existsById(any())).thenReturn(false);
+        when(fillRepository.findIdsByOrderId(any())).thenReturn(Set.of());
 
         UpbitOrderResponse response = orderResponse(
                 "upbit-8",
@@ -312,11 +334,11 @@ class OrderReconciliationServiceTest {
 
         orderReconciliationService.reconcile(order, response);
 
-        ArgumentCaptor<Fill> fillCaptor = ArgumentCaptor.forClass(Fill.class);
-        verify(fillRepository, times(2)).save(fillCaptor.capture());
-        List<Fill> fills = fillCaptor.getAllValues();
-        assertThat(fills.get(0).getId().getFilledAt()).isEqualTo(java.time.Instant.EPOCH);
-        assertThat(fills.get(1).getId().getFilledAt()).isEqualTo(java.time.Instant.EPOCH);
+        ArgumentCaptor<List<Fill>> fillCaptor = fillListCaptor();
+        verify(fillRepository, times(1)).saveAll(fillCaptor.capture());
+        List<Fill> fills = fillCaptor.getValue();
+        assertThat(fills.get(0).getId().getFilledAt()).isEqualTo(Instant.EPOCH);
+        assertThat(fills.get(1).getId().getFilledAt()).isEqualTo(Instant.EPOCH);
         assertThat(fills.get(0).getId().getTradeUuid()).startsWith("client-8:");
     }
 
@@ -331,7 +353,7 @@ class OrderReconciliationServiceTest {
                 .avgExecutedPrice(new BigDecimal("100"))
                 .build();
         when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.empty());
-        when(fillRepository.existsById(any())).thenReturn(false);
+        when(fillRepository.findIdsByOrderId(any())).thenReturn(Set.of());
 
         UpbitOrderResponse response = new UpbitOrderResponse(
                 "upbit-9",
@@ -357,6 +379,59 @@ class OrderReconciliationServiceTest {
         assertThat(reconciled.getAvgExecutedPrice()).isEqualByComparingTo("123");
     }
 
+    @Test
+    void reconcile_loadsKnownFillKeysOnceAndInsertsOnlyNewTrades() {
+        TradingOrder order = TradingOrder.builder()
+                .clientOrderId("client-10")
+                .symbol("KRW-BTC")
+                .side(OrderSide.BUY)
+                .status(OrderStatus.SUBMITTED)
+                .executedVolume(new BigDecimal("0.1"))
+                .avgExecutedPrice(new BigDecimal("100"))
+                .build();
+        when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.empty());
+        when(fillRepository.findIdsByOrderId("client-10")).thenReturn(Set.of(
+                new Fill.FillKey("client-10", Instant.parse("2026-02-20T00:00:00Z"), "trade-a")
+        ));
+
+        UpbitOrderResponse response = orderResponse(
+                "upbit-10",
+                "wait",
+                "0.3",
+                List.of(
+                        trade("trade-a", "100", "0.1", "10", "2026-02-20T00:00:00+00:00"),
+                        trade("trade-b", "100", "0.1", "10", "2026-02-20T00:00:01+00:00"),
+                        trade("trade-b", "100", "0.1", "10", "2026-02-20T00:00:01+00:00"),
+                        trade("trade-c", "100", "0.1", "10", "2026-02-20T00:00:02+00:00")
+                )
+        );
+
+        orderReconciliationService.reconcile(order, response);
+
+        verify(fillRepository, times(1)).findIdsByOrderId("client-10");
+        ArgumentCaptor<List<Fill>> fillCaptor = fillListCaptor();
+        verify(fillRepository, times(1)).saveAll(fillCaptor.capture());
+        assertThat(fillCaptor.getValue())
+                .extracting(fill -> fill.getId().getTradeUuid())
+                .containsExactly("trade-b", "trade-c");
+        verifyNoMoreInteractions(fillRepository);
+    }
+
+    @Test
+    void reconcile_skipsFillLookupWhenResponseHasNoTrades() {
+        TradingOrder order = TradingOrder.builder()
+                .clientOrderId("client-11")
+                .symbol("KRW-BTC")
+                .side(OrderSide.BUY)
+                .status(OrderStatus.SUBMITTED)
+                .executedVolume(BigDecimal.ZERO)
+                .build();
+
+        orderReconciliationService.reconcile(order, orderResponse("upbit-11", "wait", "0", List.of()));
+
+        verifyNoInteractions(fillRepository);
+    }
+
     @Test
     void applyPositionDelta_returnsImmediatelyWhenDeltaQuantityIsNotPositive() throws Exception {
         TradingOrder order = TradingOrder.builder()
@@ -378,6 +453,11 @@ class OrderReconciliationServiceTest {
         verifyNoMoreInteractions(fillRepository);
     }
 
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Fill>> fillListCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
     private UpbitOrderResponse orderResponse(String uuid, String state, String executedVolume, List<UpbitOrderResponse.UpbitTrade> trades) {
         return new UpbitOrderResponse(
                 uuid,
@@ -23,6 +23,7 @@ import org.nowstart.evergreen.data.type.ExecutionMode;
 import org.nowstart.evergreen.data.type.OrderSide;
 import org.nowstart.evergreen.data.type.OrderStatus;
 import org.nowstart.evergreen.data.type.PositionState;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.nowstart.evergreen.repository.FillRepository;
 import org.nowstart.evergreen.repository.PositionRepository;
 import org.nowstart.evergreen.repository.TradingOrderRepository;
@@ -36,6 +37,10 @@ class PaperExecutionServiceTest {
     private FillRepository fillRepository;
     @Mock
     private PositionRepository positionRepository;
+    @Mock
+    private ExecutionMetricsAggregateService executionMetricsAggregateService;
+    @Mock
+    private ManagedPositionLedgerService managedPositionLedgerService;
 
     private PaperExecutionService paperExecutionService;
 
@@ -52,14 +57,32 @@ class PaperExecutionServiceTest {
                 400,
                 true,
                 new BigDecimal("100000"),
-                "v5"
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
         );
 
         paperExecutionService = new PaperExecutionService(
                 tradingOrderRepository,
                 fillRepository,
                 positionRepository,
-                properties
+                properties,
+                executionMetricsAggregateService,
+                managedPositionLedgerService
         );
 
         when(tradingOrderRepository.save(any(TradingOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
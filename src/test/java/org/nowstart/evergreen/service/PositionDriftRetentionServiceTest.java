@@ -0,0 +1,103 @@
+package org.nowstart.evergreen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.entity.PositionDriftSnapshot;
+import org.nowstart.evergreen.repository.PositionDriftSnapshotRepository;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class PositionDriftRetentionServiceTest {
+
+    private static final Instant BEFORE = Instant.parse("2026-03-10T00:00:00Z");
+
+    @Mock
+    private PositionDriftSnapshotRepository positionDriftSnapshotRepository;
+
+    @Test
+    void downsample_keepsChangePointsAndFirstRowPerBucket() {
+        PositionDriftRetentionService service = createService();
+        PositionDriftSnapshot first = snapshot(1L, "2026-03-01T00:00:00Z", "0.1");
+        PositionDriftSnapshot duplicate = snapshot(2L, "2026-03-01T00:00:30Z", "0.1");
+        PositionDriftSnapshot changed = snapshot(3L, "2026-03-01T00:01:00Z", "0.2");
+        PositionDriftSnapshot duplicateOfChanged = snapshot(4L, "2026-03-01T12:00:00Z", "0.2");
+        PositionDriftSnapshot nextDay = snapshot(5L, "2026-03-02T00:00:00Z", "0.2");
+
+        when(positionDriftSnapshotRepository.findSymbolsCapturedBefore(BEFORE)).thenReturn(List.of("KRW-BTC"));
+        when(positionDriftSnapshotRepository.findBySymbolAndCapturedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq("KRW-BTC"), eq(BEFORE), eq(0L), any(Limit.class)
+        )).thenReturn(List.of(first, duplicate, changed, duplicateOfChanged, nextDay));
+        when(positionDriftSnapshotRepository.findBySymbolAndCapturedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq("KRW-BTC"), eq(BEFORE), eq(5L), any(Limit.class)
+        )).thenReturn(List.of());
+
+        int deleted = service.downsample(BEFORE, Duration.ofDays(1));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PositionDriftSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(positionDriftSnapshotRepository).deleteAllInBatch(captor.capture());
+        assertThat(captor.getValue()).containsExactly(duplicate, duplicateOfChanged);
+        assertThat(deleted).isEqualTo(2);
+    }
+
+    @Test
+    void downsample_deletesPerChunkAndComparesAcrossChunkBoundary() {
+        PositionDriftRetentionService service = createService();
+        PositionDriftSnapshot first = snapshot(1L, "2026-03-01T00:00:00Z", "0.1");
+        PositionDriftSnapshot changed = snapshot(2L, "2026-03-01T00:01:00Z", "0.2");
+        PositionDriftSnapshot duplicateOfChanged = snapshot(3L, "2026-03-01T00:02:00Z", "0.2");
+
+        when(positionDriftSnapshotRepository.findSymbolsCapturedBefore(BEFORE)).thenReturn(List.of("KRW-BTC"));
+        when(positionDriftSnapshotRepository.findBySymbolAndCapturedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq("KRW-BTC"), eq(BEFORE), eq(0L), any(Limit.class)
+        )).thenReturn(List.of(first, changed));
+        when(positionDriftSnapshotRepository.findBySymbolAndCapturedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq("KRW-BTC"), eq(BEFORE), eq(2L), any(Limit.class)
+        )).thenReturn(List.of(duplicateOfChanged));
+        when(positionDriftSnapshotRepository.findBySymbolAndCapturedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq("KRW-BTC"), eq(BEFORE), eq(3L), any(Limit.class)
+        )).thenReturn(List.of());
+
+        int deleted = service.downsample(BEFORE, Duration.ofDays(1));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PositionDriftSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(positionDriftSnapshotRepository, times(2)).deleteAllInBatch(captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(List.of(), List.of(duplicateOfChanged));
+        assertThat(deleted).isEqualTo(1);
+    }
+
+    private PositionDriftRetentionService createService() {
+        return new PositionDriftRetentionService(
+                positionDriftSnapshotRepository,
+                new PositionDriftDownsampleChunkService(positionDriftSnapshotRepository)
+        );
+    }
+
+    private PositionDriftSnapshot snapshot(Long id, String capturedAt, String totalQty) {
+        return PositionDriftSnapshot.builder()
+                .id(id)
+                .symbol("KRW-BTC")
+                .totalQty(new BigDecimal(totalQty))
+                .managedQty(BigDecimal.ZERO)
+                .externalQty(new BigDecimal(totalQty))
+                .driftQty(new BigDecimal(totalQty))
+                .driftDetected(true)
+                .capturedAt(Instant.parse(capturedAt))
+                .build();
+    }
+}
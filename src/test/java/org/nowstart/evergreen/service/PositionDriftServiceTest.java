@@ -4,11 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.nowstart.evergreen.data.entity.PositionDriftSnapshot;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.nowstart.evergreen.repository.PositionDriftSnapshotRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,9 +40,7 @@ class PositionDriftServiceTest {
 
     @Test
     void captureSnapshot_marksDriftWhenExternalQtyExists() {
-        PositionDriftService service = new PositionDriftService(
-                positionDriftSnapshotRepository
-        );
+        PositionDriftService service = new PositionDriftService(positionDriftSnapshotRepository, properties(Duration.ofHours(1)));
 
         service.captureSnapshot("KRW-BTC", new BigDecimal("0.12"), new BigDecimal("0.07"));
 
@@ -51,9 +56,7 @@ class PositionDriftServiceTest {
 
     @Test
     void captureSnapshot_clearsNegativeExternalQtyAndStillMarksDriftOnMismatch() {
-        PositionDriftService service = new PositionDriftService(
-                positionDriftSnapshotRepository
-        );
+        PositionDriftService service = new PositionDriftService(positionDriftSnapshotRepository, properties(Duration.ofHours(1)));
 
         service.captureSnapshot("KRW-BTC", new BigDecimal("0.12"), new BigDecimal("0.20"));
 
@@ -67,7 +70,7 @@ class PositionDriftServiceTest {
 
     @Test
     void shouldEmitExternalDrift_handlesNullAndDriftComparisonCases() throws Exception {
-        PositionDriftService service = new PositionDriftService(positionDriftSnapshotRepository);
+        PositionDriftService service = new PositionDriftService(positionDriftSnapshotRepository, properties(Duration.ofHours(1)));
         Method method = PositionDriftService.class.getDeclaredMethod(
                 "shouldEmitExternalDrift",
                 PositionDriftSnapshot.class,
@@ -88,6 +91,62 @@ class PositionDriftServiceTest {
         assertThat((boolean) method.invoke(service, driftA, driftChanged)).isTrue();
     }
 
+    @Test
+    void captureSnapshot_skipsUnchangedQuantitiesAndQueriesLatestOnlyOnce() {
+        PositionDriftService service = new PositionDriftService(positionDriftSnapshotRepository, properties(Duration.ofHours(1)));
+
+        service.captureSnapshot("KRW-BTC", new BigDecimal("0.12"), new BigDecimal("0.07"));
+        service.captureSnapshot("KRW-BTC", new BigDecimal("0.120"), new BigDecimal("0.07"));
+        service.captureSnapshot("KRW-BTC", new BigDecimal("0.15"), new BigDecimal("0.07"));
+
+        verify(positionDriftSnapshotRepository, times(2)).save(any(PositionDriftSnapshot.class));
+        verify(positionDriftSnapshotRepository, times(1)).findTopBySymbolOrderByCapturedAtDesc("KRW-BTC");
+    }
+
+    @Test
+    void captureSnapshot_writesHeartbeatWhenLatestSnapshotIsOlderThanInterval() {
+        PositionDriftSnapshot stale = snapshot("KRW-BTC", "0.1", "0.1", false);
+        when(positionDriftSnapshotRepository.findTopBySymbolOrderByCapturedAtDesc("KRW-ETH")).thenReturn(Optional.of(stale));
+        PositionDriftService service = new PositionDriftService(positionDriftSnapshotRepository, properties(Duration.ofHours(1)));
+
+        service.captureSnapshot("KRW-ETH", new BigDecimal("0.1"), new BigDecimal("0.1"));
+        service.captureSnapshot("KRW-ETH", new BigDecimal("0.1"), new BigDecimal("0.1"));
+
+        verify(positionDriftSnapshotRepository, times(1)).save(any(PositionDriftSnapshot.class));
+    }
+
+    private TradingProperties properties(Duration heartbeat) {
+        return new TradingProperties(
+                "https://api.upbit.com",
+                "",
+                "",
+                new BigDecimal("0.0005"),
+                Duration.ofSeconds(30),
+                ExecutionMode.LIVE,
+                List.of("KRW-BTC"),
+                400,
+                true,
+                new BigDecimal("100000"),
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                heartbeat,
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
+        );
+    }
+
     private PositionDriftSnapshot snapshot(String symbol, String totalQty, String managedQty, boolean driftDetected) {
         return PositionDriftSnapshot.builder()
                 .symbol(symbol)
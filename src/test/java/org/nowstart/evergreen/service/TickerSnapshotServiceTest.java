@@ -0,0 +1,144 @@
+package org.nowstart.evergreen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.dto.UpbitTickerResponse;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
+import org.nowstart.evergreen.repository.UpbitFeignClient;
+
+@ExtendWith(MockitoExtension.class)
+class TickerSnapshotServiceTest {
+
+    @Mock
+    private UpbitFeignClient upbitFeignClient;
+
+    private TickerSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TickerSnapshotService(upbitFeignClient, properties(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void refresh_fetchesAllMarketsInOneRequestAndServesReadsFromSnapshot() {
+        when(upbitFeignClient.getTickers("KRW-BTC,KRW-ETH")).thenReturn(List.of(
+                new UpbitTickerResponse("KRW-BTC", new BigDecimal("98000000")),
+                new UpbitTickerResponse("KRW-ETH", new BigDecimal("4100000"))
+        ));
+
+        service.refresh(List.of("KRW-BTC", "KRW-ETH", "KRW-BTC"));
+
+        assertThat(service.latestTradePrice("KRW-BTC")).isEqualByComparingTo("98000000");
+        assertThat(service.latestTradePrice("KRW-ETH")).isEqualByComparingTo("4100000");
+        verify(upbitFeignClient, times(1)).getTickers(anyString());
+    }
+
+    @Test
+    void refresh_chunksLargeUniverses() {
+        List<String> markets = IntStream.range(0, TickerSnapshotService.MAX_MARKETS_PER_REQUEST + 1)
+                .mapToObj(i -> "KRW-C" + i)
+                .toList();
+        when(upbitFeignClient.getTickers(anyString())).thenReturn(List.of());
+
+        service.refresh(markets);
+
+        ArgumentCaptor<String> requested = ArgumentCaptor.forClass(String.class);
+        verify(upbitFeignClient, times(2)).getTickers(requested.capture());
+        assertThat(requested.getAllValues().get(0).split(",")).hasSize(TickerSnapshotService.MAX_MARKETS_PER_REQUEST);
+        assertThat(requested.getAllValues().get(1)).isEqualTo("KRW-C" + TickerSnapshotService.MAX_MARKETS_PER_REQUEST);
+    }
+
+    @Test
+    void refresh_keepsOtherChunksWhenOneRequestFails() {
+        List<String> markets = new ArrayList<>(IntStream.range(0, TickerSnapshotService.MAX_MARKETS_PER_REQUEST)
+                .mapToObj(i -> "KRW-C" + i)
+                .toList());
+        markets.add("KRW-BTC");
+        when(upbitFeignClient.getTickers(String.join(",", markets.subList(0, TickerSnapshotService.MAX_MARKETS_PER_REQUEST))))
+                .thenThrow(new IllegalStateException("network"));
+        when(upbitFeignClient.getTickers("KRW-BTC")).thenReturn(List.of(new UpbitTickerResponse("KRW-BTC", new BigDecimal("98000000"))));
+
+        service.refresh(markets);
+
+        assertThat(service.latestTradePrice("KRW-BTC")).isEqualByComparingTo("98000000");
+        verify(upbitFeignClient, times(1)).getTickers("KRW-BTC");
+    }
+
+    @Test
+    void latestTradePrice_fallsBackToSingleRequestForMissingOrStaleSnapshot() {
+        TickerSnapshotService staleService = new TickerSnapshotService(upbitFeignClient, properties(Duration.ZERO));
+        when(upbitFeignClient.getTickers("KRW-BTC")).thenReturn(List.of(new UpbitTickerResponse("KRW-BTC", new BigDecimal("98000000"))));
+
+        staleService.refresh(List.of("KRW-BTC"));
+        BigDecimal price = staleService.latestTradePrice("KRW-BTC");
+
+        assertThat(price).isEqualByComparingTo("98000000");
+        verify(upbitFeignClient, times(2)).getTickers("KRW-BTC");
+    }
+
+    @Test
+    void latestTradePrice_returnsZeroForInvalidTickerData() {
+        when(upbitFeignClient.getTickers("KRW-BTC")).thenReturn(
+                null,
+                Arrays.asList(null, new UpbitTickerResponse("KRW-BTC", null)),
+                List.of(new UpbitTickerResponse("KRW-BTC", BigDecimal.ZERO)),
+                List.of(new UpbitTickerResponse("KRW-ETH", BigDecimal.TEN))
+        );
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(service.latestTradePrice("KRW-BTC")).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+        verify(upbitFeignClient, never()).getTickers("KRW-ETH");
+    }
+
+    private TradingProperties properties(Duration interval) {
+        return new TradingProperties(
+                "https://api.upbit.com",
+                "",
+                "",
+                new BigDecimal("0.0005"),
+                interval,
+                ExecutionMode.LIVE,
+                List.of("KRW-BTC"),
+                400,
+                true,
+                new BigDecimal("100000"),
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
+        );
+    }
+}
@@ -3,6 +3,7 @@ package org.nowstart.evergreen.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -11,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.List;
@@ -35,6 +37,7 @@ import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.data.type.ExecutionMode;
 import org.nowstart.evergreen.data.type.OrderSide;
 import org.nowstart.evergreen.data.type.OrderStatus;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.nowstart.evergreen.data.type.TradeOrderType;
 import org.nowstart.evergreen.repository.AuditEventRepository;
 import org.nowstart.evergreen.repository.TradingOrderRepository;
@@ -192,6 +195,7 @@ class TradingExecutionServiceTest {
 
         assertThat(normalized.getPrice()).isEqualByComparingTo(new BigDecimal("5000000"));
         assertThat(normalized.getRequestedNotional()).isEqualByComparingTo(new BigDecimal("50000"));
+        verify(auditEventRepository).save(argThat(event -> "PAPER_ORDER_EXECUTED".equals(event.getType())));
     }
 
     @Test
@@ -653,7 +657,9 @@ class TradingExecutionServiceTest {
                 paperExecutionService,
                 properties,
                 validationService,
-                new TradingOrderFactory()
+                new TradingOrderFactory(),
+                new TickerSnapshotService(upbitFeignClient, properties),
+                new AccountSnapshotService(upbitFeignClient, properties, new SimpleMeterRegistry())
         );
     }
 
@@ -669,7 +675,23 @@ class TradingExecutionServiceTest {
                 400,
                 true,
                 new BigDecimal("100000"),
-                "v5"
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
         );
     }
 
@@ -0,0 +1,128 @@
+package org.nowstart.evergreen.service;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.entity.TradingOrder;
+import org.nowstart.evergreen.data.property.TradingProperties;
+import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.OrderStatus;
+import org.nowstart.evergreen.data.type.SchedulerMode;
+import org.nowstart.evergreen.repository.TradingOrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TradingMaintenanceServiceTest {
+
+    private static final List<OrderStatus> ACTIVE_ORDER_STATUSES = List.of(
+            OrderStatus.CREATED,
+            OrderStatus.SUBMITTED,
+            OrderStatus.PARTIALLY_FILLED
+    );
+
+    @Mock
+    private TradingSignalMarketDataService tradingSignalMarketDataService;
+    @Mock
+    private TradingPositionSyncService tradingPositionSyncService;
+    @Mock
+    private TradingOrderRepository tradingOrderRepository;
+    @Mock
+    private TradingExecutionService tradingExecutionService;
+
+    @Test
+    void runOnce_syncsPositionsAndRefreshesActiveLiveOrders() {
+        TradingMaintenanceService service = createService(ExecutionMode.LIVE);
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-BTC")).thenReturn("KRW-BTC");
+        when(tradingOrderRepository.findByModeAndStatusIn(ExecutionMode.LIVE, ACTIVE_ORDER_STATUSES)).thenReturn(List.of(
+                order("submitted", "exchange-1"),
+                order("not-sent", null)
+        ));
+
+        service.runOnce();
+
+        verify(tradingPositionSyncService).syncPositions(List.of("KRW-BTC"));
+        verify(tradingExecutionService).getOrder("submitted");
+        verify(tradingExecutionService, never()).getOrder("not-sent");
+    }
+
+    @Test
+    void runOnce_refreshesOrdersEvenWhenSyncFails() {
+        TradingMaintenanceService service = createService(ExecutionMode.LIVE);
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-BTC")).thenReturn("KRW-BTC");
+        doThrow(new IllegalStateException("sync failed")).when(tradingPositionSyncService).syncPositions(List.of("KRW-BTC"));
+        when(tradingOrderRepository.findByModeAndStatusIn(ExecutionMode.LIVE, ACTIVE_ORDER_STATUSES))
+                .thenReturn(List.of(order("submitted", "exchange-1")));
+
+        service.runOnce();
+
+        verify(tradingExecutionService).getOrder("submitted");
+    }
+
+    @Test
+    void runOnce_skipsOrderRefreshInPaperMode() {
+        TradingMaintenanceService service = createService(ExecutionMode.PAPER);
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-BTC")).thenReturn("KRW-BTC");
+
+        service.runOnce();
+
+        verify(tradingPositionSyncService).syncPositions(List.of("KRW-BTC"));
+        verifyNoInteractions(tradingOrderRepository, tradingExecutionService);
+    }
+
+    private TradingOrder order(String clientOrderId, String exchangeOrderId) {
+        return TradingOrder.builder()
+                .clientOrderId(clientOrderId)
+                .exchangeOrderId(exchangeOrderId)
+                .symbol("KRW-BTC")
+                .mode(ExecutionMode.LIVE)
+                .status(OrderStatus.SUBMITTED)
+                .build();
+    }
+
+    private TradingMaintenanceService createService(ExecutionMode mode) {
+        return new TradingMaintenanceService(
+                new TradingProperties(
+                        "https://api.upbit.com",
+                        "",
+                        "",
+                        new BigDecimal("0.0005"),
+                        Duration.ofSeconds(30),
+                        mode,
+                        List.of("KRW-BTC"),
+                        400,
+                        true,
+                        new BigDecimal("100000"),
+                        "v5",
+                        Duration.ofSeconds(20),
+                        4,
+                        SchedulerMode.CANDLE_CLOSE,
+                        Duration.ofSeconds(3),
+                        Duration.ofSeconds(5),
+                        Duration.ofMinutes(10),
+                        Duration.ofMinutes(5),
+                        Duration.ofHours(1),
+                        Duration.ofHours(1),
+                        Duration.ofDays(7),
+                        Duration.ofDays(1),
+                        Duration.ofSeconds(2),
+                        10,
+                        Duration.ofSeconds(50),
+                        Duration.ofSeconds(30),
+                        2
+                ),
+                tradingSignalMarketDataService,
+                tradingPositionSyncService,
+                tradingOrderRepository,
+                tradingExecutionService
+        );
+    }
+}
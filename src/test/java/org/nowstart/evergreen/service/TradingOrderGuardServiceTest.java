@@ -16,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.nowstart.evergreen.data.dto.UpbitOrderResponse;
 import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.nowstart.evergreen.repository.TradingOrderRepository;
 import org.nowstart.evergreen.repository.UpbitFeignClient;
 
@@ -137,7 +138,23 @@ class TradingOrderGuardServiceTest {
                 400,
                 true,
                 new BigDecimal("100000"),
-                "v5"
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
         );
     }
 
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.Arrays;
@@ -19,13 +20,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.dto.OrderExecutionSummary;
 import org.nowstart.evergreen.data.dto.UpbitAccountResponse;
+import org.nowstart.evergreen.data.entity.ManagedPosition;
 import org.nowstart.evergreen.data.entity.TradingOrder;
 import org.nowstart.evergreen.data.entity.TradingPosition;
 import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.data.type.ExecutionMode;
 import org.nowstart.evergreen.data.type.OrderSide;
 import org.nowstart.evergreen.data.type.PositionState;
+import org.nowstart.evergreen.data.type.SchedulerMode;
+import org.nowstart.evergreen.repository.ExecutionMetricsAggregateRepository;
+import org.nowstart.evergreen.repository.ManagedPositionRepository;
 import org.nowstart.evergreen.repository.PositionRepository;
 import org.nowstart.evergreen.repository.TradingOrderRepository;
 import org.nowstart.evergreen.repository.UpbitFeignClient;
@@ -40,12 +46,18 @@ class TradingPositionSyncServiceTest {
     @Mock
     private TradingOrderRepository tradingOrderRepository;
     @Mock
+    private ManagedPositionRepository managedPositionRepository;
+    @Mock
+    private ExecutionMetricsAggregateRepository executionMetricsAggregateRepository;
+    @Mock
     private PositionDriftService positionDriftService;
 
     @BeforeEach
     void setUp() {
         lenient().when(positionRepository.save(any(TradingPosition.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        lenient().when(tradingOrderRepository.findBySymbolAndModeOrderByCreatedAtAsc(any(), any())).thenReturn(List.of());
+        lenient().when(tradingOrderRepository.findExecutionSummariesBySymbolAndMode(any(), any())).thenReturn(List.of());
+        lenient().when(managedPositionRepository.findWithLockById(any()))
+                .thenAnswer(invocation -> Optional.of(ManagedPosition.builder().id(invocation.getArgument(0)).build()));
     }
 
     @Test
@@ -62,13 +74,13 @@ class TradingPositionSyncServiceTest {
         when(upbitFeignClient.getAccounts()).thenReturn(List.of(
                 new UpbitAccountResponse("BTC", "0.1", "0.02", "50000000", "KRW")
         ));
-        when(tradingOrderRepository.findBySymbolAndModeOrderByCreatedAtAsc("KRW-BTC", ExecutionMode.LIVE))
-                .thenReturn(List.of(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndMode("KRW-BTC", ExecutionMode.LIVE))
+                .thenReturn(summaries(List.of(
                         TradingOrder.builder()
                                 .side(OrderSide.BUY)
                                 .executedVolume(new BigDecimal("0.10"))
                                 .build()
-                ));
+                )));
 
         service.syncPositions(List.of("KRW-BTC"));
 
@@ -135,12 +147,12 @@ class TradingPositionSyncServiceTest {
         TradingPositionSyncService service = createService(ExecutionMode.LIVE);
         when(upbitFeignClient.getAccounts()).thenReturn(null);
         when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.empty());
-        when(tradingOrderRepository.findBySymbolAndModeOrderByCreatedAtAsc("KRW-BTC", ExecutionMode.LIVE))
-                .thenReturn(Arrays.asList(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndMode("KRW-BTC", ExecutionMode.LIVE))
+                .thenReturn(summaries(Arrays.asList(
                         null,
                         TradingOrder.builder().side(null).executedVolume(BigDecimal.ONE).build(),
                         TradingOrder.builder().side(OrderSide.BUY).executedVolume(BigDecimal.ZERO).build()
-                ));
+                )));
 
         service.syncPositions(Arrays.asList(null, "KRW", "KRW-BTC"));
 
@@ -169,11 +181,11 @@ class TradingPositionSyncServiceTest {
                         .state(PositionState.LONG)
                         .build()
         ));
-        when(tradingOrderRepository.findBySymbolAndModeOrderByCreatedAtAsc("KRW-BTC", ExecutionMode.LIVE))
-                .thenReturn(List.of(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndMode("KRW-BTC", ExecutionMode.LIVE))
+                .thenReturn(summaries(List.of(
                         TradingOrder.builder().side(OrderSide.BUY).executedVolume(null).build(),
                         TradingOrder.builder().side(OrderSide.SELL).executedVolume(new BigDecimal("0.2")).build()
-                ));
+                )));
 
         service.syncPositions(List.of("KRW-BTC"));
 
@@ -216,8 +228,8 @@ class TradingPositionSyncServiceTest {
         when(upbitFeignClient.getAccounts()).thenReturn(List.of(
                 new UpbitAccountResponse("BTC", "0.12", "0", "50000000", "KRW")
         ));
-        when(tradingOrderRepository.findBySymbolAndModeOrderByCreatedAtAsc("KRW-BTC", ExecutionMode.LIVE))
-                .thenReturn(List.of(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndMode("KRW-BTC", ExecutionMode.LIVE))
+                .thenReturn(summaries(List.of(
                         TradingOrder.builder()
                                 .side(OrderSide.BUY)
                                 .executedVolume(new BigDecimal("0.03"))
@@ -226,7 +238,7 @@ class TradingPositionSyncServiceTest {
                                 .side(OrderSide.SELL)
                                 .executedVolume(new BigDecimal("0.05"))
                                 .build()
-                ));
+                )));
 
         service.syncPositions(List.of("KRW-BTC"));
 
@@ -245,14 +257,38 @@ class TradingPositionSyncServiceTest {
                 400,
                 true,
                 new BigDecimal("100000"),
-                "v5"
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
         );
         return new TradingPositionSyncService(
-                upbitFeignClient,
+                new AccountSnapshotService(upbitFeignClient, properties, new SimpleMeterRegistry()),
                 positionRepository,
-                tradingOrderRepository,
+                new ManagedPositionLedgerService(
+                        tradingOrderRepository,
+                        managedPositionRepository,
+                        new AggregateRowInsertService(executionMetricsAggregateRepository, managedPositionRepository)
+                ),
                 positionDriftService,
                 properties
         );
     }
+
+    private List<OrderExecutionSummary> summaries(List<TradingOrder> orders) {
+        return orders.stream().map(order -> order == null ? null : OrderExecutionSummary.from(order)).toList();
+    }
 }
@@ -7,7 +7,6 @@ import static org.mockito.Mockito.when;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,10 +15,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.nowstart.evergreen.data.dto.TradingDayCandleDto;
-import org.nowstart.evergreen.data.dto.UpbitDayCandleResponse;
 import org.nowstart.evergreen.data.dto.UpbitTickerResponse;
 import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.data.type.ExecutionMode;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.nowstart.evergreen.repository.UpbitFeignClient;
 import org.nowstart.evergreen.service.strategy.StrategyRegistry;
 import org.nowstart.evergreen.service.strategy.TradingStrategyParamResolver;
@@ -31,6 +30,8 @@ class TradingSignalMarketDataServiceTest {
     @Mock
     private UpbitFeignClient upbitFeignClient;
     @Mock
+    private DailyCandleStoreService dailyCandleStore;
+    @Mock
     private TradingStrategyParamResolver strategyParamResolver;
     @Mock
     private StrategyRegistry strategyRegistry;
@@ -40,7 +41,8 @@ class TradingSignalMarketDataServiceTest {
     @BeforeEach
     void setUp() {
         service = new TradingSignalMarketDataService(
-                upbitFeignClient,
+                new TickerSnapshotService(upbitFeignClient, properties(true)),
+                dailyCandleStore,
                 properties(true),
                 strategyParamResolver,
                 strategyRegistry
@@ -48,54 +50,34 @@ class TradingSignalMarketDataServiceTest {
     }
 
     @Test
-    void fetchDailyCandles_returnsEmptyWhenExchangeReturnsNoRows() {
+    void fetchDailyCandles_returnsEmptyWhenStoreHasNoCandles() {
         when(strategyParamResolver.resolveActive()).thenReturn(new TradingStrategyParamResolver.ActiveStrategy("v5", params()));
         when(strategyRegistry.requiredWarmupCandles("v5", params())).thenReturn(10);
-        when(upbitFeignClient.getDayCandles("KRW-BTC", 12)).thenReturn(null);
+        when(dailyCandleStore.loadDailyCandles("KRW-BTC", 12)).thenReturn(List.of());
 
         List<TradingDayCandleDto> candles = service.fetchDailyCandles("KRW-BTC");
 
         assertThat(candles).isEmpty();
-        verify(upbitFeignClient).getDayCandles("KRW-BTC", 12);
-    }
-
-    @Test
-    void fetchDailyCandles_normalizesFiltersAndSortsRows() {
-        when(strategyParamResolver.resolveActive()).thenReturn(new TradingStrategyParamResolver.ActiveStrategy("v5", params()));
-        when(strategyRegistry.requiredWarmupCandles("v5", params())).thenReturn(1);
-        when(upbitFeignClient.getDayCandles("KRW-BTC", 5)).thenReturn(Arrays.asList(
-                null,
-                dayCandle(null, "1", "2", "0.5", "1.5", "10"),
-                dayCandle("2026-02-02T00:00:00", null, "2", "0.5", "1.5", "10"),
-                dayCandle("2026-02-02T00:00:00", "1", null, "0.5", "1.5", "10"),
-                dayCandle("2026-02-02T00:00:00", "1", "2", null, "1.5", "10"),
-                dayCandle("2026-02-02T00:00:00", "1", "2", "0.5", null, "10"),
-                dayCandle("not-a-date", "1", "2", "0.5", "1.5", "10"),
-                dayCandle("2026-02-03T00:00:00", "101", "103", "100", "102", null),
-                dayCandle("2026-02-01T00:00:00", "99", "100", "98", "99.5", "321")
-        ));
-
-        List<TradingDayCandleDto> candles = service.fetchDailyCandles("KRW-BTC");
-
-        assertThat(candles).hasSize(2);
-        assertThat(candles.get(0).timestamp()).isEqualTo(Instant.parse("2026-02-01T00:00:00Z"));
-        assertThat(candles.get(0).volume()).isEqualByComparingTo("321");
-        assertThat(candles.get(1).timestamp()).isEqualTo(Instant.parse("2026-02-03T00:00:00Z"));
-        assertThat(candles.get(1).volume()).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(dailyCandleStore).loadDailyCandles("KRW-BTC", 12);
     }
 
     @Test
-    void fetchDailyCandles_returnsEmptyWhenAllRowsAreInvalid() {
+    void fetchDailyCandles_requestsAtLeastConfiguredCandleCountFromStore() {
+        TradingDayCandleDto candle = new TradingDayCandleDto(
+                Instant.parse("2026-02-01T00:00:00Z"),
+                new BigDecimal("99"),
+                new BigDecimal("100"),
+                new BigDecimal("98"),
+                new BigDecimal("99.5"),
+                new BigDecimal("321")
+        );
         when(strategyParamResolver.resolveActive()).thenReturn(new TradingStrategyParamResolver.ActiveStrategy("v5", params()));
         when(strategyRegistry.requiredWarmupCandles("v5", params())).thenReturn(1);
-        when(upbitFeignClient.getDayCandles("KRW-BTC", 5)).thenReturn(List.of(
-                dayCandle(null, "1", "2", "0.5", "1.5", "10"),
-                dayCandle("bad", "1", "2", "0.5", "1.5", "10")
-        ));
+        when(dailyCandleStore.loadDailyCandles("KRW-BTC", 5)).thenReturn(List.of(candle));
 
         List<TradingDayCandleDto> candles = service.fetchDailyCandles("KRW-BTC");
 
-        assertThat(candles).isEmpty();
+        assertThat(candles).containsExactly(candle);
     }
 
     @Test
@@ -104,7 +86,8 @@ class TradingSignalMarketDataServiceTest {
         assertThat(service.resolveSignalIndex(0)).isEqualTo(-1);
 
         TradingSignalMarketDataService openCandleService = new TradingSignalMarketDataService(
-                upbitFeignClient,
+                new TickerSnapshotService(upbitFeignClient, properties(false)),
+                dailyCandleStore,
                 properties(false),
                 strategyParamResolver,
                 strategyRegistry
@@ -167,7 +150,23 @@ class TradingSignalMarketDataServiceTest {
                 5,
                 closedCandleOnly,
                 new BigDecimal("100000"),
-                "v5"
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
         );
     }
 
@@ -182,26 +181,4 @@ class TradingSignalMarketDataServiceTest {
                 new BigDecimal("0.01")
         );
     }
-
-    private UpbitDayCandleResponse dayCandle(
-            String ts,
-            String open,
-            String high,
-            String low,
-            String close,
-            String volume
-    ) {
-        return new UpbitDayCandleResponse(
-                ts,
-                decimal(open),
-                decimal(high),
-                decimal(low),
-                decimal(close),
-                decimal(volume)
-        );
-    }
-
-    private BigDecimal decimal(String value) {
-        return value == null ? null : new BigDecimal(value);
-    }
 }
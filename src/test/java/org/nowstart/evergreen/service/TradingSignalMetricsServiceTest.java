@@ -2,23 +2,33 @@ package org.nowstart.evergreen.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.data.dto.OrderExecutionSummary;
 import org.nowstart.evergreen.data.dto.TradingExecutionMetrics;
+import org.nowstart.evergreen.data.entity.ExecutionMetricsAggregate;
 import org.nowstart.evergreen.data.entity.TradingOrder;
 import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.data.type.ExecutionMode;
 import org.nowstart.evergreen.data.type.OrderSide;
 import org.nowstart.evergreen.data.type.OrderStatus;
+import org.nowstart.evergreen.data.type.SchedulerMode;
+import org.nowstart.evergreen.repository.ExecutionMetricsAggregateRepository;
+import org.nowstart.evergreen.repository.ManagedPositionRepository;
 import org.nowstart.evergreen.repository.TradingOrderRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,7 +38,12 @@ class TradingSignalMetricsServiceTest {
 
     @Mock
     private TradingOrderRepository tradingOrderRepository;
+    @Mock
+    private ExecutionMetricsAggregateRepository executionMetricsAggregateRepository;
+    @Mock
+    private ManagedPositionRepository managedPositionRepository;
 
+    private final Map<ExecutionMetricsAggregate.ExecutionMetricsAggregateKey, ExecutionMetricsAggregate> store = new HashMap<>();
     private TradingSignalMetricsService service;
 
     @BeforeEach
@@ -44,22 +59,55 @@ class TradingSignalMetricsServiceTest {
                 400,
                 true,
                 new BigDecimal("100000"),
-                "v5"
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
         );
-        service = new TradingSignalMetricsService(tradingOrderRepository, properties);
+        service = new TradingSignalMetricsService(
+                new ExecutionMetricsAggregateService(
+                        tradingOrderRepository,
+                        executionMetricsAggregateRepository,
+                        new AggregateRowInsertService(executionMetricsAggregateRepository, managedPositionRepository)
+                ),
+                properties
+        );
+        lenient().when(executionMetricsAggregateRepository.existsById(any()))
+                .thenAnswer(invocation -> store.containsKey(invocation.getArgument(0)));
+        lenient().when(executionMetricsAggregateRepository.findWithLockById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(store.get(invocation.getArgument(0))));
+        lenient().when(executionMetricsAggregateRepository.saveAndFlush(any(ExecutionMetricsAggregate.class)))
+                .thenAnswer(invocation -> {
+                    ExecutionMetricsAggregate aggregate = invocation.getArgument(0);
+                    store.put(aggregate.getId(), aggregate);
+                    return aggregate;
+                });
     }
 
     @Test
     void resolveExecutionMetrics_countsRoundTripTradeWhenSellIsSplit() {
-        when(tradingOrderRepository.findBySymbolAndModeAndStatusOrderByCreatedAtAsc(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(
                 MARKET,
                 ExecutionMode.PAPER,
                 OrderStatus.FILLED
-        )).thenReturn(List.of(
+        )).thenReturn(summaries(List.of(
                 filledOrder("b1", OrderSide.BUY, "1.0", "100"),
                 filledOrder("s1", OrderSide.SELL, "0.4", "120"),
                 filledOrder("s2", OrderSide.SELL, "0.6", "110")
-        ));
+        )));
 
         TradingExecutionMetrics metrics = service.resolveExecutionMetrics(MARKET);
 
@@ -76,16 +124,16 @@ class TradingSignalMetricsServiceTest {
 
     @Test
     void resolveExecutionMetrics_usesClosedTradesForWinRateRrAndExpectancy() {
-        when(tradingOrderRepository.findBySymbolAndModeAndStatusOrderByCreatedAtAsc(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(
                 MARKET,
                 ExecutionMode.PAPER,
                 OrderStatus.FILLED
-        )).thenReturn(List.of(
+        )).thenReturn(summaries(List.of(
                 filledOrder("b1", OrderSide.BUY, "1.0", "100"),
                 filledOrder("s1", OrderSide.SELL, "1.0", "110"),
                 filledOrder("b2", OrderSide.BUY, "1.0", "100"),
                 filledOrder("s2", OrderSide.SELL, "1.0", "90")
-        ));
+        )));
 
         TradingExecutionMetrics metrics = service.resolveExecutionMetrics(MARKET);
 
@@ -102,13 +150,13 @@ class TradingSignalMetricsServiceTest {
 
     @Test
     void resolveExecutionMetrics_ignoresOpenPositionFromTradeStats() {
-        when(tradingOrderRepository.findBySymbolAndModeAndStatusOrderByCreatedAtAsc(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(
                 MARKET,
                 ExecutionMode.PAPER,
                 OrderStatus.FILLED
-        )).thenReturn(List.of(
+        )).thenReturn(summaries(List.of(
                 filledOrder("b1", OrderSide.BUY, "1.0", "100")
-        ));
+        )));
 
         TradingExecutionMetrics metrics = service.resolveExecutionMetrics(MARKET);
 
@@ -154,7 +202,7 @@ class TradingSignalMetricsServiceTest {
 
     @Test
     void resolveExecutionMetrics_returnsEmptyWhenNoFilledOrders() {
-        when(tradingOrderRepository.findBySymbolAndModeAndStatusOrderByCreatedAtAsc(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(
                 MARKET,
                 ExecutionMode.PAPER,
                 OrderStatus.FILLED
@@ -218,11 +266,11 @@ class TradingSignalMetricsServiceTest {
                 .feeAmount(null)
                 .build());
 
-        when(tradingOrderRepository.findBySymbolAndModeAndStatusOrderByCreatedAtAsc(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(
                 MARKET,
                 ExecutionMode.PAPER,
                 OrderStatus.FILLED
-        )).thenReturn(orders);
+        )).thenReturn(summaries(orders));
 
         TradingExecutionMetrics metrics = service.resolveExecutionMetrics(MARKET);
 
@@ -232,13 +280,13 @@ class TradingSignalMetricsServiceTest {
 
     @Test
     void resolveExecutionMetrics_skipsSellWhenNoOpenPositionExists() {
-        when(tradingOrderRepository.findBySymbolAndModeAndStatusOrderByCreatedAtAsc(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(
                 MARKET,
                 ExecutionMode.PAPER,
                 OrderStatus.FILLED
-        )).thenReturn(List.of(
+        )).thenReturn(summaries(List.of(
                 filledOrder("s-only", OrderSide.SELL, "0.2", "120")
-        ));
+        )));
 
         TradingExecutionMetrics metrics = service.resolveExecutionMetrics(MARKET);
 
@@ -249,11 +297,11 @@ class TradingSignalMetricsServiceTest {
 
     @Test
     void resolveExecutionMetrics_skipsOrderWhenQuantityOrPriceIsNonPositive() {
-        when(tradingOrderRepository.findBySymbolAndModeAndStatusOrderByCreatedAtAsc(
+        when(tradingOrderRepository.findExecutionSummariesBySymbolAndModeAndStatus(
                 MARKET,
                 ExecutionMode.PAPER,
                 OrderStatus.FILLED
-        )).thenReturn(List.of(
+        )).thenReturn(summaries(List.of(
                 TradingOrder.builder()
                         .clientOrderId("bad-buy")
                         .symbol(MARKET)
@@ -264,7 +312,7 @@ class TradingSignalMetricsServiceTest {
                         .avgExecutedPrice(new BigDecimal("100"))
                         .feeAmount(BigDecimal.ZERO)
                         .build()
-        ));
+        )));
 
         TradingExecutionMetrics metrics = service.resolveExecutionMetrics(MARKET);
 
@@ -279,4 +327,7 @@ class TradingSignalMetricsServiceTest {
         assertThat(metrics.expectancyPct()).isNaN();
     }
 
+    private List<OrderExecutionSummary> summaries(List<TradingOrder> orders) {
+        return orders.stream().map(order -> order == null ? null : OrderExecutionSummary.from(order)).toList();
+    }
 }
@@ -22,6 +22,7 @@ import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.data.type.ExecutionMode;
 import org.nowstart.evergreen.data.type.OrderSide;
 import org.nowstart.evergreen.data.type.OrderStatus;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.nowstart.evergreen.data.type.TradeOrderType;
 
 @ExtendWith(MockitoExtension.class)
@@ -192,7 +193,23 @@ class TradingSignalOrderServiceTest {
                 400,
                 true,
                 signalOrderNotional,
-                "v5"
+                "v5",
+                Duration.ofSeconds(20),
+                4,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
         );
     }
 
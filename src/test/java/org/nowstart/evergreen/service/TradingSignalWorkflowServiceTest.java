@@ -1,19 +1,27 @@
 package org.nowstart.evergreen.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -24,9 +32,12 @@ import org.nowstart.evergreen.data.entity.TradingPosition;
 import org.nowstart.evergreen.data.property.TradingProperties;
 import org.nowstart.evergreen.data.type.ExecutionMode;
 import org.nowstart.evergreen.data.type.PositionState;
+import org.nowstart.evergreen.data.type.SchedulerMode;
 import org.nowstart.evergreen.repository.PositionRepository;
+import org.nowstart.evergreen.service.strategy.StrategyEvaluationCache;
 import org.nowstart.evergreen.service.strategy.StrategyRegistry;
 import org.nowstart.evergreen.service.strategy.TradingStrategyParamResolver;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
 import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
 import org.nowstart.evergreen.service.strategy.core.StrategyDiagnostic;
 import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
@@ -55,6 +66,86 @@ class TradingSignalWorkflowServiceTest {
     private TradingStrategyParamResolver strategyParamResolver;
     @Mock
     private StrategyRegistry strategyRegistry;
+    @Mock
+    private TickerSnapshotService tickerSnapshotService;
+
+    @Test
+    void runOnce_boundsConcurrentMarketEvaluations() {
+        List<String> markets = List.of("KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-SOL");
+        TradingSignalWorkflowService service = createService(markets, Duration.ofSeconds(20), 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        for (String market : markets) {
+            when(tradingSignalMarketDataService.normalizeMarket(market)).thenReturn(market);
+            when(tradingSignalMarketDataService.fetchDailyCandles(market)).thenAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(100);
+                running.decrementAndGet();
+                return List.of();
+            });
+        }
+        when(tradingSignalMarketDataService.resolveSignalIndex(0)).thenReturn(-1);
+
+        service.runOnce();
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+        for (String market : markets) {
+            verify(tradingSignalMarketDataService).fetchDailyCandles(market);
+        }
+    }
+
+    @Test
+    void runOnce_abandonsMarketThatExceedsDeadlineWithoutInterruptingIt() {
+        TradingSignalWorkflowService service = createService(List.of("KRW-BTC", "KRW-ETH"), Duration.ofMillis(200), 4);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-BTC")).thenReturn("KRW-BTC");
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-ETH")).thenReturn("KRW-ETH");
+        when(tradingSignalMarketDataService.fetchDailyCandles("KRW-BTC")).thenAnswer(invocation -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return List.of();
+        });
+        when(tradingSignalMarketDataService.fetchDailyCandles("KRW-ETH")).thenReturn(List.of());
+        when(tradingSignalMarketDataService.resolveSignalIndex(0)).thenReturn(-1);
+
+        long startedAt = System.nanoTime();
+        Set<String> pending = service.runOnce(null, null);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000L;
+        release.countDown();
+
+        assertThat(elapsedMillis).isLessThan(5_000L);
+        assertThat(pending).containsExactly("KRW-BTC");
+        assertThat(awaitQuietly(finished)).isTrue();
+        assertThat(interrupted).isFalse();
+        verify(tradingSignalMarketDataService).fetchDailyCandles("KRW-ETH");
+    }
+
+    @Test
+    void runOnce_waitsForAbandonedMarketBeforeReturning() {
+        TradingSignalWorkflowService service = createService(List.of("KRW-BTC"), Duration.ofMillis(300), 4);
+        AtomicBoolean finished = new AtomicBoolean();
+
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-BTC")).thenReturn("KRW-BTC");
+        when(tradingSignalMarketDataService.fetchDailyCandles("KRW-BTC")).thenAnswer(invocation -> {
+            Thread.sleep(400);
+            finished.set(true);
+            return List.of();
+        });
+        when(tradingSignalMarketDataService.resolveSignalIndex(0)).thenReturn(-1);
+
+        Set<String> pending = service.runOnce(null, null);
+
+        assertThat(pending).containsExactly("KRW-BTC");
+        assertThat(finished).isTrue();
+    }
 
     @Test
     void runOnce_syncsMarketsBeforeEvaluation() {
@@ -68,6 +159,7 @@ class TradingSignalWorkflowServiceTest {
         service.runOnce();
 
         verify(tradingPositionSyncService).syncPositions(List.of("KRW-BTC"));
+        verify(tickerSnapshotService).refresh(List.of("KRW-BTC"));
         verify(tradingSignalMarketDataService).fetchDailyCandles("KRW-BTC");
     }
 
@@ -83,6 +175,7 @@ class TradingSignalWorkflowServiceTest {
         service.runOnce();
 
         verify(tradingPositionSyncService).syncPositions(List.of("KRW-BTC"));
+        verify(tickerSnapshotService, never()).refresh(any());
         verify(tradingSignalMarketDataService, never()).fetchDailyCandles("KRW-BTC");
     }
 
@@ -131,7 +224,7 @@ class TradingSignalWorkflowServiceTest {
         );
         when(strategyParamResolver.resolveActive())
                 .thenReturn(new TradingStrategyParamResolver.ActiveStrategy("v5", v5Params));
-        when(strategyRegistry.evaluate(eq("v5"), anyList(), eq(1), any(PositionSnapshot.class), eq(v5Params)))
+        when(strategyRegistry.evaluate(eq("v5"), any(CandleSeries.class), eq(1), any(PositionSnapshot.class), eq(v5Params)))
                 .thenReturn(new StrategyEvaluation(
                         new StrategySignalDecision(false, true, "SELL_REGIME_TRANSITION"),
                         List.of(
@@ -245,7 +338,7 @@ class TradingSignalWorkflowServiceTest {
         when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.empty());
         when(strategyParamResolver.resolveActive())
                 .thenReturn(new TradingStrategyParamResolver.ActiveStrategy("v5", v5Params));
-        when(strategyRegistry.evaluate(eq("v5"), anyList(), eq(1), any(PositionSnapshot.class), eq(v5Params)))
+        when(strategyRegistry.evaluate(eq("v5"), any(CandleSeries.class), eq(1), any(PositionSnapshot.class), eq(v5Params)))
                 .thenReturn(new StrategyEvaluation(
                         new StrategySignalDecision(true, false, "BUY_REGIME_TRANSITION"),
                         List.of(StrategyDiagnostic.number("regime.anchor", "Regime Anchor", 90.0))
@@ -260,7 +353,140 @@ class TradingSignalWorkflowServiceTest {
         verify(tradingSignalOrderService, never()).submitSellSignal(anyString(), any(), any());
     }
 
+    @Test
+    void runOnce_letsOrderSubmissionFinishPastEvaluationDeadline() {
+        TradingSignalWorkflowService service = createService(List.of("KRW-BTC"), Duration.ofMillis(200), 4);
+        List<TradingDayCandleDto> candles = List.of(candle("2026-02-20T00:00:00Z"), candle("2026-02-21T00:00:00Z"));
+        StrategyParams v5Params = new V5StrategyOverrides(
+                120,
+                18,
+                BigDecimal.valueOf(2.0),
+                BigDecimal.valueOf(3.0),
+                40,
+                BigDecimal.valueOf(0.6),
+                BigDecimal.valueOf(0.01)
+        );
+        AtomicInteger completedSubmissions = new AtomicInteger();
+
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-BTC")).thenReturn("KRW-BTC");
+        when(tradingSignalMarketDataService.fetchDailyCandles("KRW-BTC")).thenReturn(candles);
+        when(tradingSignalMarketDataService.resolveSignalIndex(2)).thenReturn(1);
+        when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.empty());
+        when(strategyParamResolver.resolveActive())
+                .thenReturn(new TradingStrategyParamResolver.ActiveStrategy("v5", v5Params));
+        when(strategyRegistry.evaluate(eq("v5"), any(CandleSeries.class), eq(1), any(PositionSnapshot.class), eq(v5Params)))
+                .thenReturn(new StrategyEvaluation(new StrategySignalDecision(true, false, "BUY_REGIME_TRANSITION"), List.of()));
+        when(tradingSignalMetricsService.resolveExecutionMetrics("KRW-BTC")).thenReturn(TradingExecutionMetrics.empty());
+        when(tradingSignalMarketDataService.resolveLivePrice("KRW-BTC", 100.0)).thenReturn(100.0);
+        when(tradingSignalMetricsService.resolveUnrealizedReturnPct(false, 100.0, 0.0)).thenReturn(Double.NaN);
+        doAnswer(invocation -> {
+            Thread.sleep(500);
+            completedSubmissions.incrementAndGet();
+            return null;
+        }).when(tradingSignalOrderService).submitBuySignal("KRW-BTC", candles.get(1));
+
+        Set<String> pending = service.runOnce(Instant.parse("2026-02-21T00:00:00Z"), null);
+
+        assertThat(completedSubmissions.get()).isEqualTo(1);
+        assertThat(pending).isEmpty();
+    }
+
+    @Test
+    void runOnce_reusesEvaluationAndSkipsSignalLogWhenInputsAreUnchanged() {
+        TradingSignalWorkflowService service = createService(List.of("KRW-BTC"));
+        List<TradingDayCandleDto> candles = List.of(candle("2026-02-20T00:00:00Z"), candle("2026-02-21T00:00:00Z"));
+        StrategyParams v5Params = new V5StrategyOverrides(
+                120,
+                18,
+                BigDecimal.valueOf(2.0),
+                BigDecimal.valueOf(3.0),
+                40,
+                BigDecimal.valueOf(0.6),
+                BigDecimal.valueOf(0.01)
+        );
+
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-BTC")).thenReturn("KRW-BTC");
+        when(tradingSignalMarketDataService.fetchDailyCandles("KRW-BTC")).thenReturn(candles);
+        when(tradingSignalMarketDataService.resolveSignalIndex(2)).thenReturn(1);
+        when(tradingOrderGuardService.hasBlockingOrder("KRW-BTC")).thenReturn(false);
+        when(positionRepository.findBySymbol("KRW-BTC")).thenReturn(Optional.empty());
+        when(strategyParamResolver.resolveActive())
+                .thenReturn(new TradingStrategyParamResolver.ActiveStrategy("v5", v5Params));
+        when(strategyRegistry.evaluate(eq("v5"), any(CandleSeries.class), eq(1), any(PositionSnapshot.class), eq(v5Params)))
+                .thenReturn(new StrategyEvaluation(new StrategySignalDecision(false, false, "NONE"), List.of()));
+        when(tradingSignalMetricsService.resolveExecutionMetrics("KRW-BTC")).thenReturn(TradingExecutionMetrics.empty());
+        when(tradingSignalMarketDataService.resolveLivePrice("KRW-BTC", 100.0)).thenReturn(100.0);
+        when(tradingSignalMetricsService.resolveUnrealizedReturnPct(false, 100.0, 0.0)).thenReturn(Double.NaN);
+
+        service.runOnce();
+        service.runOnce();
+
+        verify(strategyRegistry).evaluate(eq("v5"), any(CandleSeries.class), eq(1), any(PositionSnapshot.class), eq(v5Params));
+        verify(tradingSignalLogService).logCandleSignal(any());
+        verifyNoInteractions(tradingSignalOrderService);
+    }
+
+    @Test
+    void runOnceForCandle_returnsMarketsWhoseSignalCandleIsNotPublishedYet() {
+        TradingSignalWorkflowService service = createService(List.of("KRW-BTC", "KRW-ETH", "KRW-XRP"));
+        Instant expected = Instant.parse("2026-02-21T00:00:00Z");
+        List<TradingDayCandleDto> stale = List.of(candle("2026-02-19T00:00:00Z"), candle("2026-02-20T00:00:00Z"), candle("2026-02-21T00:00:00Z"));
+        List<TradingDayCandleDto> fresh = List.of(candle("2026-02-20T00:00:00Z"), candle("2026-02-21T00:00:00Z"), candle("2026-02-22T00:00:00Z"));
+
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-BTC")).thenReturn("KRW-BTC");
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-ETH")).thenReturn("KRW-ETH");
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-XRP")).thenReturn("KRW-XRP");
+        when(tradingSignalMarketDataService.fetchDailyCandles("KRW-BTC")).thenReturn(stale);
+        when(tradingSignalMarketDataService.fetchDailyCandles("KRW-ETH")).thenReturn(fresh);
+        when(tradingSignalMarketDataService.resolveSignalIndex(3)).thenReturn(1);
+        when(tradingOrderGuardService.hasBlockingOrder("KRW-ETH")).thenReturn(true);
+
+        Set<String> pending = service.runOnce(expected, List.of("KRW-BTC", "KRW-ETH"));
+
+        assertThat(pending).containsExactly("KRW-BTC");
+        verify(tradingPositionSyncService).syncPositions(List.of("KRW-BTC", "KRW-ETH"));
+        verify(tradingSignalMarketDataService, never()).fetchDailyCandles("KRW-XRP");
+        verify(tradingOrderGuardService, never()).hasBlockingOrder("KRW-BTC");
+    }
+
+    @Test
+    void runOnceForCandle_returnsAllMarketsWhenSyncFails() {
+        TradingSignalWorkflowService service = createService(List.of("KRW-BTC"));
+
+        when(tradingSignalMarketDataService.normalizeMarket("KRW-BTC")).thenReturn("KRW-BTC");
+        doThrow(new IllegalStateException("sync failed")).when(tradingPositionSyncService).syncPositions(List.of("KRW-BTC"));
+
+        Set<String> pending = service.runOnce(Instant.parse("2026-02-21T00:00:00Z"), null);
+
+        assertThat(pending).containsExactly("KRW-BTC");
+        verify(tradingSignalMarketDataService, never()).fetchDailyCandles(anyString());
+    }
+
+    private TradingDayCandleDto candle(String timestamp) {
+        return new TradingDayCandleDto(
+                Instant.parse(timestamp),
+                new BigDecimal("100"),
+                new BigDecimal("101"),
+                new BigDecimal("99"),
+                new BigDecimal("100"),
+                new BigDecimal("1000")
+        );
+    }
+
+    private boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private TradingSignalWorkflowService createService(List<String> markets) {
+        return createService(markets, Duration.ofSeconds(20), 4);
+    }
+
+    private TradingSignalWorkflowService createService(List<String> markets, Duration marketTimeout, int maxConcurrentMarkets) {
         TradingProperties properties = new TradingProperties(
                 "https://api.upbit.com",
                 "",
@@ -272,7 +498,23 @@ class TradingSignalWorkflowServiceTest {
                 400,
                 true,
                 new BigDecimal("100000"),
-                "v5"
+                "v5",
+                marketTimeout,
+                maxConcurrentMarkets,
+                SchedulerMode.FIXED_DELAY,
+                Duration.ofSeconds(3),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(5),
+                Duration.ofHours(1),
+                Duration.ofHours(1),
+                Duration.ofDays(7),
+                Duration.ofDays(1),
+                Duration.ofSeconds(2),
+                10,
+                Duration.ofSeconds(50),
+                Duration.ofSeconds(30),
+                2
         );
 
         return new TradingSignalWorkflowService(
@@ -285,7 +527,8 @@ class TradingSignalWorkflowServiceTest {
                 positionRepository,
                 tradingSignalLogService,
                 strategyParamResolver,
-                strategyRegistry
+                new StrategyEvaluationCache(strategyRegistry, new SimpleMeterRegistry()),
+                tickerSnapshotService
         );
     }
 }
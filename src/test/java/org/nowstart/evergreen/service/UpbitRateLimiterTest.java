@@ -0,0 +1,89 @@
+package org.nowstart.evergreen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class UpbitRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpbitRateLimiter rateLimiter = new UpbitRateLimiter(meterRegistry);
+
+    @Test
+    void groupOf_classifiesEndpointsByPath() {
+        assertThat(rateLimiter.groupOf("POST", "/v1/orders")).isEqualTo("order");
+        assertThat(rateLimiter.groupOf("GET", "/v1/orders")).isEqualTo("default");
+        assertThat(rateLimiter.groupOf("GET", "/v1/accounts")).isEqualTo("default");
+        assertThat(rateLimiter.groupOf("GET", "/v1/candles/days")).isEqualTo("candle");
+        assertThat(rateLimiter.groupOf("GET", "/v1/ticker")).isEqualTo("ticker");
+    }
+
+    @Test
+    void parse_readsGroupAndSecondQuota() {
+        assertThat(UpbitRateLimiter.RemainingReq.parse("group=default; min=1800; sec=29"))
+                .isEqualTo(new UpbitRateLimiter.RemainingReq("default", 29));
+        assertThat(UpbitRateLimiter.RemainingReq.parse("group=order;sec=x")).isNull();
+        assertThat(UpbitRateLimiter.RemainingReq.parse("sec=3")).isNull();
+        assertThat(UpbitRateLimiter.RemainingReq.parse(null)).isNull();
+    }
+
+    @Test
+    void update_learnsGroupReportedByServer() {
+        rateLimiter.update("default", "DELETE", "/v1/order", "group=order; min=0; sec=7", 200);
+
+        assertThat(rateLimiter.groupOf("DELETE", "/v1/order")).isEqualTo("order");
+    }
+
+    @Test
+    void acquire_waitsForRefillOnceBucketIsEmpty() throws InterruptedException {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 9; i++) {
+            rateLimiter.acquire("order", true);
+        }
+
+        // 8 tokens up front, the ninth refills after 1/8 s.
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(100);
+        assertThat(meterRegistry.get("evergreen.exchange.ratelimit.wait").tag("group", "order").timer().count())
+                .isEqualTo(9);
+    }
+
+    @Test
+    void acquire_blocksGroupForASecondAfterThrottling() throws InterruptedException {
+        rateLimiter.update("ticker", "GET", "/v1/ticker", null, 429);
+
+        long startedAt = System.nanoTime();
+        rateLimiter.acquire("ticker", false);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(900);
+        assertThat(meterRegistry.get("evergreen.exchange.ratelimit.throttled").tag("group", "ticker").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void acquire_letsPriorityCallerGoFirst() throws InterruptedException {
+        rateLimiter.update("default", "GET", "/v1/accounts", "group=default; min=1799; sec=0", 200);
+        List<String> admitted = Collections.synchronizedList(new ArrayList<>());
+
+        Thread normal = Thread.ofVirtual().start(() -> acquireAs("default", false, "normal", admitted));
+        Thread.sleep(50);
+        Thread priority = Thread.ofVirtual().start(() -> acquireAs("default", true, "priority", admitted));
+        normal.join(TimeUnit.SECONDS.toMillis(5));
+        priority.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(admitted).containsExactly("priority", "normal");
+    }
+
+    private void acquireAs(String group, boolean priority, String name, List<String> admitted) {
+        try {
+            rateLimiter.acquire(group, priority);
+            admitted.add(name);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
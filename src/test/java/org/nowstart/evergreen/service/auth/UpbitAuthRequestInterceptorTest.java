@@ -1,6 +1,7 @@
 package org.nowstart.evergreen.service.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import feign.RequestTemplate;
 import java.nio.charset.StandardCharsets;
@@ -15,6 +16,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.nowstart.evergreen.data.dto.UpbitCreateOrderRequest;
 
 class UpbitAuthRequestInterceptorTest {
 
@@ -53,32 +55,60 @@ class UpbitAuthRequestInterceptorTest {
     }
 
     @Test
-    void apply_usesCanonicalizedJsonBodyForQueryHash() {
+    void apply_usesEncodedCanonicalQueryForOrderBody() {
         UpbitAuthRequestInterceptor interceptor = new UpbitAuthRequestInterceptor(new UpbitJwtSigner("access", "secret"));
         RequestTemplate template = new RequestTemplate();
         template.method("POST");
         template.uri("/v1/orders");
-        template.body("{\"b\":2,\"a\":1}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        UpbitCreateOrderRequest request = new UpbitCreateOrderRequest("KRW-BTC", "bid", "limit", "0.01", "100000000", "c-1");
+        UpbitCanonicalQueryEncoder encoder = new UpbitCanonicalQueryEncoder((object, bodyType, target) ->
+                target.body("{\"market\":\"KRW-BTC\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        encoder.encode(request, UpbitCreateOrderRequest.class, template);
 
         interceptor.apply(template);
 
         String payload = decodePayload(headerValue(template, "Authorization").replace("Bearer ", ""));
         assertThat(payload).contains("\"query_hash_alg\":\"SHA512\"");
-        assertThat(payload).contains(sha512Hex("a=1&b=2"));
+        assertThat(payload).contains(sha512Hex(
+                "identifier=c-1&market=KRW-BTC&ord_type=limit&price=100000000&side=bid&volume=0.01"));
+        assertThat(template.headers()).containsKey(UpbitCanonicalQueryEncoder.CANONICAL_QUERY_HEADER);
+        assertThat(new String(template.body(), StandardCharsets.UTF_8)).isEqualTo("{\"market\":\"KRW-BTC\"}");
     }
 
     @Test
-    void apply_usesRawBodyWhenBodyIsInvalidJson() {
+    void apply_replacesHeadersAndKeepsQueryHashWhenReappliedForRetry() {
         UpbitAuthRequestInterceptor interceptor = new UpbitAuthRequestInterceptor(new UpbitJwtSigner("access", "secret"));
         RequestTemplate template = new RequestTemplate();
         template.method("POST");
         template.uri("/v1/orders");
-        template.body("not-json".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        UpbitCreateOrderRequest request = new UpbitCreateOrderRequest("KRW-BTC", "bid", "limit", "0.01", "100000000", "c-1");
+        new UpbitCanonicalQueryEncoder((object, bodyType, target) ->
+                target.body("{\"market\":\"KRW-BTC\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8))
+                .encode(request, UpbitCreateOrderRequest.class, template);
 
         interceptor.apply(template);
+        String first = headerValue(template, "Authorization");
+        interceptor.apply(template);
 
+        assertThat(template.headers().get("Authorization")).singleElement().isNotEqualTo(first);
+        assertThat(template.headers().get("Accept")).containsExactly("application/json");
+        assertThat(template.headers().get("User-Agent")).containsExactly("evergreen-backtest/1.0");
         String payload = decodePayload(headerValue(template, "Authorization").replace("Bearer ", ""));
-        assertThat(payload).contains(sha512Hex("not-json"));
+        assertThat(payload).contains(sha512Hex(request.canonicalQuery()));
+    }
+
+    @Test
+    void apply_rejectsBodyThatWasNotCanonicalized() {
+        UpbitAuthRequestInterceptor interceptor = new UpbitAuthRequestInterceptor(new UpbitJwtSigner("access", "secret"));
+        RequestTemplate template = new RequestTemplate();
+        template.method("POST");
+        template.uri("/v1/orders");
+        template.body("not-json".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> interceptor.apply(template))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no canonical query");
+        assertThat(template.headers()).doesNotContainKey("Authorization");
     }
 
     @Test
@@ -103,17 +133,19 @@ class UpbitAuthRequestInterceptorTest {
     }
 
     @Test
-    void apply_ignoresNullValueFromJsonBodyDuringCanonicalization() {
+    void apply_skipsNullOrderFieldsInEncodedCanonicalQuery() {
         UpbitAuthRequestInterceptor interceptor = new UpbitAuthRequestInterceptor(new UpbitJwtSigner("access", "secret"));
         RequestTemplate template = new RequestTemplate();
         template.method("POST");
         template.uri("/v1/orders");
-        template.body("{\"a\":1,\"b\":null}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        UpbitCreateOrderRequest request = new UpbitCreateOrderRequest("KRW-BTC", "ask", "market", "0.01", null, "c-2");
+        new UpbitCanonicalQueryEncoder((object, bodyType, target) -> { })
+                .encode(request, UpbitCreateOrderRequest.class, template);
 
         interceptor.apply(template);
 
         String payload = decodePayload(headerValue(template, "Authorization").replace("Bearer ", ""));
-        assertThat(payload).contains(sha512Hex("a=1"));
+        assertThat(payload).contains(sha512Hex("identifier=c-2&market=KRW-BTC&ord_type=market&side=ask&volume=0.01"));
     }
 
     private String headerValue(RequestTemplate template, String key) {
@@ -3,17 +3,32 @@ package org.nowstart.evergreen.service.auth;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.Provider;
 import java.security.Security;
+import java.util.ArrayList;
 import java.util.Base64;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.Test;
 
 class UpbitJwtSignerTest {
 
+    private static final Pattern NONCE = Pattern.compile("\"nonce\":\"([0-9a-f-]{36})\"");
+    private static final Pattern QUERY_HASH = Pattern.compile("\"query_hash\":\"([0-9a-f]{128})\"");
+
     @Test
     void createToken_includesQueryHashWhenCanonicalQueryExists() {
         UpbitJwtSigner signer = new UpbitJwtSigner("access", "secret");
@@ -23,7 +38,7 @@ class UpbitJwtSignerTest {
 
         assertThat(parts).hasSize(3);
 
-        String payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String payloadJson = decode(parts[1]);
         assertThat(payloadJson).contains("\"access_key\":\"access\"");
         assertThat(payloadJson).contains("\"query_hash\"");
         assertThat(payloadJson).contains("\"query_hash_alg\":\"SHA512\"");
@@ -38,50 +53,153 @@ class UpbitJwtSignerTest {
 
         assertThat(parts).hasSize(3);
 
-        String payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String payloadJson = decode(parts[1]);
         assertThat(payloadJson).contains("\"access_key\":\"access\"");
         assertThat(payloadJson).doesNotContain("query_hash");
     }
 
     @Test
-    void createToken_wrapsSigningFailureWhenSecretIsNull() {
-        UpbitJwtSigner signer = new UpbitJwtSigner("access", null);
+    void createToken_producesVerifiableHs512Token() throws Exception {
+        UpbitJwtSigner signer = new UpbitJwtSigner("access", "secret");
 
-        assertThatThrownBy(() -> signer.createToken("market=KRW-BTC"))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("Failed to sign JWT");
+        String token = signer.createToken("market=KRW-BTC&side=bid");
+        String[] parts = token.split("\\.");
+
+        assertThat(decode(parts[0])).isEqualTo("{\"alg\":\"HS512\",\"typ\":\"JWT\"}");
+        assertThat(parts[2]).isEqualTo(hmacSha512("secret", parts[0] + "." + parts[1]));
+        assertThat(token).doesNotContain("=");
+    }
+
+    @Test
+    void createToken_hashesUtf8QueryAsSha512Hex() throws Exception {
+        UpbitJwtSigner signer = new UpbitJwtSigner("access", "secret");
+
+        for (String query : List.of("market=KRW-BTC&side=bid", "states[]=wait&states[]=watch", "memo=비트코인")) {
+            String payloadJson = decode(signer.createToken(query).split("\\.")[1]);
+
+            Matcher matcher = QUERY_HASH.matcher(payloadJson);
+            assertThat(matcher.find()).isTrue();
+            assertThat(matcher.group(1)).isEqualTo(sha512Hex(query));
+        }
+    }
+
+    @Test
+    void createToken_usesFreshRandomUuidNonce() {
+        UpbitJwtSigner signer = new UpbitJwtSigner("access", "secret");
+
+        UUID first = nonce(signer.createToken(""));
+        UUID second = nonce(signer.createToken(""));
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.version()).isEqualTo(4);
+        assertThat(first.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void createToken_escapesAccessKey() {
+        UpbitJwtSigner signer = new UpbitJwtSigner("acc\"ess\\key", "secret");
+
+        String payloadJson = decode(signer.createToken("").split("\\.")[1]);
+
+        assertThat(payloadJson).startsWith("{\"access_key\":\"acc\\\"ess\\\\key\",");
+    }
+
+    @Test
+    void createToken_isSafeAcrossThreads() throws Exception {
+        UpbitJwtSigner signer = new UpbitJwtSigner("access", "secret");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String query = "market=KRW-BTC&identifier=thread-" + i;
+                Callable<Boolean> task = () -> {
+                    for (int n = 0; n < 200; n++) {
+                        String[] parts = signer.createToken(query).split("\\.");
+                        Matcher matcher = QUERY_HASH.matcher(decode(parts[1]));
+                        if (!matcher.find()
+                                || !matcher.group(1).equals(sha512Hex(query))
+                                || !parts[2].equals(hmacSha512("secret", parts[0] + "." + parts[1]))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+                results.add(executor.submit(task));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     @Test
-    void toJson_wrapsSerializationFailure() throws Exception {
-        Method toJson = UpbitJwtSigner.class.getDeclaredMethod("toJson", Map.class);
-        toJson.setAccessible(true);
+    void createToken_reusesBoundedContextPoolAcrossVirtualThreads() throws Exception {
+        UpbitJwtSigner signer = new UpbitJwtSigner("access", "secret");
+        String query = "market=KRW-BTC&identifier=virtual";
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> tokens = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                tokens.add(executor.submit(() -> signer.createToken(query)));
+            }
+            for (Future<String> token : tokens) {
+                String[] parts = token.get(10, TimeUnit.SECONDS).split("\\.");
+                assertThat(parts[2]).isEqualTo(hmacSha512("secret", parts[0] + "." + parts[1]));
+            }
+        }
 
-        Map<String, Object> recursive = new LinkedHashMap<>();
-        recursive.put("self", recursive);
+        assertThat(signer.idleContextCount())
+                .isPositive()
+                .isLessThanOrEqualTo(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
 
-        assertThatThrownBy(() -> toJson.invoke(null, recursive))
-                .hasCauseInstanceOf(IllegalStateException.class)
-                .hasRootCauseInstanceOf(com.fasterxml.jackson.core.JsonProcessingException.class);
+    @Test
+    void createToken_wrapsSigningFailureWhenSecretIsNull() {
+        UpbitJwtSigner signer = new UpbitJwtSigner("access", null);
+
+        assertThatThrownBy(() -> signer.createToken("market=KRW-BTC"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Failed to sign JWT");
     }
 
     @Test
-    void sha512Hex_wrapsMissingAlgorithm() throws Exception {
-        Method sha512Hex = UpbitJwtSigner.class.getDeclaredMethod("sha512Hex", String.class);
-        sha512Hex.setAccessible(true);
+    void createToken_wrapsMissingDigestAlgorithm() {
+        UpbitJwtSigner signer = new UpbitJwtSigner("access", "secret");
 
         Provider[] providers = Security.getProviders();
         for (Provider provider : providers) {
             Security.removeProvider(provider.getName());
         }
         try {
-            assertThatThrownBy(() -> sha512Hex.invoke(null, "abc"))
-                    .hasCauseInstanceOf(IllegalStateException.class)
-                    .hasRootCauseInstanceOf(java.security.NoSuchAlgorithmException.class);
+            assertThatThrownBy(() -> signer.createToken("abc"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasRootCauseInstanceOf(NoSuchAlgorithmException.class);
         } finally {
             for (Provider provider : providers) {
                 Security.addProvider(provider);
             }
         }
     }
+
+    private static String decode(String segment) {
+        return new String(Base64.getUrlDecoder().decode(segment), StandardCharsets.UTF_8);
+    }
+
+    private static UUID nonce(String token) {
+        Matcher matcher = NONCE.matcher(decode(token.split("\\.")[1]));
+        assertThat(matcher.find()).isTrue();
+        return UUID.fromString(matcher.group(1));
+    }
+
+    private static String sha512Hex(String value) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-512").digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String hmacSha512(String secret, String signingInput) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA512");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.UTF_8)));
+    }
 }
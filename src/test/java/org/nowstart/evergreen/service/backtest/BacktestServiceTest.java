@@ -0,0 +1,106 @@
+package org.nowstart.evergreen.service.backtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.nowstart.evergreen.service.strategy.StrategyRegistry;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyEngine;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyOverrides;
+
+class BacktestServiceTest {
+
+    private final V5StrategyOverrides params = new V5StrategyOverrides(
+            2,
+            2,
+            BigDecimal.valueOf(1.0),
+            BigDecimal.valueOf(2.0),
+            3,
+            BigDecimal.valueOf(0.7),
+            BigDecimal.ZERO
+    );
+
+    @Test
+    void backtest_matchesResearchBacktestOnFixture() {
+        BacktestService service = new BacktestService(registry());
+        CandleSeries candles = candles(100, 90, 80, 95, 110, 120, 130, 100, 85, 90, 105, 115);
+
+        BacktestResult result = service.backtest("v5", candles, params, BacktestCosts.DEFAULT);
+
+        // Expected values produced by BacktestServiceV5 in src/test/python/v5.py on the same bars.
+        BacktestSummary summary = result.summary();
+        assertThat(summary.finalEquity()).isCloseTo(1.050522937487225, within(1e-12));
+        assertThat(summary.finalEquityBuyAndHold()).isCloseTo(1.049265, within(1e-12));
+        assertThat(summary.cagr()).isCloseTo(4.137610850627084, within(1e-9));
+        assertThat(summary.mdd()).isCloseTo(-0.23184577692307684, within(1e-12));
+        assertThat(summary.trades()).isEqualTo(3);
+        assertThat(summary.from()).isEqualTo(candles.timestamp(0));
+        assertThat(summary.to()).isEqualTo(candles.timestamp(11));
+
+        List<BacktestBar> bars = result.bars();
+        assertThat(bars).hasSize(12);
+        assertThat(bars.get(0).evaluation()).isNull();
+        assertThat(bars.get(3).evaluation().decision().buySignal()).isTrue();
+        assertThat(bars.get(4).exposure()).isEqualTo(1.0);
+        assertThat(bars.get(7).evaluation().decision().sellSignal()).isTrue();
+        assertThat(bars.get(8).exposure()).isZero();
+        assertThat(bars.get(6).equity()).isCloseTo(1.367594, within(1e-6));
+    }
+
+    @Test
+    void backtest_withoutCostsKeepsFlatEquityWhenNoSignalFires() {
+        BacktestService service = new BacktestService(registry());
+        CandleSeries candles = candles(100, 101, 102, 103);
+
+        BacktestResult result = service.backtest("v5", candles, params, new BacktestCosts(0.0, 0.0));
+
+        assertThat(result.summary().finalEquity()).isEqualTo(1.0);
+        assertThat(result.summary().mdd()).isZero();
+        assertThat(result.summary().trades()).isZero();
+        assertThat(result.summary().finalEquityBuyAndHold()).isCloseTo(102.0 / 100.0, within(1e-12));
+    }
+
+    @Test
+    void backtest_rejectsInvalidInput() {
+        BacktestService service = new BacktestService(registry());
+
+        assertThatThrownBy(() -> service.backtest("v5", candles(100), params, BacktestCosts.DEFAULT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At least 2 candles");
+        assertThatThrownBy(() -> service.backtest("v5", candles(100, 101), params, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("costs are required");
+        assertThatThrownBy(() -> new BacktestCosts(-0.1, 0.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private StrategyRegistry registry() {
+        StrategyRegistry registry = new StrategyRegistry(List.of(new V5StrategyEngine()));
+        registry.init();
+        return registry;
+    }
+
+    private CandleSeries candles(double... closes) {
+        CandleSeries candles = new CandleSeries(closes.length);
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        double open = 100.0;
+        for (int i = 0; i < closes.length; i++) {
+            double close = closes[i];
+            candles.append(
+                    start.plusSeconds(86_400L * i).toEpochMilli(),
+                    open,
+                    Math.max(open, close) + 1.0,
+                    Math.min(open, close) - 1.0,
+                    close,
+                    1000.0
+            );
+            open = close;
+        }
+        return candles;
+    }
+}
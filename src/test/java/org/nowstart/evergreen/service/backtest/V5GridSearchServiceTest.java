@@ -0,0 +1,113 @@
+package org.nowstart.evergreen.service.backtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.nowstart.evergreen.service.strategy.StrategyRegistry;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyEngine;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyOverrides;
+
+class V5GridSearchServiceTest {
+
+    private final V5StrategyEngine engine = new V5StrategyEngine();
+    private final V5GridSearchSpace space = new V5GridSearchSpace(
+            List.of(10, 20, 40),
+            List.of(7, 14),
+            List.of(BigDecimal.valueOf(1.5), BigDecimal.valueOf(3.0)),
+            List.of(BigDecimal.valueOf(2.0), BigDecimal.valueOf(4.0)),
+            List.of(20, 40),
+            List.of(BigDecimal.valueOf(0.6), BigDecimal.valueOf(0.8)),
+            List.of(BigDecimal.ZERO, BigDecimal.valueOf(0.02))
+    );
+
+    @Test
+    void search_ranksCandidatesAndMatchesStandaloneBacktest() {
+        V5GridSearchService service = new V5GridSearchService(engine);
+        CandleSeries candles = candles(400);
+
+        List<V5GridSearchRow> rows = service.search(candles, space, BacktestCosts.DEFAULT, 5, 4);
+
+        assertThat(rows).hasSize(5);
+        for (int i = 1; i < rows.size(); i++) {
+            assertThat(rows.get(i - 1).calmarLike()).isGreaterThanOrEqualTo(rows.get(i).calmarLike());
+        }
+
+        BacktestService backtestService = new BacktestService(registry());
+        for (V5GridSearchRow row : rows) {
+            BacktestSummary standalone = backtestService.backtest("v5", candles, row.params(), BacktestCosts.DEFAULT).summary();
+            assertThat(row.summary()).isEqualTo(standalone);
+        }
+    }
+
+    @Test
+    void search_skipsCombinationsWithHighVolMultiplierBelowLowVol() {
+        V5GridSearchService service = new V5GridSearchService(engine);
+
+        List<V5GridSearchRow> rows = service.search(candles(200), space, BacktestCosts.DEFAULT, Integer.MAX_VALUE, 2);
+
+        assertThat(rows).hasSize(space.combinationCount() / 4 * 3);
+        assertThat(rows).allSatisfy(row ->
+                assertThat(row.params().atrMultHighVol()).isGreaterThanOrEqualTo(row.params().atrMultLowVol()));
+    }
+
+    @Test
+    void combination_enumeratesFirstAxisSlowest() {
+        V5StrategyOverrides first = space.combination(0);
+        V5StrategyOverrides second = space.combination(1);
+        V5StrategyOverrides last = space.combination(space.combinationCount() - 1);
+
+        assertThat(space.combinationCount()).isEqualTo(192);
+        assertThat(first.regimeEmaLen()).isEqualTo(10);
+        assertThat(first.regimeBand()).isEqualByComparingTo("0");
+        assertThat(second.regimeEmaLen()).isEqualTo(10);
+        assertThat(second.regimeBand()).isEqualByComparingTo("0.02");
+        assertThat(last.regimeEmaLen()).isEqualTo(40);
+        assertThat(last.volRegimeThreshold()).isEqualByComparingTo("0.8");
+    }
+
+    @Test
+    void search_rejectsInvalidArguments() {
+        V5GridSearchService service = new V5GridSearchService(engine);
+
+        assertThatThrownBy(() -> service.search(candles(1), space, BacktestCosts.DEFAULT, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At least 2 candles");
+        assertThatThrownBy(() -> service.search(candles(10), space, BacktestCosts.DEFAULT, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("topK");
+        assertThatThrownBy(() -> new V5GridSearchSpace(List.of(), List.of(1), List.of(BigDecimal.ONE), List.of(BigDecimal.ONE),
+                List.of(1), List.of(BigDecimal.ONE), List.of(BigDecimal.ZERO)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("regimeEmaLens must not be empty");
+    }
+
+    private StrategyRegistry registry() {
+        StrategyRegistry registry = new StrategyRegistry(List.of(engine));
+        registry.init();
+        return registry;
+    }
+
+    private CandleSeries candles(int size) {
+        CandleSeries candles = new CandleSeries(size);
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        double close = 100.0;
+        for (int i = 0; i < size; i++) {
+            double open = close;
+            close = close * (1.0 + (0.05 * Math.sin(i * 0.23)) + (0.02 * Math.cos(i * 0.91)));
+            candles.append(
+                    start.plusSeconds(86_400L * i).toEpochMilli(),
+                    open,
+                    Math.max(open, close) * 1.01,
+                    Math.min(open, close) * 0.99,
+                    close,
+                    1000.0
+            );
+        }
+        return candles;
+    }
+}
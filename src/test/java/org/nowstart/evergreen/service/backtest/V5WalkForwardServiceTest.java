@@ -0,0 +1,122 @@
+package org.nowstart.evergreen.service.backtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyEngine;
+
+class V5WalkForwardServiceTest {
+
+    private final V5StrategyEngine engine = new V5StrategyEngine();
+    private final V5GridSearchService gridSearchService = new V5GridSearchService(engine);
+    private final V5WalkForwardService service = new V5WalkForwardService(engine, gridSearchService);
+    private final V5GridSearchSpace space = new V5GridSearchSpace(
+            List.of(10, 40),
+            List.of(7, 14),
+            List.of(BigDecimal.valueOf(1.5), BigDecimal.valueOf(3.0)),
+            List.of(BigDecimal.valueOf(3.0)),
+            List.of(20, 40),
+            List.of(BigDecimal.valueOf(0.6), BigDecimal.valueOf(0.8)),
+            List.of(BigDecimal.ZERO, BigDecimal.valueOf(0.02))
+    );
+
+    @Test
+    void run_matchesSequentialSplitsOnStandaloneWindows() {
+        CandleSeries candles = candles(1200);
+
+        V5WalkForwardResult result = service.run(candles, space, BacktestCosts.DEFAULT, WalkForwardConfig.DEFAULT, 4);
+
+        assertThat(result.splits()).extracting(V5WalkForwardSplit::split).containsExactly(1, 2, 3);
+        int segment = 300;
+        for (V5WalkForwardSplit split : result.splits()) {
+            int trainEnd = segment * split.split();
+            CandleSeries train = candles.window(0, trainEnd);
+            CandleSeries test = candles.window(trainEnd, trainEnd + segment);
+
+            V5GridSearchRow best = gridSearchService.search(train, space, BacktestCosts.DEFAULT, 1, 1).getFirst();
+            BacktestSummary expectedTest = gridSearchService.search(test, singleton(best), BacktestCosts.DEFAULT, 1, 1)
+                    .getFirst()
+                    .summary();
+
+            assertThat(split.params()).isEqualTo(best.params());
+            assertThat(split.train()).isEqualTo(best.summary());
+            assertThat(split.test()).isEqualTo(expectedTest);
+        }
+
+        assertThat(result.trades()).isEqualTo(result.splits().stream().mapToInt(split -> split.test().trades()).sum());
+        assertThat(result.finalEquity()).isEqualTo(result.splits().stream()
+                .mapToDouble(split -> split.test().finalEquity())
+                .reduce(1.0, (left, right) -> left * right));
+        assertThat(result.worstMdd()).isEqualTo(result.splits().stream()
+                .mapToDouble(split -> split.test().mdd())
+                .min()
+                .orElseThrow());
+    }
+
+    @Test
+    void run_skipsSplitsWithShortTrainOrTestWindows() {
+        V5WalkForwardResult result = service.run(candles(800), space, BacktestCosts.DEFAULT, WalkForwardConfig.DEFAULT, 2);
+
+        // segment = 200: split 1 trains on 200 bars (< 300) and is skipped.
+        assertThat(result.splits()).extracting(V5WalkForwardSplit::split).containsExactly(2, 3);
+        assertThat(result.splits().get(1).test().from()).isEqualTo(candles(800).timestamp(600));
+    }
+
+    @Test
+    void run_returnsNaNAggregatesWhenEverySplitIsSkipped() {
+        V5WalkForwardResult result = service.run(candles(200), space, BacktestCosts.DEFAULT);
+
+        assertThat(result.splits()).isEmpty();
+        assertThat(result.meanCagr()).isNaN();
+        assertThat(result.finalEquity()).isNaN();
+        assertThat(result.trades()).isZero();
+    }
+
+    @Test
+    void run_rejectsInvalidArguments() {
+        assertThatThrownBy(() -> service.run(candles(1), space, BacktestCosts.DEFAULT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At least 2 candles");
+        assertThatThrownBy(() -> service.run(candles(10), space, BacktestCosts.DEFAULT, WalkForwardConfig.DEFAULT, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("parallelism");
+        assertThatThrownBy(() -> new WalkForwardConfig(0, 300, 30, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private V5GridSearchSpace singleton(V5GridSearchRow row) {
+        return new V5GridSearchSpace(
+                List.of(row.params().regimeEmaLen()),
+                List.of(row.params().atrPeriod()),
+                List.of(row.params().atrMultLowVol()),
+                List.of(row.params().atrMultHighVol()),
+                List.of(row.params().volRegimeLookback()),
+                List.of(row.params().volRegimeThreshold()),
+                List.of(row.params().regimeBand())
+        );
+    }
+
+    private CandleSeries candles(int size) {
+        CandleSeries candles = new CandleSeries(size);
+        Instant start = Instant.parse("2020-01-01T00:00:00Z");
+        double close = 100.0;
+        for (int i = 0; i < size; i++) {
+            double open = close;
+            close = close * (1.0 + (0.04 * Math.sin(i * 0.07)) + (0.02 * Math.cos(i * 0.61)));
+            candles.append(
+                    start.plusSeconds(86_400L * i).toEpochMilli(),
+                    open,
+                    Math.max(open, close) * 1.01,
+                    Math.min(open, close) * 0.99,
+                    close,
+                    1000.0
+            );
+        }
+        return candles;
+    }
+}
@@ -0,0 +1,116 @@
+package org.nowstart.evergreen.service.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
+import org.nowstart.evergreen.service.strategy.core.OhlcvCandle;
+import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
+import org.nowstart.evergreen.service.strategy.core.StrategySignalDecision;
+import org.nowstart.evergreen.service.strategy.v5.V5StrategyOverrides;
+
+@ExtendWith(MockitoExtension.class)
+class StrategyEvaluationCacheTest {
+
+    private final V5StrategyOverrides params = new V5StrategyOverrides(
+            5,
+            3,
+            BigDecimal.valueOf(2.0),
+            BigDecimal.valueOf(3.0),
+            4,
+            BigDecimal.valueOf(0.6),
+            BigDecimal.valueOf(0.01)
+    );
+    private final StrategyEvaluation evaluation = new StrategyEvaluation(
+            new StrategySignalDecision(false, false, "NONE"),
+            List.of()
+    );
+
+    @Mock
+    private StrategyRegistry strategyRegistry;
+
+    @Test
+    void evaluate_returnsCachedEvaluationWhileInputsAreUnchanged() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StrategyEvaluationCache cache = new StrategyEvaluationCache(strategyRegistry, meterRegistry);
+        CandleSeries candles = candles(10);
+        when(strategyRegistry.evaluate(eq("v5"), any(), eq(8), any(), eq(params)))
+                .thenReturn(evaluation);
+
+        StrategyEvaluationCache.Lookup first = cache.evaluate("KRW-BTC", "v5", params, candles, 8, PositionSnapshot.EMPTY);
+        StrategyEvaluationCache.Lookup second = cache.evaluate("KRW-BTC", "v5", params, candles, 8, PositionSnapshot.EMPTY);
+
+        assertThat(first.cached()).isFalse();
+        assertThat(second.cached()).isTrue();
+        assertThat(second.evaluation()).isSameAs(evaluation);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("evergreen.strategy.evaluation.cache").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        verify(strategyRegistry, times(1)).evaluate(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void evaluate_recomputesOnNewCandlePositionChangeOrParamsChange() {
+        StrategyEvaluationCache cache = new StrategyEvaluationCache(strategyRegistry, new SimpleMeterRegistry());
+        CandleSeries candles = candles(11);
+        PositionSnapshot held = new PositionSnapshot(0.5, 100.0, Instant.parse("2026-01-05T00:00:00Z"));
+        V5StrategyOverrides changed = new V5StrategyOverrides(
+                6,
+                3,
+                BigDecimal.valueOf(2.0),
+                BigDecimal.valueOf(3.0),
+                4,
+                BigDecimal.valueOf(0.6),
+                BigDecimal.valueOf(0.01)
+        );
+        when(strategyRegistry.evaluate(any(), any(), anyInt(), any(), any())).thenReturn(evaluation);
+
+        cache.evaluate("KRW-BTC", "v5", params, candles, 8, PositionSnapshot.EMPTY);
+        cache.evaluate("KRW-BTC", "v5", params, candles, 9, PositionSnapshot.EMPTY);
+        cache.evaluate("KRW-BTC", "v5", params, candles, 9, held);
+        cache.evaluate("KRW-BTC", "v5", changed, candles, 9, held);
+        cache.evaluate("KRW-ETH", "v5", changed, candles, 9, held);
+
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.missCount()).isEqualTo(5);
+    }
+
+    @Test
+    void invalidateAll_clearsEntriesAfterConfigRefresh() {
+        StrategyEvaluationCache cache = new StrategyEvaluationCache(strategyRegistry, new SimpleMeterRegistry());
+        CandleSeries candles = candles(10);
+        when(strategyRegistry.evaluate(any(), any(), anyInt(), any(), any())).thenReturn(evaluation);
+
+        cache.evaluate("KRW-BTC", "v5", params, candles, 8, PositionSnapshot.EMPTY);
+        cache.invalidateAll();
+        StrategyEvaluationCache.Lookup lookup = cache.evaluate("KRW-BTC", "v5", params, candles, 8, PositionSnapshot.EMPTY);
+
+        assertThat(lookup.cached()).isFalse();
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    private CandleSeries candles(int size) {
+        CandleSeries candles = new CandleSeries(size);
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < size; i++) {
+            double close = 100.0 + i;
+            candles.append(new OhlcvCandle(start.plusSeconds(86_400L * i), close, close + 1.0, close - 1.0, close, 1000.0));
+        }
+        return candles;
+    }
+}
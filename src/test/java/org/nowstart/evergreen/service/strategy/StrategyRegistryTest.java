@@ -7,8 +7,10 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
 import org.nowstart.evergreen.service.strategy.core.OhlcvCandle;
 import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+import org.nowstart.evergreen.service.strategy.core.PositionTimeline;
 import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
 import org.nowstart.evergreen.service.strategy.core.StrategyParams;
 import org.nowstart.evergreen.service.strategy.v5.V5StrategyEngine;
@@ -62,17 +64,53 @@ class StrategyRegistryTest {
                 BigDecimal.valueOf(0.6),
                 BigDecimal.ZERO
         );
-        List<OhlcvCandle> candles = List.of(
+        CandleSeries candles = CandleSeries.of(List.of(
                 new OhlcvCandle(Instant.parse("2026-01-01T00:00:00Z"), 100, 101, 99, 100, 1000),
                 new OhlcvCandle(Instant.parse("2026-01-02T00:00:00Z"), 90, 91, 89, 90, 1000),
                 new OhlcvCandle(Instant.parse("2026-01-03T00:00:00Z"), 110, 111, 109, 110, 1000)
-        );
+        ));
 
         StrategyEvaluation evaluation = registry.evaluate("v5", candles, 2, PositionSnapshot.EMPTY, params);
 
         org.assertj.core.api.Assertions.assertThat(evaluation.decision().buySignal()).isTrue();
     }
 
+    @Test
+    void evaluateRange_dispatchesToV5Engine() {
+        StrategyRegistry registry = new StrategyRegistry(List.of(new V5StrategyEngine()));
+        registry.init();
+
+        V5StrategyOverrides params = new V5StrategyOverrides(
+                2,
+                1,
+                BigDecimal.valueOf(2.0),
+                BigDecimal.valueOf(3.0),
+                2,
+                BigDecimal.valueOf(0.6),
+                BigDecimal.ZERO
+        );
+        CandleSeries candles = CandleSeries.of(List.of(
+                new OhlcvCandle(Instant.parse("2026-01-01T00:00:00Z"), 100, 101, 99, 100, 1000),
+                new OhlcvCandle(Instant.parse("2026-01-02T00:00:00Z"), 90, 91, 89, 90, 1000),
+                new OhlcvCandle(Instant.parse("2026-01-03T00:00:00Z"), 110, 111, 109, 110, 1000)
+        ));
+
+        List<StrategyEvaluation> evaluations = registry.evaluateRange(
+                "v5",
+                candles,
+                1,
+                3,
+                PositionTimeline.constant(PositionSnapshot.EMPTY),
+                params
+        );
+
+        assertThat(evaluations).hasSize(2);
+        assertThat(evaluations.get(1).decision().buySignal()).isTrue();
+        assertThatThrownBy(() -> registry.evaluateRange("v5", candles, 1, 3, PositionTimeline.constant(null), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid params type");
+    }
+
     @Test
     void init_throwsWhenDuplicateEngineVersionRegistered() {
         StrategyRegistry registry = new StrategyRegistry(List.of(new V5StrategyEngine(), new V5StrategyEngine()));
@@ -115,7 +153,7 @@ class StrategyRegistryTest {
                 BigDecimal.ZERO
         );
 
-        assertThatThrownBy(() -> registry.evaluate(" ", List.of(), 0, null, params))
+        assertThatThrownBy(() -> registry.evaluate(" ", new CandleSeries(), 0, null, params))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("strategyVersion is required");
     }
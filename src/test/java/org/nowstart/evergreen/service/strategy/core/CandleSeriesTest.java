@@ -0,0 +1,68 @@
+package org.nowstart.evergreen.service.strategy.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CandleSeriesTest {
+
+    @Test
+    void append_growsColumnsBeyondInitialCapacity() {
+        CandleSeries series = new CandleSeries(1);
+
+        for (int i = 0; i < 40; i++) {
+            series.append(86_400_000L * i, i, i + 2.0, i - 1.0, i + 1.0, 10.0 * i);
+        }
+
+        assertThat(series.size()).isEqualTo(40);
+        assertThat(series.epochMillis(39)).isEqualTo(86_400_000L * 39);
+        assertThat(series.open(39)).isEqualTo(39.0);
+        assertThat(series.high(39)).isEqualTo(41.0);
+        assertThat(series.low(39)).isEqualTo(38.0);
+        assertThat(series.close(39)).isEqualTo(40.0);
+        assertThat(series.volume(39)).isEqualTo(390.0);
+    }
+
+    @Test
+    void of_roundTripsCandles() {
+        OhlcvCandle candle = new OhlcvCandle(Instant.parse("2026-01-02T00:00:00Z"), 1.0, 2.0, 0.5, 1.5, 100.0);
+
+        CandleSeries series = CandleSeries.of(List.of(candle));
+
+        assertThat(series.candle(0)).isEqualTo(candle);
+        assertThat(series.timestamp(0)).isEqualTo(candle.timestamp());
+    }
+
+    @Test
+    void window_sharesColumnsAndSurvivesOwnerGrowth() {
+        CandleSeries series = new CandleSeries(2);
+        series.append(0L, 1.0, 1.0, 1.0, 1.0, 1.0);
+        series.append(1L, 2.0, 2.0, 2.0, 2.0, 2.0);
+        series.append(2L, 3.0, 3.0, 3.0, 3.0, 3.0);
+
+        CandleSeries window = series.window(1, 3);
+        series.append(3L, 4.0, 4.0, 4.0, 4.0, 4.0);
+
+        assertThat(window.size()).isEqualTo(2);
+        assertThat(window.close(0)).isEqualTo(2.0);
+        assertThat(window.close(1)).isEqualTo(3.0);
+        assertThat(window.window(1, 2).epochMillis(0)).isEqualTo(2L);
+        assertThatThrownBy(() -> window.close(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void window_isReadOnlyAndValidatesBounds() {
+        CandleSeries series = new CandleSeries();
+        series.append(0L, 1.0, 1.0, 1.0, 1.0, 1.0);
+
+        assertThatThrownBy(() -> series.window(0, 1).append(1L, 1.0, 1.0, 1.0, 1.0, 1.0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("read-only");
+        assertThatThrownBy(() -> series.window(0, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> new CandleSeries(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> series.append(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
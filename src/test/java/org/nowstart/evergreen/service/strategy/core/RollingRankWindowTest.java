@@ -0,0 +1,89 @@
+package org.nowstart.evergreen.service.strategy.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RollingRankWindowTest {
+
+    @Test
+    void percentileOf_matchesNaiveWindowScan() {
+        Random random = new Random(42L);
+        for (int lookback : new int[]{1, 2, 7, 40}) {
+            double[] values = new double[500];
+            for (int i = 0; i < values.length; i++) {
+                int kind = random.nextInt(8);
+                values[i] = switch (kind) {
+                    case 0 -> Double.NaN;
+                    case 1 -> -0.0;
+                    case 2 -> Math.floor(random.nextDouble() * 4.0);
+                    default -> random.nextGaussian();
+                };
+            }
+
+            RollingRankWindow window = new RollingRankWindow(lookback);
+            for (int i = 0; i < values.length; i++) {
+                window.push(values[i]);
+                assertThat(window.percentileOf(values[i])).isEqualTo(naivePercentile(values, i, lookback));
+            }
+        }
+    }
+
+    @Test
+    void push_evictsOldestValueAndKeepsDuplicates() {
+        RollingRankWindow window = new RollingRankWindow(3);
+
+        window.push(1.0);
+        window.push(1.0);
+        window.push(2.0);
+        assertThat(window.finiteCount()).isEqualTo(3);
+        assertThat(window.countLessOrEqual(1.0)).isEqualTo(2);
+
+        window.push(Double.NaN);
+        assertThat(window.finiteCount()).isEqualTo(2);
+        assertThat(window.countLessOrEqual(1.0)).isEqualTo(1);
+        assertThat(window.percentileOf(Double.NaN)).isNaN();
+
+        window.push(0.5);
+        assertThat(window.finiteCount()).isEqualTo(2);
+        assertThat(window.countLessOrEqual(1.0)).isEqualTo(1);
+        assertThat(window.percentileOf(2.0)).isEqualTo(1.0);
+    }
+
+    @Test
+    void zeroLookback_ranksNothing() {
+        RollingRankWindow window = new RollingRankWindow(0);
+
+        window.push(1.0);
+
+        assertThat(window.finiteCount()).isZero();
+        assertThat(window.percentileOf(1.0)).isNaN();
+    }
+
+    @Test
+    void constructor_rejectsNegativeLookback() {
+        assertThatThrownBy(() -> new RollingRankWindow(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("lookback must be >= 0");
+    }
+
+    private double naivePercentile(double[] values, int index, int lookback) {
+        if (!Double.isFinite(values[index])) {
+            return Double.NaN;
+        }
+        int count = 0;
+        int belowOrEqual = 0;
+        for (int j = Math.max(0, index - lookback + 1); j <= index; j++) {
+            if (!Double.isFinite(values[j])) {
+                continue;
+            }
+            count++;
+            if (values[j] <= values[index]) {
+                belowOrEqual++;
+            }
+        }
+        return count == 0 ? Double.NaN : belowOrEqual / (double) count;
+    }
+}
@@ -8,8 +8,10 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.nowstart.evergreen.service.strategy.core.CandleSeries;
 import org.nowstart.evergreen.service.strategy.core.OhlcvCandle;
 import org.nowstart.evergreen.service.strategy.core.PositionSnapshot;
+import org.nowstart.evergreen.service.strategy.core.PositionTimeline;
 import org.nowstart.evergreen.service.strategy.core.StrategyEvaluation;
 import org.nowstart.evergreen.service.strategy.core.StrategyInput;
 
@@ -28,11 +30,11 @@ class V5StrategyEngineTest {
 
     @Test
     void evaluate_returnsBuySignalOnBearToBullWithoutPosition() {
-        List<OhlcvCandle> candles = List.of(
+        CandleSeries candles = CandleSeries.of(List.of(
                 candle("2026-01-01T00:00:00Z", 100, 101, 99, 100),
                 candle("2026-01-02T00:00:00Z", 90, 91, 89, 90),
                 candle("2026-01-03T00:00:00Z", 110, 111, 109, 110)
-        );
+        ));
 
         StrategyEvaluation evaluation = engine.evaluate(new StrategyInput<>(candles, 2, PositionSnapshot.EMPTY, params));
 
@@ -46,11 +48,11 @@ class V5StrategyEngineTest {
 
     @Test
     void evaluate_returnsSellSignalOnBullToBearWhenPositionExists() {
-        List<OhlcvCandle> candles = List.of(
+        CandleSeries candles = CandleSeries.of(List.of(
                 candle("2026-01-01T00:00:00Z", 100, 101, 99, 100),
                 candle("2026-01-02T00:00:00Z", 120, 121, 119, 120),
                 candle("2026-01-03T00:00:00Z", 90, 91, 89, 90)
-        );
+        ));
 
         PositionSnapshot position = new PositionSnapshot(1.0, 100.0, Instant.parse("2026-01-01T00:00:00Z"));
         StrategyEvaluation evaluation = engine.evaluate(new StrategyInput<>(candles, 2, position, params));
@@ -71,20 +73,20 @@ class V5StrategyEngineTest {
                 BigDecimal.valueOf(0.99),
                 BigDecimal.valueOf(0.15)
         );
-        List<OhlcvCandle> candles = List.of(
+        CandleSeries candles = CandleSeries.of(List.of(
                 candle("2026-01-01T00:00:00Z", 100, 101, 99, 100),
                 candle("2026-01-02T00:00:00Z", 101, 102, 100, 101),
                 candle("2026-01-03T00:00:00Z", 102, 103, 101, 102),
                 candle("2026-01-04T00:00:00Z", 120, 121, 119, 120),
                 candle("2026-01-05T00:00:00Z", 110, 111, 109, 110)
-        );
+        ));
 
         PositionSnapshot position = new PositionSnapshot(1.0, 100.0, Instant.parse("2026-01-01T00:00:00Z"));
         StrategyEvaluation evaluation = engine.evaluate(new StrategyInput<>(candles, 4, position, trailStopParams));
 
         double trailStopPrice = findNumberDiagnostic(evaluation, "atr.trail_stop");
         assertThat(trailStopPrice).isFinite();
-        assertThat(trailStopPrice).isGreaterThanOrEqualTo(candles.get(4).close());
+        assertThat(trailStopPrice).isGreaterThanOrEqualTo(candles.close(4));
         assertThat(evaluation.decision().sellSignal()).isTrue();
         assertThat(evaluation.decision().signalReason()).isEqualTo("SELL_TRAIL_STOP");
     }
@@ -100,10 +102,10 @@ class V5StrategyEngineTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("input, candles, and params are required");
 
-        List<OhlcvCandle> candles = List.of(
+        CandleSeries candles = CandleSeries.of(List.of(
                 candle("2026-01-01T00:00:00Z", 100, 101, 99, 100),
                 candle("2026-01-02T00:00:00Z", 101, 102, 100, 101)
-        );
+        ));
         assertThatThrownBy(() -> engine.evaluate(new StrategyInput<>(candles, 0, PositionSnapshot.EMPTY, params)))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("signalIndex must be in [1, candles.size()-1]");
@@ -111,11 +113,11 @@ class V5StrategyEngineTest {
 
     @Test
     void evaluate_acceptsNullPositionByTreatingItAsEmpty() {
-        List<OhlcvCandle> candles = List.of(
+        CandleSeries candles = CandleSeries.of(List.of(
                 candle("2026-01-01T00:00:00Z", 100, 101, 99, 100),
                 candle("2026-01-02T00:00:00Z", 90, 91, 89, 90),
                 candle("2026-01-03T00:00:00Z", 110, 111, 109, 110)
-        );
+        ));
 
         StrategyEvaluation evaluation = engine.evaluate(new StrategyInput<>(candles, 2, null, params));
 
@@ -126,13 +128,13 @@ class V5StrategyEngineTest {
     void privateIndicators_returnNaNWhenWindowSizesAreInvalid() throws Exception {
         double[] ema = (double[]) invokePrivate(
                 "exponentialMovingAverage",
-                new Class<?>[] {double[].class, int.class},
-                new Object[] {new double[] {1.0, 2.0}, 0}
+                new Class<?>[] {CandleSeries.class, int.class},
+                new Object[] {series(1.0, 2.0), 0}
         );
         double[] atr = (double[]) invokePrivate(
                 "wilderAtr",
-                new Class<?>[] {double[].class, double[].class, double[].class, int.class},
-                new Object[] {new double[] {2.0}, new double[] {1.0}, new double[] {1.5}, 0}
+                new Class<?>[] {CandleSeries.class, int.class},
+                new Object[] {CandleSeries.of(List.of(candle("2026-01-01T00:00:00Z", 1.5, 2.0, 1.0, 1.5))), 0}
         );
 
         for (double value : ema) {
@@ -147,13 +149,13 @@ class V5StrategyEngineTest {
     void privateResolveRegimes_coversBearAndUnknownFallbackBranches() throws Exception {
         Object resultA = invokePrivate(
                 "resolveRegimes",
-                new Class<?>[] {double[].class, double[].class, double.class},
-                new Object[] {new double[] {100.0, 99.0, 100.0}, new double[] {100.0, 100.0, 100.0}, 0.5}
+                new Class<?>[] {CandleSeries.class, double[].class, double.class},
+                new Object[] {series(100.0, 99.0, 100.0), new double[] {100.0, 100.0, 100.0}, 0.5}
         );
         Object resultB = invokePrivate(
                 "resolveRegimes",
-                new Class<?>[] {double[].class, double[].class, double.class},
-                new Object[] {new double[] {101.0}, new double[] {100.0}, 0.5}
+                new Class<?>[] {CandleSeries.class, double[].class, double.class},
+                new Object[] {series(101.0), new double[] {100.0}, 0.5}
         );
 
         String asTextA = java.util.Arrays.toString((Object[]) resultA);
@@ -166,13 +168,13 @@ class V5StrategyEngineTest {
     void privateVolatilityAndReasonHelpers_coverRemainingBranches() throws Exception {
         Object volatilityNoWindow = invokePrivate(
                 "resolveVolatilityStates",
-                new Class<?>[] {double[].class, double[].class, int.class, double.class},
-                new Object[] {new double[] {1.0}, new double[] {100.0}, 0, 0.5}
+                new Class<?>[] {double[].class, CandleSeries.class, int.class, double.class},
+                new Object[] {new double[] {1.0}, series(100.0), 0, 0.5}
         );
         Object volatilityMixed = invokePrivate(
                 "resolveVolatilityStates",
-                new Class<?>[] {double[].class, double[].class, int.class, double.class},
-                new Object[] {new double[] {2.0, 1.0}, new double[] {1.0, 1.0}, 2, 0.9}
+                new Class<?>[] {double[].class, CandleSeries.class, int.class, double.class},
+                new Object[] {new double[] {2.0, 1.0}, series(1.0, 1.0), 2, 0.9}
         );
         assertThat(volatilityNoWindow).isNotNull();
         assertThat(volatilityMixed).isNotNull();
@@ -206,29 +208,122 @@ class V5StrategyEngineTest {
 
     @Test
     void privateTrailStopAndHighestClose_coverNaNAndNotFoundBranches() throws Exception {
-        List<OhlcvCandle> nanCloseCandles = List.of(
+        CandleSeries nanCloseCandles = CandleSeries.of(List.of(
                 new OhlcvCandle(Instant.parse("2026-01-01T00:00:00Z"), 1.0, 1.0, 1.0, Double.NaN, 1.0)
+        ));
+        double nanHighest = (double) invokePrivate(
+                "resolveHighestCloseSinceEntry",
+                new Class<?>[] {CandleSeries.class, int.class, PositionSnapshot.class},
+                new Object[] {nanCloseCandles, 0, new PositionSnapshot(1.0, 1.0, Instant.parse("2026-01-01T00:00:00Z"))}
         );
         Object trail = invokePrivate(
                 "evaluateTrailStop",
-                new Class<?>[] {List.class, int.class, double[].class, double.class, PositionSnapshot.class, boolean.class},
-                new Object[] {nanCloseCandles, 0, new double[] {1.0}, 1.0, new PositionSnapshot(1.0, 1.0, Instant.parse("2026-01-01T00:00:00Z")),
-                        true}
+                new Class<?>[] {double.class, double.class, double.class, double.class, boolean.class},
+                new Object[] {Double.NaN, nanHighest, 1.0, 1.0, true}
         );
         assertThat(trail.toString()).contains("stopPrice=NaN");
 
-        List<OhlcvCandle> candles = List.of(
+        CandleSeries candles = CandleSeries.of(List.of(
                 candle("2026-01-01T00:00:00Z", 100, 101, 99, 100),
                 candle("2026-01-02T00:00:00Z", 101, 102, 100, 101)
-        );
+        ));
         double highest = (double) invokePrivate(
                 "resolveHighestCloseSinceEntry",
-                new Class<?>[] {List.class, int.class, PositionSnapshot.class},
+                new Class<?>[] {CandleSeries.class, int.class, PositionSnapshot.class},
                 new Object[] {candles, 1, new PositionSnapshot(1.0, 100.0, Instant.parse("2026-01-10T00:00:00Z"))}
         );
         assertThat(highest).isEqualTo(101.0);
     }
 
+    @Test
+    void evaluateRange_matchesPerIndexEvaluationWithChangingPositions() {
+        V5StrategyOverrides rangeParams = new V5StrategyOverrides(
+                5,
+                3,
+                BigDecimal.valueOf(1.5),
+                BigDecimal.valueOf(2.5),
+                4,
+                BigDecimal.valueOf(0.6),
+                BigDecimal.valueOf(0.01)
+        );
+        CandleSeries candles = syntheticCandles(120);
+        Instant midDayEntry = candles.timestamp(30).plusSeconds(43_200L);
+        Instant futureEntry = candles.timestamp(119).plusSeconds(86_400L);
+        PositionTimeline timeline = index -> {
+            if (index < 20) {
+                return PositionSnapshot.EMPTY;
+            }
+            if (index < 50) {
+                return new PositionSnapshot(1.0, 100.0, midDayEntry);
+            }
+            if (index < 70) {
+                return new PositionSnapshot(1.0, 100.0, null);
+            }
+            if (index < 90) {
+                return new PositionSnapshot(1.0, 100.0, futureEntry);
+            }
+            return new PositionSnapshot(1.0, 100.0, candles.timestamp(index - (index % 7)));
+        };
+        List<Integer> observed = new java.util.ArrayList<>();
+        PositionTimeline recording = new PositionTimeline() {
+            @Override
+            public PositionSnapshot positionAt(int index) {
+                return timeline.positionAt(index);
+            }
+
+            @Override
+            public void onEvaluation(int index, StrategyEvaluation evaluation) {
+                observed.add(index);
+            }
+        };
+
+        List<StrategyEvaluation> range = engine.evaluateRange(candles, 1, candles.size(), recording, rangeParams);
+
+        assertThat(range).hasSize(candles.size() - 1);
+        assertThat(observed).hasSize(candles.size() - 1).isSorted();
+        for (int i = 1; i < candles.size(); i++) {
+            StrategyEvaluation single = engine.evaluate(new StrategyInput<>(candles, i, timeline.positionAt(i), rangeParams));
+            assertThat(range.get(i - 1)).isEqualTo(single);
+        }
+    }
+
+    @Test
+    void evaluateRange_rejectsInvalidBounds() {
+        CandleSeries candles = syntheticCandles(10);
+        PositionTimeline flat = PositionTimeline.constant(PositionSnapshot.EMPTY);
+
+        assertThat(engine.evaluateRange(candles, 5, 5, flat, params)).isEmpty();
+        assertThatThrownBy(() -> engine.evaluateRange(candles, 0, 5, flat, params))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("fromIndex");
+        assertThatThrownBy(() -> engine.evaluateRange(candles, 1, 11, flat, params))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.evaluateRange(candles, 1, 5, null, params))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CandleSeries syntheticCandles(int size) {
+        CandleSeries candles = new CandleSeries(size);
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        double close = 100.0;
+        for (int i = 0; i < size; i++) {
+            close = close * (1.0 + (0.04 * Math.sin(i * 0.37)) + (0.01 * Math.cos(i * 1.3)));
+            double high = close * (1.0 + (0.01 + (0.02 * Math.abs(Math.sin(i * 0.71)))));
+            double low = close * (1.0 - (0.01 + (0.02 * Math.abs(Math.cos(i * 0.53)))));
+            candles.append(new OhlcvCandle(start.plusSeconds(86_400L * i), close, high, low, close, 1000.0));
+        }
+        return candles;
+    }
+
+    private CandleSeries series(double... closes) {
+        CandleSeries series = new CandleSeries(closes.length);
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < closes.length; i++) {
+            series.append(new OhlcvCandle(start.plusSeconds(86_400L * i), closes[i], closes[i], closes[i], closes[i], 1.0));
+        }
+        return series;
+    }
+
     private OhlcvCandle candle(String ts, double open, double high, double low, double close) {
         return new OhlcvCandle(Instant.parse(ts), open, high, low, close, 1000.0);
     }